@@ -0,0 +1,86 @@
+package dev.kurama.api.core.hateoas.model;
+
+import static dev.kurama.support.BenchmarkSupport.authenticate;
+import static dev.kurama.support.BenchmarkSupport.bindRequest;
+import static dev.kurama.support.BenchmarkSupport.getBenchmarkUser;
+import static dev.kurama.support.BenchmarkSupport.reset;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.hateoas.processor.UserModelProcessor;
+import dev.kurama.api.core.hateoas.processor.UserPreferencesModelProcessor;
+import dev.kurama.api.core.mapper.AuthorityMapperImpl;
+import dev.kurama.api.core.mapper.RoleMapperImpl;
+import dev.kurama.api.core.mapper.UserMapper;
+import dev.kurama.api.core.mapper.UserMapperImpl;
+import dev.kurama.api.core.mapper.UserPreferencesMapperImpl;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserModelSerializationBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private ObjectMapper objectMapper;
+  private PagedModel<UserModel> pagedModel;
+
+  @Setup
+  public void setUp() {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(AuthorityMapperImpl.class,
+      RoleMapperImpl.class, UserPreferencesMapperImpl.class, UserMapperImpl.class,
+      UserPreferencesModelProcessor.class, UserModelProcessor.class);
+    UserModelProcessor userModelProcessor = context.getBean(UserModelProcessor.class);
+    UserMapper userMapper = context.getBean(UserMapper.class);
+    authenticate(getBenchmarkUser().getId(), DefaultAuthority.AUTHORITIES);
+    bindRequest();
+
+    List<UserModel> users = IntStream.range(0, PAGE_SIZE)
+      .mapToObj(i -> userModelProcessor.process(userMapper.userToUserModel(getBenchmarkUser())))
+      .collect(Collectors.toList());
+    pagedModel = PagedModel.of(users, new PageMetadata(PAGE_SIZE, 0, PAGE_SIZE * 50L),
+      Link.of("http://localhost:8888/api/user?page=0&size=20"));
+
+    objectMapper = new ObjectMapper().registerModule(new Jackson2HalModule());
+    objectMapper.setHandlerInstantiator(
+      new Jackson2HalModule.HalHandlerInstantiator(new DefaultLinkRelationProvider(), CurieProvider.NONE,
+        MessageResolver.DEFAULTS_ONLY));
+  }
+
+  @TearDown
+  public void tearDown() {
+    reset();
+  }
+
+  @Benchmark
+  public String serializePagedModel() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(pagedModel);
+  }
+}
@@ -0,0 +1,63 @@
+package dev.kurama.api.core.hateoas.processor;
+
+import static dev.kurama.support.BenchmarkSupport.authenticate;
+import static dev.kurama.support.BenchmarkSupport.bindRequest;
+import static dev.kurama.support.BenchmarkSupport.getBenchmarkUser;
+import static dev.kurama.support.BenchmarkSupport.reset;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.hateoas.model.UserModel;
+import dev.kurama.api.core.mapper.AuthorityMapperImpl;
+import dev.kurama.api.core.mapper.RoleMapperImpl;
+import dev.kurama.api.core.mapper.UserMapper;
+import dev.kurama.api.core.mapper.UserMapperImpl;
+import dev.kurama.api.core.mapper.UserPreferencesMapperImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserModelProcessorBenchmark {
+
+  private UserModelProcessor userModelProcessor;
+  private UserMapper userMapper;
+  private User user;
+
+  @Setup
+  public void setUp() {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(AuthorityMapperImpl.class,
+      RoleMapperImpl.class, UserPreferencesMapperImpl.class, UserMapperImpl.class,
+      UserPreferencesModelProcessor.class, UserModelProcessor.class);
+    userModelProcessor = context.getBean(UserModelProcessor.class);
+    userMapper = context.getBean(UserMapper.class);
+    user = getBenchmarkUser();
+    authenticate(user.getId(), DefaultAuthority.AUTHORITIES);
+    bindRequest();
+  }
+
+  @TearDown
+  public void tearDown() {
+    reset();
+  }
+
+  @Benchmark
+  public UserModel process() {
+    return userModelProcessor.process(userMapper.userToUserModel(user));
+  }
+}
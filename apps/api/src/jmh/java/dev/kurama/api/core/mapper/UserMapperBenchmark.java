@@ -0,0 +1,43 @@
+package dev.kurama.api.core.mapper;
+
+import static dev.kurama.support.BenchmarkSupport.getBenchmarkUser;
+
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.hateoas.model.UserModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+  private UserMapper userMapper;
+  private User user;
+
+  @Setup
+  public void setUp() {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(AuthorityMapperImpl.class,
+      RoleMapperImpl.class, UserPreferencesMapperImpl.class, UserMapperImpl.class);
+    userMapper = context.getBean(UserMapper.class);
+    user = getBenchmarkUser();
+  }
+
+  @Benchmark
+  public UserModel userToUserModel() {
+    return userMapper.userToUserModel(user);
+  }
+}
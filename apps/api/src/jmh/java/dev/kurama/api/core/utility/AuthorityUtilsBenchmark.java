@@ -0,0 +1,55 @@
+package dev.kurama.api.core.utility;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static dev.kurama.support.BenchmarkSupport.authenticate;
+import static dev.kurama.support.BenchmarkSupport.reset;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.authority.GlobalSettingsAuthority;
+import dev.kurama.api.core.authority.TokenAuthority;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorityUtilsBenchmark {
+
+  @Setup
+  public void setUp() {
+    authenticate(randomUUID(), DefaultAuthority.AUTHORITIES);
+  }
+
+  @TearDown
+  public void tearDown() {
+    reset();
+  }
+
+  @Benchmark
+  public boolean hasAuthorityFirst() {
+    return AuthorityUtils.hasAuthority(TokenAuthority.TOKEN_REFRESH);
+  }
+
+  @Benchmark
+  public boolean hasAuthorityLast() {
+    return AuthorityUtils.hasAuthority(GlobalSettingsAuthority.GLOBAL_SETTINGS_UPDATE);
+  }
+
+  @Benchmark
+  public boolean hasAuthorityMissing() {
+    return AuthorityUtils.hasAuthority("missing:authority");
+  }
+}
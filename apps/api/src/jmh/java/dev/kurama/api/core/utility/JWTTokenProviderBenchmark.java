@@ -0,0 +1,67 @@
+package dev.kurama.api.core.utility;
+
+import static dev.kurama.support.BenchmarkSupport.getBenchmarkUser;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.filter.VerifiedToken;
+import dev.kurama.api.core.utility.signing.InMemorySigningKeyStore;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTTokenProviderBenchmark {
+
+  @Param({"HS512", "RS256", "ES256"})
+  private JWTSigningAlgorithm algorithm;
+
+  @Param({"false", "true"})
+  private boolean compactAuthorities;
+
+  private JWTTokenProvider jwtTokenProvider;
+  private UserPrincipal userPrincipal;
+  private String token;
+  private DecodedJWT decodedJWT;
+
+  @Setup
+  public void setUp() {
+    JWTKeyRing keyRing = new JWTKeyRing(algorithm, randomAlphanumeric(64), Duration.ofHours(2), 86_400_000, 60_000,
+      new InMemorySigningKeyStore());
+    jwtTokenProvider = new JWTTokenProvider(keyRing, compactAuthorities);
+    userPrincipal = new UserPrincipal(getBenchmarkUser());
+    token = jwtTokenProvider.generateRefreshToken(userPrincipal);
+    decodedJWT = jwtTokenProvider.getDecodedJWT(token);
+  }
+
+  @Benchmark
+  public String generate() {
+    return jwtTokenProvider.generateToken(userPrincipal);
+  }
+
+  @Benchmark
+  public DecodedJWT verify() {
+    return jwtTokenProvider.getDecodedJWT(token);
+  }
+
+  @Benchmark
+  public VerifiedToken extract() {
+    return jwtTokenProvider.getVerifiedToken(decodedJWT);
+  }
+}
@@ -0,0 +1,75 @@
+package dev.kurama.support;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.domain.Authority;
+import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.UserPreferences;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.utility.GrantedAuthorityPool;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkSupport {
+
+  public static User getBenchmarkUser() {
+    Set<Authority> authorities = DefaultAuthority.AUTHORITIES.stream()
+      .map(name -> Authority.builder().setRandomUUID().name(name).build())
+      .collect(Collectors.toSet());
+    Role role = Role.builder()
+      .setRandomUUID()
+      .name(DefaultAuthority.SUPER_ADMIN_ROLE)
+      .authorities(authorities)
+      .coreRole(true)
+      .canLogin(true)
+      .build();
+    UserPreferences userPreferences = UserPreferences.builder().setRandomUUID().build();
+    User user = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .email(randomAlphanumeric(8) + "@localhost")
+      .firstname(randomAlphanumeric(8))
+      .lastname(randomAlphanumeric(8))
+      .joinDate(new Date())
+      .lastLoginDate(new Date())
+      .lastLoginDateDisplay(new Date())
+      .role(role)
+      .authorities(authorities)
+      .userPreferences(userPreferences)
+      .active(true)
+      .build();
+    userPreferences.setUser(user);
+    return user;
+  }
+
+  public static void authenticate(String userId, Collection<String> authorities) {
+    ContextUser contextUser = ContextUser.builder().id(userId).username(randomAlphanumeric(8)).build();
+    SecurityContextHolder.getContext()
+      .setAuthentication(new UsernamePasswordAuthenticationToken(contextUser, null,
+        authorities.stream().map(GrantedAuthorityPool::getGrantedAuthority).collect(Collectors.toList())));
+  }
+
+  public static void bindRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setServerName("localhost");
+    request.setServerPort(8888);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  public static void reset() {
+    SecurityContextHolder.clearContext();
+    RequestContextHolder.resetRequestAttributes();
+  }
+}
@@ -0,0 +1,106 @@
+package dev.kurama.api.core.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Flogger
+@Configuration
+public class AsyncConfiguration {
+
+  public static final String EVENT_TASK_EXECUTOR = "eventTaskExecutor";
+  public static final String EMAIL_TASK_EXECUTOR = "emailTaskExecutor";
+
+  public static final String QUEUED_METRIC = "async.executor.queued";
+  public static final String ACTIVE_METRIC = "async.executor.active";
+  public static final String REJECTED_METRIC = "async.executor.rejected";
+  public static final String WAIT_METRIC = "async.task.wait";
+  public static final String DURATION_METRIC = "async.task.duration";
+
+  private final MeterRegistry registry;
+
+  private final Duration shutdownTimeout;
+
+  public AsyncConfiguration(@NonNull MeterRegistry registry,
+                            @Value("${application.async.shutdown-timeout:30s}") @NonNull Duration shutdownTimeout) {
+    this.registry = registry;
+    this.shutdownTimeout = shutdownTimeout;
+  }
+
+  @Bean(name = {EVENT_TASK_EXECUTOR, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+  public ThreadPoolTaskExecutor eventTaskExecutor(
+    @Value("${application.async.event.pool-size:4}") int poolSize,
+    @Value("${application.async.event.queue-capacity:500}") int queueCapacity,
+    @Value("${application.async.event.rejection-policy:caller-runs}") @NonNull AsyncRejectionPolicy policy) {
+    return taskExecutor("event", poolSize, queueCapacity, policy);
+  }
+
+  @Bean(name = EMAIL_TASK_EXECUTOR)
+  public ThreadPoolTaskExecutor emailTaskExecutor(
+    @Value("${application.async.email.pool-size:2}") int poolSize,
+    @Value("${application.async.email.queue-capacity:200}") int queueCapacity,
+    @Value("${application.async.email.rejection-policy:caller-runs}") @NonNull AsyncRejectionPolicy policy) {
+    return taskExecutor("email", poolSize, queueCapacity, policy);
+  }
+
+  ThreadPoolTaskExecutor taskExecutor(String name, int poolSize, int queueCapacity, AsyncRejectionPolicy policy) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(name + "-");
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationMillis(shutdownTimeout.toMillis());
+    executor.setRejectedExecutionHandler(rejectionHandler(name, policy));
+    Timer wait = Timer.builder(WAIT_METRIC).tag("executor", name).register(registry);
+    Timer duration = Timer.builder(DURATION_METRIC).tag("executor", name).register(registry);
+    executor.setTaskDecorator(task -> {
+      long submittedAt = registry.config().clock().monotonicTime();
+      return () -> {
+        wait.record(registry.config().clock().monotonicTime() - submittedAt, TimeUnit.NANOSECONDS);
+        duration.record(task);
+      };
+    });
+    Gauge.builder(QUEUED_METRIC, executor, AsyncConfiguration::queued).tag("executor", name).register(registry);
+    Gauge.builder(ACTIVE_METRIC, executor, ThreadPoolTaskExecutor::getActiveCount).tag("executor", name)
+      .register(registry);
+    return executor;
+  }
+
+  private RejectedExecutionHandler rejectionHandler(String name, AsyncRejectionPolicy policy) {
+    Counter rejected = Counter.builder(REJECTED_METRIC)
+      .tag("executor", name)
+      .tag("policy", policy.name().toLowerCase())
+      .register(registry);
+    RejectedExecutionHandler delegate = policy == AsyncRejectionPolicy.CALLER_RUNS
+                                        ? new ThreadPoolExecutor.CallerRunsPolicy()
+                                        : new ThreadPoolExecutor.DiscardPolicy();
+    return (task, pool) -> {
+      rejected.increment();
+      if (policy == AsyncRejectionPolicy.DROP) {
+        log.atWarning().atMostEvery(10, TimeUnit.SECONDS).log("Dropping task, %s executor queue is full", name);
+      }
+      delegate.rejectedExecution(task, pool);
+    };
+  }
+
+  private static double queued(ThreadPoolTaskExecutor executor) {
+    try {
+      return executor.getThreadPoolExecutor().getQueue().size();
+    } catch (IllegalStateException e) {
+      return 0;
+    }
+  }
+}
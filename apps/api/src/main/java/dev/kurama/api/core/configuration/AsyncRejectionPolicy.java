@@ -0,0 +1,6 @@
+package dev.kurama.api.core.configuration;
+
+public enum AsyncRejectionPolicy {
+  CALLER_RUNS,
+  DROP
+}
@@ -0,0 +1,7 @@
+package dev.kurama.api.core.configuration;
+
+public enum ChangePayloadMode {
+  NONE,
+  FULL,
+  DELTA
+}
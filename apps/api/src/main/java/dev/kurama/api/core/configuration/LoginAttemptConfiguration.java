@@ -0,0 +1,36 @@
+package dev.kurama.api.core.configuration;
+
+import dev.kurama.api.core.service.attempt.InMemoryLoginAttemptStore;
+import dev.kurama.api.core.service.attempt.JdbcLoginAttemptStore;
+import dev.kurama.api.core.service.attempt.LoginAttemptStore;
+import dev.kurama.api.core.service.attempt.SlidingWindow;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class LoginAttemptConfiguration {
+
+  @Value("${application.login-attempts.window:15m}")
+  private Duration window;
+
+  @Bean
+  @ConditionalOnProperty(name = "application.login-attempts.store", havingValue = "memory", matchIfMissing = true)
+  public LoginAttemptStore inMemoryLoginAttemptStore(
+    @Value("${application.login-attempts.capacity:1000000}") int capacity,
+    @Value("${application.login-attempts.stripes:64}") int stripes) {
+    return new InMemoryLoginAttemptStore(new SlidingWindow(window), capacity, stripes, Clock.systemUTC());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "application.login-attempts.store", havingValue = "jdbc")
+  public LoginAttemptStore jdbcLoginAttemptStore(
+    JdbcTemplate jdbcTemplate,
+    @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+    return new JdbcLoginAttemptStore(jdbcTemplate, new SlidingWindow(window), Clock.systemUTC(), schema);
+  }
+}
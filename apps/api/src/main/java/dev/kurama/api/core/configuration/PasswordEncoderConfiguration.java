@@ -0,0 +1,45 @@
+package dev.kurama.api.core.configuration;
+
+import dev.kurama.api.core.utility.BoundedBCryptPasswordEncoder;
+import java.time.Duration;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Flogger
+@Configuration
+public class PasswordEncoderConfiguration {
+
+  @Value("${application.password-hashing.strength:0}")
+  private int strength;
+
+  @Value("${application.password-hashing.min-strength:10}")
+  private int minStrength;
+
+  @Value("${application.password-hashing.max-strength:14}")
+  private int maxStrength;
+
+  @Value("${application.password-hashing.target-latency:100ms}")
+  private Duration targetLatency;
+
+  @Value("${application.password-hashing.threads:0}")
+  private int threads;
+
+  @Value("${application.password-hashing.queue-capacity:64}")
+  private int queueCapacity;
+
+  @Value("${application.password-hashing.timeout:2s}")
+  private Duration timeout;
+
+  @Bean
+  public BoundedBCryptPasswordEncoder bCryptPasswordEncoder() {
+    int effectiveStrength = strength;
+    if (effectiveStrength <= 0) {
+      effectiveStrength = BoundedBCryptPasswordEncoder.calibrateStrength(targetLatency, minStrength, maxStrength);
+      log.atInfo().log("Calibrated BCrypt strength %d for a target latency of %s", effectiveStrength, targetLatency);
+    }
+    int effectiveThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedBCryptPasswordEncoder(effectiveStrength, effectiveThreads, queueCapacity, timeout);
+  }
+}
@@ -0,0 +1,31 @@
+package dev.kurama.api.core.configuration;
+
+import dev.kurama.api.core.utility.signing.InMemorySigningKeyStore;
+import dev.kurama.api.core.utility.signing.JdbcSigningKeyStore;
+import dev.kurama.api.core.utility.signing.SigningKeyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class SigningKeyConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(name = "application.jwt.key-store", havingValue = "memory", matchIfMissing = true)
+  public SigningKeyStore inMemorySigningKeyStore() {
+    return new InMemorySigningKeyStore();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "application.jwt.key-store", havingValue = "jdbc")
+  public SigningKeyStore jdbcSigningKeyStore(
+    JdbcTemplate jdbcTemplate,
+    PlatformTransactionManager transactionManager,
+    @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+    return new JdbcSigningKeyStore(jdbcTemplate, new TransactionTemplate(transactionManager), schema);
+  }
+}
@@ -0,0 +1,6 @@
+package dev.kurama.api.core.configuration;
+
+public enum SlowConsumerPolicy {
+  DROP,
+  DISCONNECT
+}
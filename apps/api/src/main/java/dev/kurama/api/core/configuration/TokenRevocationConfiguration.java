@@ -0,0 +1,28 @@
+package dev.kurama.api.core.configuration;
+
+import dev.kurama.api.core.service.revocation.InMemoryRevocationStore;
+import dev.kurama.api.core.service.revocation.JdbcRevocationStore;
+import dev.kurama.api.core.service.revocation.RevocationStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class TokenRevocationConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(name = "application.token-revocation.store", havingValue = "memory", matchIfMissing = true)
+  public RevocationStore inMemoryRevocationStore() {
+    return new InMemoryRevocationStore();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "application.token-revocation.store", havingValue = "jdbc")
+  public RevocationStore jdbcRevocationStore(
+    JdbcTemplate jdbcTemplate,
+    @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+    return new JdbcRevocationStore(jdbcTemplate, schema);
+  }
+}
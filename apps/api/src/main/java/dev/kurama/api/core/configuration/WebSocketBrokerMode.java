@@ -0,0 +1,14 @@
+package dev.kurama.api.core.configuration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WebSocketBrokerMode {
+  SIMPLE(false),
+  RELAY(true),
+  POSTGRES(true);
+
+  private final boolean clustered;
+}
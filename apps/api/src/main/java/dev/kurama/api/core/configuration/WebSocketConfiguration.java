@@ -3,26 +3,31 @@ package dev.kurama.api.core.configuration;
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_PATH;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
-import com.google.common.net.HttpHeaders;
-import dev.kurama.api.core.constant.SecurityConstant;
-import dev.kurama.api.core.utility.JWTTokenProvider;
-import java.util.List;
+import dev.kurama.api.core.message.ChangePayloadFilter;
+import dev.kurama.api.core.message.PostgresBrokerFanout;
+import dev.kurama.api.core.message.SlowConsumerGuard;
+import dev.kurama.api.core.message.StompAuthenticationInterceptor;
+import dev.kurama.api.core.message.WebSocketMetrics;
+import java.time.Duration;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
-import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -31,12 +36,87 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
 
   @NonNull
-  private final JWTTokenProvider jwtTokenProvider;
+  private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+  @NonNull
+  private final WebSocketMetrics webSocketMetrics;
+
+  @NonNull
+  private final SlowConsumerGuard slowConsumerGuard;
+
+  @NonNull
+  private final ChangePayloadFilter changePayloadFilter;
+
+  @NonNull
+  private final ObjectProvider<PostgresBrokerFanout> brokerFanout;
+
+  @Lazy
+  @Autowired
+  @Qualifier("messageBrokerTaskScheduler")
+  private TaskScheduler messageBrokerTaskScheduler;
+
+  @Value("${application.websocket.broker.mode:simple}")
+  private WebSocketBrokerMode brokerMode;
+
+  @Value("${application.websocket.broker.relay-host:localhost}")
+  private String relayHost;
+
+  @Value("${application.websocket.broker.relay-port:61613}")
+  private int relayPort;
+
+  @Value("${application.websocket.broker.relay-login:guest}")
+  private String relayLogin;
+
+  @Value("${application.websocket.broker.relay-passcode:guest}")
+  private String relayPasscode;
+
+  @Value("${application.websocket.inbound.pool-size:8}")
+  private int inboundPoolSize;
+
+  @Value("${application.websocket.inbound.queue-capacity:1000}")
+  private int inboundQueueCapacity;
+
+  @Value("${application.websocket.outbound.pool-size:8}")
+  private int outboundPoolSize;
+
+  @Value("${application.websocket.outbound.queue-capacity:1000}")
+  private int outboundQueueCapacity;
+
+  @Value("${application.websocket.transport.message-size-limit:64KB}")
+  private DataSize messageSizeLimit;
+
+  @Value("${application.websocket.transport.send-buffer-size-limit:512KB}")
+  private DataSize sendBufferSizeLimit;
+
+  @Value("${application.websocket.transport.send-time-limit:10s}")
+  private Duration sendTimeLimit;
+
+  @Value("${application.websocket.heartbeat.server-interval:10s}")
+  private Duration serverHeartbeat;
+
+  @Value("${application.websocket.heartbeat.client-interval:10s}")
+  private Duration clientHeartbeat;
 
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
-    config.enableSimpleBroker(ROOT_WEBSOCKET_CHANNEL);
+    if (brokerMode == WebSocketBrokerMode.RELAY) {
+      config.enableStompBrokerRelay(ROOT_WEBSOCKET_CHANNEL)
+        .setRelayHost(relayHost)
+        .setRelayPort(relayPort)
+        .setClientLogin(relayLogin)
+        .setClientPasscode(relayPasscode)
+        .setSystemLogin(relayLogin)
+        .setSystemPasscode(relayPasscode)
+        .setSystemHeartbeatSendInterval(serverHeartbeat.toMillis())
+        .setSystemHeartbeatReceiveInterval(clientHeartbeat.toMillis());
+    } else {
+      config.enableSimpleBroker(ROOT_WEBSOCKET_CHANNEL)
+        .setTaskScheduler(messageBrokerTaskScheduler)
+        .setHeartbeatValue(new long[]{serverHeartbeat.toMillis(), clientHeartbeat.toMillis()});
+    }
     config.setApplicationDestinationPrefixes("/ws/");
+    config.configureBrokerChannel().interceptors(webSocketMetrics.publishedInterceptor());
+    brokerFanout.ifAvailable(fanout -> config.configureBrokerChannel().interceptors(fanout));
   }
 
   @Override
@@ -45,27 +125,35 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
     registry.addEndpoint(ROOT_WEBSOCKET_PATH).setAllowedOrigins("*").withSockJS();
   }
 
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setMessageSizeLimit((int) messageSizeLimit.toBytes())
+      .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+      .setSendTimeLimit((int) sendTimeLimit.toMillis())
+      .addDecoratorFactory(slowConsumerGuard);
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor(channelExecutor("outbound"))
+      .corePoolSize(outboundPoolSize)
+      .maxPoolSize(outboundPoolSize)
+      .queueCapacity(outboundQueueCapacity);
+    registration.interceptors(slowConsumerGuard, changePayloadFilter, webSocketMetrics.deliveredInterceptor());
+  }
+
   @Override
   public void configureClientInboundChannel(ChannelRegistration registration) {
-    registration.interceptors(new ChannelInterceptor() {
-      @Override
-      public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
-        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        List<String> tokenList = accessor.getNativeHeader(HttpHeaders.AUTHORIZATION);
-        String authorizationHeader = null;
-        if (tokenList == null || tokenList.isEmpty()) {
-          return message;
-        } else {
-          authorizationHeader = tokenList.get(0);
-          if (authorizationHeader == null) {
-            return message;
-          }
-        }
-        var token = authorizationHeader.substring(SecurityConstant.TOKEN_PREFIX.length());
-        DecodedJWT decodedToken = jwtTokenProvider.getDecodedJWT(token);
-        accessor.setUser(jwtTokenProvider.getUsernamePasswordAuthenticationToken(decodedToken));
-        return message;
-      }
-    });
+    registration.taskExecutor(channelExecutor("inbound"))
+      .corePoolSize(inboundPoolSize)
+      .maxPoolSize(inboundPoolSize)
+      .queueCapacity(inboundQueueCapacity);
+    registration.interceptors(stompAuthenticationInterceptor);
+  }
+
+  private ThreadPoolTaskExecutor channelExecutor(String channel) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    webSocketMetrics.monitorExecutor(channel, executor);
+    return executor;
   }
 }
@@ -0,0 +1,12 @@
+package dev.kurama.api.core.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PagingConstant {
+
+  public static final String CURSOR_PARAM = "cursor";
+  public static final String COUNT_PARAM = "count";
+  public static final String PAGE_PARAM = "page";
+}
@@ -22,4 +22,5 @@ public class RestPathConstant {
   public static final String ADMINISTRATION_ROOT_PATH = BASE_PATH + "/administration";
   public static final String APP_URL = "/app";
   public static final String INDEX_URL = "/app/index.html";
+  public static final String JWKS_URL = "/.well-known/jwks.json";
 }
@@ -9,6 +9,7 @@ public class SecurityConstant {
   public static final long TOKEN_LIFE_SPAN = 300_000; // 5 minutes in milliseconds
   public static final long REFRESH_TOKEN_LIFE_SPAN = 3_600_000; // 60 minutes in milliseconds
   public static final String TOKEN_PREFIX = "Bearer ";
+  public static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
   public static final String JWT_TOKEN_HEADER = "Jwt-Token";
   public static final String JWT_REFRESH_TOKEN_HEADER = "Jwt-Refresh-Token";
   public static final String ACCESS_CONTROL_EXPOSE_HEADERS = "Access-Control-Expose-Headers";
@@ -16,7 +17,9 @@ public class SecurityConstant {
   public static final String AUTH_ISSUER = "api";
   public static final String AUTH_AUDIENCE = "app";
   public static final String AUTHORITIES = "authorities";
+  public static final String COMPACT_AUTHORITIES = "ath";
   public static final String FORBIDDEN_MESSAGE = "Authentication required";
   public static final String UNAUTHORIZED_MESSAGE = "Insufficient permissions";
+  public static final String SESSION_TOKEN_EXPIRED = "Session token expired or revoked";
 
 }
@@ -17,6 +17,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 
@@ -42,6 +43,7 @@ public class Role extends AbstractEntity implements Serializable {
   @EqualsAndHashCode.Exclude
   @Builder.Default
   @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+  @BatchSize(size = 100)
   @ManyToMany(fetch = FetchType.LAZY)
   @JoinTable(name = "role_authorities", joinColumns = @JoinColumn(name = "role_id", referencedColumnName = "id"),
              inverseJoinColumns = @JoinColumn(name = "authority_id", referencedColumnName = "id"))
@@ -5,6 +5,7 @@ import com.google.common.collect.Sets;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.Set;
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -13,6 +14,10 @@ import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToOne;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -21,15 +26,32 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @SuperBuilder
 @Getter
 @Setter
 @ToString
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs({
+  @NamedEntityGraph(name = User.LIST_GRAPH,
+                    attributeNodes = {@NamedAttributeNode("role"),
+                      @NamedAttributeNode(value = "userPreferences", subgraph = "userPreferences")},
+                    subgraphs = @NamedSubgraph(name = "userPreferences", attributeNodes = @NamedAttributeNode("user"))),
+  @NamedEntityGraph(name = User.DETAIL_GRAPH,
+                    attributeNodes = {@NamedAttributeNode("role"), @NamedAttributeNode("authorities"),
+                      @NamedAttributeNode(value = "userPreferences", subgraph = "userPreferences")},
+                    subgraphs = @NamedSubgraph(name = "userPreferences", attributeNodes = @NamedAttributeNode("user")))})
 @Entity
 public class User extends AbstractEntity implements Serializable {
 
+  public static final String LIST_GRAPH = "User.list";
+  public static final String DETAIL_GRAPH = "User.detail";
+
   private String firstname;
   private String lastname;
   private String username;
@@ -49,6 +71,8 @@ public class User extends AbstractEntity implements Serializable {
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
   @Builder.Default
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+  @BatchSize(size = 100)
   @ManyToMany
   @JoinTable(name = "user_authorities", joinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"),
              inverseJoinColumns = @JoinColumn(name = "authority_id", referencedColumnName = "id"))
@@ -68,4 +92,12 @@ public class User extends AbstractEntity implements Serializable {
   @EqualsAndHashCode.Exclude
   @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
   private ActivationToken activationToken;
+
+  public boolean hasUsablePassword() {
+    return password != null;
+  }
+
+  public void clearPassword() {
+    this.password = null;
+  }
 }
@@ -1,5 +1,6 @@
 package dev.kurama.api.core.domain;
 
+import dev.kurama.api.core.utility.GrantedAuthorityPool;
 import java.util.Collection;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -8,7 +9,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @AllArgsConstructor
@@ -25,7 +25,7 @@ public class UserPrincipal implements UserDetails {
     return this.user.getAuthorities()
       .stream()
       .map(Authority::getName)
-      .map(SimpleGrantedAuthority::new)
+      .map(GrantedAuthorityPool::getGrantedAuthority)
       .collect(Collectors.toList());
   }
 
@@ -51,7 +51,7 @@ public class UserPrincipal implements UserDetails {
 
   @Override
   public boolean isCredentialsNonExpired() {
-    return !this.user.isCredentialsExpired();
+    return !this.user.isCredentialsExpired() && this.user.hasUsablePassword();
   }
 
   @Override
@@ -0,0 +1,37 @@
+package dev.kurama.api.core.domain.support;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+@Builder
+public class KeysetCursor {
+
+  private static final char SEPARATOR = ':';
+
+  private @NonNull String id;
+  private @NonNull String key;
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+      .withoutPadding()
+      .encodeToString((id + SEPARATOR + key).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String token) {
+    if (isEmpty(token)) {
+      return null;
+    }
+    String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    int separator = decoded.indexOf(SEPARATOR);
+    if (separator < 1) {
+      throw new IllegalArgumentException("Invalid cursor: " + token);
+    }
+    return KeysetCursor.builder().id(decoded.substring(0, separator)).key(decoded.substring(separator + 1)).build();
+  }
+}
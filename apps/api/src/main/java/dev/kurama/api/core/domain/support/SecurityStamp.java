@@ -0,0 +1,20 @@
+package dev.kurama.api.core.domain.support;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+@Builder
+public class SecurityStamp {
+
+  private @NonNull String userId;
+  private @NonNull String username;
+  private String roleId;
+  private String roleName;
+  private boolean canLogin;
+  private boolean locked;
+  private @NonNull List<String> authorities;
+  private long version;
+}
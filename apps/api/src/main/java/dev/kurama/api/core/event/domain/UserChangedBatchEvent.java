@@ -0,0 +1,16 @@
+package dev.kurama.api.core.event.domain;
+
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UserChangedBatchEvent implements ApplicationEvent {
+
+  private List<String> userIds;
+
+  private UserChangedEventAction action;
+
+}
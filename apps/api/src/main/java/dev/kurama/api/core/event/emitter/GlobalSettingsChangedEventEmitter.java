@@ -2,6 +2,7 @@ package dev.kurama.api.core.event.emitter;
 
 import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent;
 import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent.GlobalSettingsChangedEventAction;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -11,11 +12,18 @@ import org.springframework.stereotype.Component;
 @Component
 public class GlobalSettingsChangedEventEmitter {
 
+  public static final String GLOBAL_SETTINGS_AGGREGATE_ID = "global-settings";
+
   @NonNull
   private final ApplicationEventPublisher applicationEventPublisher;
 
+  @NonNull
+  private final OutboxEventStore outboxEventStore;
+
   public void emitGlobalSettingsChangedEvent(GlobalSettingsChangedEventAction action) {
-    applicationEventPublisher.publishEvent(GlobalSettingsChangedEvent.builder().action(action).build());
+    GlobalSettingsChangedEvent event = GlobalSettingsChangedEvent.builder().action(action).build();
+    applicationEventPublisher.publishEvent(event);
+    outboxEventStore.append(GLOBAL_SETTINGS_AGGREGATE_ID, event);
   }
 
   public void emitGlobalSettingsUpdatedEvent() {
@@ -2,6 +2,7 @@ package dev.kurama.api.core.event.emitter;
 
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
 import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -14,8 +15,13 @@ public class RoleChangedEventEmitter {
   @NonNull
   private final ApplicationEventPublisher applicationEventPublisher;
 
+  @NonNull
+  private final OutboxEventStore outboxEventStore;
+
   public void emitRoleChangedEvent(String roleId, RoleChangedEventAction action) {
-    applicationEventPublisher.publishEvent(RoleChangedEvent.builder().roleId(roleId).action(action).build());
+    RoleChangedEvent event = RoleChangedEvent.builder().roleId(roleId).action(action).build();
+    applicationEventPublisher.publishEvent(event);
+    outboxEventStore.append(roleId, event);
   }
 
   public void emitRoleCreatedEvent(String roleId) {
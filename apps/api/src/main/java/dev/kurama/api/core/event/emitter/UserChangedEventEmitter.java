@@ -2,6 +2,7 @@ package dev.kurama.api.core.event.emitter;
 
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -14,8 +15,13 @@ public class UserChangedEventEmitter {
   @NonNull
   private final ApplicationEventPublisher applicationEventPublisher;
 
+  @NonNull
+  private final OutboxEventStore outboxEventStore;
+
   public void emitUserChangedEvent(String userId, UserChangedEventAction action) {
-    applicationEventPublisher.publishEvent(UserChangedEvent.builder().userId(userId).action(action).build());
+    UserChangedEvent event = UserChangedEvent.builder().userId(userId).action(action).build();
+    applicationEventPublisher.publishEvent(event);
+    outboxEventStore.append(userId, event);
   }
 
   public void emitUserCreatedEvent(String userId) {
@@ -2,6 +2,7 @@ package dev.kurama.api.core.event.emitter;
 
 import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent;
 import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent.UserPreferencesChangedEventAction;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -14,9 +15,16 @@ public class UserPreferencesChangedEventEmitter {
   @NonNull
   private final ApplicationEventPublisher applicationEventPublisher;
 
+  @NonNull
+  private final OutboxEventStore outboxEventStore;
+
   public void emitUserPreferencesChangedEvent(String userPreferencesId, UserPreferencesChangedEventAction action) {
-    applicationEventPublisher.publishEvent(
-      UserPreferencesChangedEvent.builder().userPreferencesId(userPreferencesId).action(action).build());
+    UserPreferencesChangedEvent event = UserPreferencesChangedEvent.builder()
+      .userPreferencesId(userPreferencesId)
+      .action(action)
+      .build();
+    applicationEventPublisher.publishEvent(event);
+    outboxEventStore.append(userPreferencesId, event);
   }
 
   public void emitUserPreferencesUpdatedEvent(String userPreferencesId) {
@@ -0,0 +1,21 @@
+package dev.kurama.api.core.event.listener;
+
+import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.service.SecurityStampService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class EvictSecurityStampOnRoleChangedEventListener {
+
+  @NonNull
+  private final SecurityStampService securityStampService;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void roleChangedEvent(@NonNull RoleChangedEvent event) {
+    securityStampService.evictRole(event.getRoleId());
+  }
+}
@@ -0,0 +1,24 @@
+package dev.kurama.api.core.event.listener;
+
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.service.SecurityStampService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class EvictSecurityStampOnUserChangedEventListener {
+
+  @NonNull
+  private final SecurityStampService securityStampService;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void userChangedEvent(@NonNull UserChangedEvent event) {
+    securityStampService.evictUser(event.getUserId());
+  }
+}
@@ -0,0 +1,35 @@
+package dev.kurama.api.core.event.listener;
+
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.service.SecurityStampService;
+import dev.kurama.api.core.service.TokenRevocationService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class RevokeTokensOnUserChangedEventListener {
+
+  @NonNull
+  private final TokenRevocationService tokenRevocationService;
+
+  @NonNull
+  private final SecurityStampService securityStampService;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  public void userChangedEvent(@NonNull UserChangedEvent event) {
+    if (event.getAction() == UserChangedEventAction.DELETED) {
+      tokenRevocationService.revokeUser(event.getUserId());
+    } else if (event.getAction() == UserChangedEventAction.UPDATED) {
+      securityStampService.getSecurityStamp(event.getUserId())
+        .filter(stamp -> stamp.isLocked() || !stamp.isCanLogin())
+        .ifPresent(stamp -> tokenRevocationService.revokeUser(stamp.getUserId()));
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package dev.kurama.api.core.event.outbox;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class OutboxEvent {
+
+  private long id;
+
+  private String aggregateId;
+
+  private String eventType;
+
+  private String payload;
+
+  private int attempts;
+}
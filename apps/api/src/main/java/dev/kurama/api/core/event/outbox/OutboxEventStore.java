@@ -0,0 +1,91 @@
+package dev.kurama.api.core.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.event.domain.ApplicationEvent;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxEventStore {
+
+  private static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+
+  private static final String APPEND_QUERY = "insert into %1$s.outbox_event (aggregate_id, event_type, payload) "
+    + "values (?, ?, ?)";
+
+  private static final String FETCH_QUERY = "select id, aggregate_id, event_type, payload, attempts "
+    + "from %1$s.outbox_event e where e.attempts < ? and e.next_attempt_at <= now() "
+    + "and not exists (select 1 from %1$s.outbox_event p "
+    + "where p.aggregate_id = e.aggregate_id and p.id < e.id and p.attempts < ?) "
+    + "order by e.id limit ?";
+
+  private static final String DELETE_QUERY = "delete from %1$s.outbox_event where id = ?";
+
+  private static final String FAILURE_QUERY = "update %1$s.outbox_event set attempts = attempts + 1, "
+    + "next_attempt_at = now() + cast(? as double precision) * power(2, least(attempts, 20)) "
+    + "* interval '1 millisecond' "
+    + "where id = ?";
+
+  private static final String LOCK_QUERY = "select pg_try_advisory_xact_lock(?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final String appendQuery;
+
+  private final String fetchQuery;
+
+  private final String deleteQuery;
+
+  private final String failureQuery;
+
+  public OutboxEventStore(@NonNull JdbcTemplate jdbcTemplate, @NonNull ObjectMapper objectMapper,
+                          @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.appendQuery = String.format(APPEND_QUERY, schema);
+    this.fetchQuery = String.format(FETCH_QUERY, schema);
+    this.deleteQuery = String.format(DELETE_QUERY, schema);
+    this.failureQuery = String.format(FAILURE_QUERY, schema);
+  }
+
+  public void append(@NonNull String aggregateId, @NonNull ApplicationEvent event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Unable to serialize " + event.getClass().getSimpleName(), e);
+    }
+    jdbcTemplate.update(appendQuery, aggregateId, event.getClass().getSimpleName(), payload);
+  }
+
+  public boolean tryLockRelay() {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_QUERY, Boolean.class, RELAY_LOCK_KEY));
+  }
+
+  public List<OutboxEvent> fetchBatch(int batchSize, int maxAttempts) {
+    return jdbcTemplate.query(fetchQuery, (rs, rowNum) -> OutboxEvent.builder()
+      .id(rs.getLong("id"))
+      .aggregateId(rs.getString("aggregate_id"))
+      .eventType(rs.getString("event_type"))
+      .payload(rs.getString("payload"))
+      .attempts(rs.getInt("attempts"))
+      .build(), maxAttempts, maxAttempts, batchSize);
+  }
+
+  public void delete(@NonNull List<OutboxEvent> events) {
+    jdbcTemplate.batchUpdate(deleteQuery,
+      events.stream().map(event -> new Object[]{event.getId()}).collect(Collectors.toList()));
+  }
+
+  public void recordFailures(@NonNull List<OutboxEvent> events, long retryDelay) {
+    jdbcTemplate.batchUpdate(failureQuery,
+      events.stream().map(event -> new Object[]{retryDelay, event.getId()}).collect(Collectors.toList()));
+  }
+}
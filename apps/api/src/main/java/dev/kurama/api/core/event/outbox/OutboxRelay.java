@@ -0,0 +1,155 @@
+package dev.kurama.api.core.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent;
+import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent;
+import dev.kurama.api.core.message.GlobalSettingsChangedMessageSender;
+import dev.kurama.api.core.message.RoleChangedMessageSender;
+import dev.kurama.api.core.message.UserChangedMessageSender;
+import dev.kurama.api.core.message.UserPreferencesChangedMessageSender;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Flogger
+@Component
+public class OutboxRelay {
+
+  private static final String USER_CHANGED_EVENT = UserChangedEvent.class.getSimpleName();
+
+  private final OutboxEventStore outboxEventStore;
+
+  private final ObjectMapper objectMapper;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final int batchSize;
+
+  private final int maxAttempts;
+
+  private final long retryDelay;
+
+  private final UserChangedMessageSender userChangedMessageSender;
+
+  private final Map<String, OutboxHandler> handlers;
+
+  public OutboxRelay(@NonNull OutboxEventStore outboxEventStore,
+                     @NonNull ObjectMapper objectMapper,
+                     @NonNull PlatformTransactionManager transactionManager,
+                     @NonNull UserChangedMessageSender userChangedMessageSender,
+                     @NonNull RoleChangedMessageSender roleChangedMessageSender,
+                     @NonNull UserPreferencesChangedMessageSender userPreferencesChangedMessageSender,
+                     @NonNull GlobalSettingsChangedMessageSender globalSettingsChangedMessageSender,
+                     @Value("${application.outbox.batch-size:100}") int batchSize,
+                     @Value("${application.outbox.max-attempts:10}") int maxAttempts,
+                     @Value("${application.outbox.retry-delay:1000}") long retryDelay) {
+    this.outboxEventStore = outboxEventStore;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.retryDelay = retryDelay;
+    this.userChangedMessageSender = userChangedMessageSender;
+    this.handlers = Map.of(
+      USER_CHANGED_EVENT,
+      handler(UserChangedEvent.class, userChangedMessageSender::sendUserChangedMessage),
+      RoleChangedEvent.class.getSimpleName(),
+      handler(RoleChangedEvent.class, roleChangedMessageSender::sendRoleChangedMessage),
+      UserPreferencesChangedEvent.class.getSimpleName(),
+      handler(UserPreferencesChangedEvent.class,
+        userPreferencesChangedMessageSender::sendUserPreferencesChangedMessage),
+      GlobalSettingsChangedEvent.class.getSimpleName(),
+      handler(GlobalSettingsChangedEvent.class, globalSettingsChangedMessageSender::sendGlobalSettingsChangedMessage));
+  }
+
+  @Scheduled(fixedDelayString = "${application.outbox.poll-interval:500}")
+  public void relay() {
+    List<OutboxEvent> failed = new ArrayList<>();
+    try {
+      transactionTemplate.executeWithoutResult(status -> relayBatch(failed));
+    } finally {
+      if (!failed.isEmpty()) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventStore.recordFailures(failed, retryDelay));
+        failed.stream()
+          .filter(event -> event.getAttempts() + 1 >= maxAttempts)
+          .forEach(event -> log.atSevere().log("Parking outbox event %d after %d failed attempts", event.getId(),
+            maxAttempts));
+      }
+    }
+  }
+
+  private void relayBatch(List<OutboxEvent> failed) {
+    if (!outboxEventStore.tryLockRelay()) {
+      return;
+    }
+    List<OutboxEvent> batch = outboxEventStore.fetchBatch(batchSize, maxAttempts);
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<OutboxEvent> relayed = new ArrayList<>(batch.size());
+    Set<String> blocked = new HashSet<>();
+    for (OutboxEvent event : batch) {
+      if (blocked.contains(event.getAggregateId())) {
+        continue;
+      }
+      if (dispatch(event)) {
+        relayed.add(event);
+      } else {
+        failed.add(event);
+        blocked.add(event.getAggregateId());
+      }
+    }
+    try {
+      userChangedMessageSender.flush();
+    } catch (RuntimeException e) {
+      log.atWarning().withCause(e).log("Could not deliver coalesced user changes");
+      relayed.stream().filter(event -> USER_CHANGED_EVENT.equals(event.getEventType())).forEach(failed::add);
+      relayed.removeIf(event -> USER_CHANGED_EVENT.equals(event.getEventType()));
+    }
+    if (!relayed.isEmpty()) {
+      outboxEventStore.delete(relayed);
+    }
+    log.atFine().log("Relayed %d of %d outbox event(s)", relayed.size(), batch.size());
+  }
+
+  private boolean dispatch(OutboxEvent event) {
+    OutboxHandler handler = handlers.get(event.getEventType());
+    if (handler == null) {
+      log.atWarning().log("Dropping outbox event %d with unknown type %s", event.getId(), event.getEventType());
+      return true;
+    }
+    try {
+      handler.handle(event.getPayload());
+    } catch (JsonProcessingException e) {
+      log.atSevere().withCause(e).log("Dropping unreadable outbox event %d", event.getId());
+    } catch (RuntimeException e) {
+      log.atWarning().withCause(e).log("Could not relay outbox event %d, attempt %d", event.getId(),
+        event.getAttempts() + 1);
+      return false;
+    }
+    return true;
+  }
+
+  private <T> OutboxHandler handler(Class<T> type, Consumer<T> sender) {
+    return payload -> sender.accept(objectMapper.readValue(payload, type));
+  }
+
+  @FunctionalInterface
+  private interface OutboxHandler {
+
+    void handle(String payload) throws JsonProcessingException;
+  }
+}
@@ -7,11 +7,15 @@ import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.METHOD_NOT_ALLOWED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import dev.kurama.api.core.domain.DomainResponse;
 import dev.kurama.api.core.exception.domain.ImmutableRoleException;
+import dev.kurama.api.core.exception.domain.PasswordHashingSaturatedException;
+import dev.kurama.api.core.exception.domain.PasswordHashingUnavailableException;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.SignupClosedException;
 import dev.kurama.api.core.exception.domain.exists.EntityExistsException;
@@ -56,6 +60,8 @@ public class ExceptionHandlers {
   private static final String IMMUTABLE_ROLE = "Role %s is immutable";
   private static final String SIGN_UP_CLOSED = "Sign Up is closed, try again later.";
   private static final String NO_MAPPING_ERROR = "There is no mapping for this URL";
+  private static final String TOO_MANY_AUTHENTICATIONS = "Too many authentication requests, try again later.";
+  private static final String AUTHENTICATION_UNAVAILABLE = "Authentication is temporarily unavailable, try again later.";
 
   @ResponseStatus(code = BAD_REQUEST)
   @ExceptionHandler({NullPointerException.class, IllegalArgumentException.class, ConversionFailedException.class,
@@ -107,6 +113,19 @@ public class ExceptionHandlers {
     return createDomainResponse(FORBIDDEN, SIGN_UP_CLOSED, exception.getMessage());
   }
 
+  @ResponseStatus(code = TOO_MANY_REQUESTS)
+  @ExceptionHandler(PasswordHashingSaturatedException.class)
+  public ResponseEntity<DomainResponse> passwordHashingSaturatedException(PasswordHashingSaturatedException exception) {
+    return createDomainResponse(TOO_MANY_REQUESTS, TOO_MANY_AUTHENTICATIONS, exception.getMessage());
+  }
+
+  @ResponseStatus(code = SERVICE_UNAVAILABLE)
+  @ExceptionHandler(PasswordHashingUnavailableException.class)
+  public ResponseEntity<DomainResponse> passwordHashingUnavailableException(
+    PasswordHashingUnavailableException exception) {
+    return createDomainResponse(SERVICE_UNAVAILABLE, AUTHENTICATION_UNAVAILABLE, exception.getMessage());
+  }
+
   @ResponseStatus(code = CONFLICT)
   @ExceptionHandler(EntityExistsException.class)
   public ResponseEntity<DomainResponse> entityExistsException(EntityExistsException exception) {
@@ -0,0 +1,8 @@
+package dev.kurama.api.core.exception.domain;
+
+public class PasswordHashingSaturatedException extends PasswordHashingUnavailableException {
+
+  public PasswordHashingSaturatedException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
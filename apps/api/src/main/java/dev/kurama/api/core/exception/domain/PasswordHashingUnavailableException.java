@@ -0,0 +1,12 @@
+package dev.kurama.api.core.exception.domain;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+  public PasswordHashingUnavailableException(String message) {
+    super(message);
+  }
+
+  public PasswordHashingUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
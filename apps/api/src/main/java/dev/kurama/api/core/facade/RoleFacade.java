@@ -1,5 +1,7 @@
 package dev.kurama.api.core.facade;
 
+import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.exception.domain.ImmutableRoleException;
 import dev.kurama.api.core.exception.domain.exists.RoleExistsException;
 import dev.kurama.api.core.exception.domain.not.found.RoleNotFoundException;
@@ -13,6 +15,8 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Component;
 
@@ -37,6 +41,16 @@ public class RoleFacade {
       roleMapper.rolePageToRoleModelPage(roleService.getAllRoles(pageable, search)));
   }
 
+  public PagedModel<RoleModel> getAllSliced(Pageable pageable, String search) {
+    return roleModelAssembler.toSlicedModel(
+      roleMapper.roleSliceToRoleModelSlice(roleService.getAllRolesSlice(pageable, search)));
+  }
+
+  public CollectionModel<RoleModel> getAllByCursor(String cursor, Pageable pageable) {
+    Slice<Role> roles = roleService.getAllRoles(KeysetCursor.decode(cursor), pageable.getPageSize());
+    return roleModelAssembler.toKeysetModel(roleMapper.roleSliceToRoleModelSlice(roles), getNextCursor(roles));
+  }
+
   public RoleModel findByRoleId(String roleId) throws RoleNotFoundException {
     return roleMapper.roleToRoleModel(
       roleService.findRoleById(roleId).orElseThrow(() -> new RoleNotFoundException(roleId)));
@@ -54,4 +68,12 @@ public class RoleFacade {
   public void delete(String id) throws ImmutableRoleException, RoleNotFoundException {
     roleFacility.deleteRole(id);
   }
+
+  private String getNextCursor(Slice<Role> roles) {
+    if (!roles.hasNext()) {
+      return null;
+    }
+    Role last = roles.getContent().get(roles.getNumberOfElements() - 1);
+    return KeysetCursor.builder().id(last.getId()).key(last.getName()).build().encode();
+  }
 }
@@ -1,6 +1,7 @@
 package dev.kurama.api.core.facade;
 
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.exception.domain.ActivationTokenRecentException;
 import dev.kurama.api.core.exception.domain.exists.UserExistsException;
 import dev.kurama.api.core.exception.domain.not.found.RoleNotFoundException;
@@ -19,6 +20,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.tomcat.util.codec.binary.Base64;
 import org.apache.tomcat.util.codec.binary.StringUtils;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -53,6 +56,16 @@ public class UserFacade {
       userMapper.userPageToUserModelPage(userService.getAllUsers(pageable, search)));
   }
 
+  public PagedModel<UserModel> getAllSliced(Pageable pageable, String search) {
+    return userModelAssembler.toSlicedModel(
+      userMapper.userSliceToUserModelSlice(userService.getAllUsersSlice(pageable, search)));
+  }
+
+  public CollectionModel<UserModel> getAllByCursor(String cursor, Pageable pageable) {
+    Slice<User> users = userService.getAllUsers(KeysetCursor.decode(cursor), pageable.getPageSize());
+    return userModelAssembler.toKeysetModel(userMapper.userSliceToUserModelSlice(users), getNextCursor(users));
+  }
+
   public void deleteById(String id) throws UserNotFoundException {
     userService.deleteUserById(id);
   }
@@ -87,4 +100,12 @@ public class UserFacade {
   public void requestActivationToken(String id) throws UserNotFoundException, ActivationTokenRecentException {
     userService.requestActivationTokenById(id);
   }
+
+  private String getNextCursor(Slice<User> users) {
+    if (!users.hasNext()) {
+      return null;
+    }
+    User last = users.getContent().get(users.getNumberOfElements() - 1);
+    return KeysetCursor.builder().id(last.getId()).key(last.getUsername()).build().encode();
+  }
 }
@@ -1,7 +1,10 @@
 package dev.kurama.api.core.filter;
 
+import java.util.BitSet;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Builder
 @Data
@@ -9,4 +12,7 @@ public class ContextUser {
 
   private String username;
   private String id;
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private BitSet authorityBits;
 }
@@ -4,11 +4,13 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.springframework.http.HttpMethod.OPTIONS;
 import static org.springframework.http.HttpStatus.OK;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
 import com.google.common.net.HttpHeaders;
 import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.service.TokenRevocationService;
+import dev.kurama.api.core.utility.JWTTokenCache;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import java.io.IOException;
+import java.util.Optional;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -29,6 +31,12 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
   @NonNull
   private final JWTTokenProvider jwtTokenProvider;
 
+  @NonNull
+  private final JWTTokenCache jwtTokenCache;
+
+  @NonNull
+  private final TokenRevocationService tokenRevocationService;
+
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
     throws ServletException, IOException {
@@ -42,9 +50,10 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
         return;
       }
       var token = authorizationHeader.substring(SecurityConstant.TOKEN_PREFIX.length());
-      DecodedJWT decodedToken = jwtTokenProvider.getDecodedJWT(token);
-      if (jwtTokenProvider.isTokenValid(decodedToken)) {
-        Authentication authentication = jwtTokenProvider.getAuthentication(decodedToken, request);
+      Optional<VerifiedToken> verifiedToken = jwtTokenCache.getVerifiedToken(token)
+        .filter(verified -> !tokenRevocationService.isRevoked(verified));
+      if (verifiedToken.isPresent()) {
+        Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken.get(), request);
         SecurityContextHolder.getContext().setAuthentication(authentication);
       } else {
         SecurityContextHolder.clearContext();
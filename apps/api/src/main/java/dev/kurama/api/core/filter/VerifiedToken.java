@@ -0,0 +1,23 @@
+package dev.kurama.api.core.filter;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.security.core.GrantedAuthority;
+
+@Builder
+@Data
+public class VerifiedToken {
+
+  private DecodedJWT decodedJWT;
+  private String tokenId;
+  private List<GrantedAuthority> authorities;
+  private ContextUser contextUser;
+  private long issuedAt;
+  private long expiresAt;
+
+  public boolean isExpired(long currentTimeMillis) {
+    return expiresAt <= currentTimeMillis;
+  }
+}
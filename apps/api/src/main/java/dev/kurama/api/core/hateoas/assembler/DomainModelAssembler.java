@@ -1,13 +1,20 @@
 package dev.kurama.api.core.hateoas.assembler;
 
+import static dev.kurama.api.core.constant.PagingConstant.CURSOR_PARAM;
+import static dev.kurama.api.core.constant.PagingConstant.PAGE_PARAM;
 import static dev.kurama.api.core.hateoas.relations.HateoasRelations.SELF;
+import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
 
 import dev.kurama.api.core.utility.HateoasUtils;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -29,11 +36,38 @@ public abstract class DomainModelAssembler<T extends RepresentationModel<T>> imp
       .mapLink(LinkRelation.of(SELF), HateoasUtils::withDefaultAffordance);
   }
 
+  public @NonNull PagedModel<T> toSlicedModel(Slice<T> entities) {
+    PagedModel<T> model = PagedModel.of(toCollectionModel(entities.getContent()).getContent(),
+      (PagedModel.PageMetadata) null);
+    model.add(withDefaultAffordance(Link.of(fromCurrentRequest().build().toUriString()).withSelfRel()));
+    if (entities.hasPrevious()) {
+      model.add(getPageLink(entities.getNumber() - 1, IanaLinkRelations.PREV));
+    }
+    if (entities.hasNext()) {
+      model.add(getPageLink(entities.getNumber() + 1, IanaLinkRelations.NEXT));
+    }
+    return model;
+  }
+
+  public @NonNull CollectionModel<T> toKeysetModel(Slice<T> entities, String nextCursor) {
+    CollectionModel<T> model = toCollectionModel(entities.getContent()).add(
+      withDefaultAffordance(Link.of(fromCurrentRequest().build().toUriString()).withSelfRel()));
+    if (nextCursor != null) {
+      model.add(Link.of(fromCurrentRequest().replaceQueryParam(CURSOR_PARAM, nextCursor).build().toUriString())
+        .withRel(IanaLinkRelations.NEXT));
+    }
+    return model;
+  }
+
   @Override
   public @NonNull CollectionModel<T> toCollectionModel(@NonNull Iterable<? extends T> entities) {
     return RepresentationModelAssembler.super.toCollectionModel(entities);
   }
 
+  private @NonNull Link getPageLink(int page, LinkRelation relation) {
+    return Link.of(fromCurrentRequest().replaceQueryParam(PAGE_PARAM, page).build().toUriString()).withRel(relation);
+  }
+
   // Model Assembler
 
   @Override
@@ -14,7 +14,9 @@ import dev.kurama.api.core.rest.RoleController;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
@@ -25,8 +27,22 @@ public class RoleModelAssembler extends DomainModelAssembler<RoleModel> {
 
   @Override
   public @NonNull PagedModel<RoleModel> toPagedModel(Page<RoleModel> entities) {
-    return (PagedModel<RoleModel>) super.toPagedModel(entities)
-      .mapLinkIf(hasAuthority(ROLE_CREATE), LinkRelation.of(SELF), link -> link.andAffordance(getCreateAffordance()))
+    return (PagedModel<RoleModel>) withCollectionLinks(super.toPagedModel(entities));
+  }
+
+  @Override
+  public @NonNull PagedModel<RoleModel> toSlicedModel(Slice<RoleModel> entities) {
+    return (PagedModel<RoleModel>) withCollectionLinks(super.toSlicedModel(entities));
+  }
+
+  @Override
+  public @NonNull CollectionModel<RoleModel> toKeysetModel(Slice<RoleModel> entities, String nextCursor) {
+    return withCollectionLinks(super.toKeysetModel(entities, nextCursor));
+  }
+
+  private @NonNull CollectionModel<RoleModel> withCollectionLinks(CollectionModel<RoleModel> model) {
+    return model.mapLinkIf(hasAuthority(ROLE_CREATE), LinkRelation.of(SELF),
+        link -> link.andAffordance(getCreateAffordance()))
       .addIf(hasAuthority(ROLE_READ), this::getWebSocket);
   }
 
@@ -15,7 +15,9 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
@@ -27,8 +29,22 @@ public class UserModelAssembler extends DomainModelAssembler<UserModel> {
 
   @Override
   public @NonNull PagedModel<UserModel> toPagedModel(Page<UserModel> entities) {
-    return (PagedModel<UserModel>) super.toPagedModel(entities)
-      .mapLinkIf(hasAuthority(USER_CREATE), LinkRelation.of(SELF), link -> link.andAffordance(getCreateAffordance()))
+    return (PagedModel<UserModel>) withCollectionLinks(super.toPagedModel(entities));
+  }
+
+  @Override
+  public @NonNull PagedModel<UserModel> toSlicedModel(Slice<UserModel> entities) {
+    return (PagedModel<UserModel>) withCollectionLinks(super.toSlicedModel(entities));
+  }
+
+  @Override
+  public @NonNull CollectionModel<UserModel> toKeysetModel(Slice<UserModel> entities, String nextCursor) {
+    return withCollectionLinks(super.toKeysetModel(entities, nextCursor));
+  }
+
+  private @NonNull CollectionModel<UserModel> withCollectionLinks(CollectionModel<UserModel> model) {
+    return model.mapLinkIf(hasAuthority(USER_CREATE), LinkRelation.of(SELF),
+        link -> link.andAffordance(getCreateAffordance()))
       .addIf(hasAuthority(USER_READ), this::getWebSocket);
   }
 
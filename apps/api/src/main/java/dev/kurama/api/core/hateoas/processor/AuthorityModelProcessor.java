@@ -4,13 +4,13 @@ import static dev.kurama.api.core.authority.AuthorityAuthority.AUTHORITY_READ;
 import static dev.kurama.api.core.hateoas.relations.AuthorityRelations.AUTHORITIES_REL;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static dev.kurama.api.core.utility.LinkTemplates.getLink;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import dev.kurama.api.core.hateoas.model.AuthorityModel;
 import dev.kurama.api.core.rest.AuthorityController;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
 import org.springframework.stereotype.Component;
@@ -23,12 +23,13 @@ public class AuthorityModelProcessor implements RepresentationModelProcessor<Aut
     return !hasAuthority(AUTHORITY_READ) ? entity : entity.add(getSelfLink(entity.getId())).add(getParentLink());
   }
 
-  @SneakyThrows
   public Link getSelfLink(String id) {
-    return withDefaultAffordance(linkTo(methodOn(AuthorityController.class).get(id)).withSelfRel());
+    return withDefaultAffordance(getLink("AuthorityController#get",
+      authorityId -> linkTo(methodOn(AuthorityController.class).get(authorityId)).withSelfRel(), id));
   }
 
   private @NonNull Link getParentLink() {
-    return linkTo(methodOn(AuthorityController.class).getAll(null)).withRel(AUTHORITIES_REL);
+    return getLink("AuthorityController#getAll",
+      () -> linkTo(methodOn(AuthorityController.class).getAll(null)).withRel(AUTHORITIES_REL));
   }
 }
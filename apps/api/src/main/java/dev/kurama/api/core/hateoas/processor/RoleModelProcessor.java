@@ -10,6 +10,8 @@ import static dev.kurama.api.core.hateoas.relations.RoleRelations.ROLES_REL;
 import static dev.kurama.api.core.message.RoleChangedMessageSender.ROLE_CHANGED_CHANNEL;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static dev.kurama.api.core.utility.LinkTemplates.getAffordance;
+import static dev.kurama.api.core.utility.LinkTemplates.getLink;
 import static java.lang.String.format;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -19,7 +21,6 @@ import dev.kurama.api.core.hateoas.model.RoleModel;
 import dev.kurama.api.core.rest.RoleController;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
@@ -40,23 +41,23 @@ public class RoleModelProcessor implements RepresentationModelProcessor<RoleMode
       .addIf(hasAuthority(ROLE_READ), () -> getWebSocket(entity.getId()));
   }
 
-  @SneakyThrows
   public Link getSelfLink(String id) {
-    return withDefaultAffordance(linkTo(methodOn(RoleController.class).get(id)).withSelfRel());
+    return withDefaultAffordance(
+      getLink("RoleController#get", roleId -> linkTo(methodOn(RoleController.class).get(roleId)).withSelfRel(), id));
   }
 
   private @NonNull Link getParentLink() {
-    return linkTo(methodOn(RoleController.class).getAll(null, null)).withRel(ROLES_REL);
+    return getLink("RoleController#getAll",
+      () -> linkTo(methodOn(RoleController.class).getAll(null, null)).withRel(ROLES_REL));
   }
 
-  @SneakyThrows
-  private @NonNull Affordance getUpdateAffordance(String username) {
-    return afford(methodOn(RoleController.class).update(username, null));
+  private @NonNull Affordance getUpdateAffordance(String roleId) {
+    return getAffordance("RoleController#update",
+      id -> afford(methodOn(RoleController.class).update(id, null)), roleId);
   }
 
-  @SneakyThrows
-  private @NonNull Affordance getDeleteAffordance(String userId) {
-    return afford(methodOn(RoleController.class).delete(userId));
+  private @NonNull Affordance getDeleteAffordance(String roleId) {
+    return getAffordance("RoleController#delete", id -> afford(methodOn(RoleController.class).delete(id)), roleId);
   }
 
   private @NonNull Link getWebSocket(String id) {
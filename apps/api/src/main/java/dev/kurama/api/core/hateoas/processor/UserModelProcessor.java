@@ -17,6 +17,8 @@ import static dev.kurama.api.core.message.UserChangedMessageSender.USER_CHANGED_
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAnyAuthority;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static dev.kurama.api.core.utility.LinkTemplates.getAffordance;
+import static dev.kurama.api.core.utility.LinkTemplates.getLink;
 import static java.lang.String.format;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -29,7 +31,6 @@ import dev.kurama.api.core.rest.UserProfileController;
 import dev.kurama.api.core.utility.AuthorityUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
@@ -80,76 +81,76 @@ public class UserModelProcessor implements RepresentationModelProcessor<UserMode
     return entity;
   }
 
-  @SneakyThrows
   public Link getSelfLink(String id) {
-    return withDefaultAffordance(linkTo(methodOn(UserController.class).get(id)).withSelfRel());
+    return withDefaultAffordance(
+      getLink("UserController#get", userId -> linkTo(methodOn(UserController.class).get(userId)).withSelfRel(), id));
   }
 
   private @NonNull Link getParentLink() {
-    return linkTo(methodOn(UserController.class).getAll(null, null)).withRel(USERS_REL);
+    return getLink("UserController#getAll",
+      () -> linkTo(methodOn(UserController.class).getAll(null, null)).withRel(USERS_REL));
   }
 
   private @NonNull Link getWebSocket(String id) {
     return Link.of(format(USER_CHANGED_CHANNEL, id)).withRel(WEBSOCKET_REL);
   }
 
-  @SneakyThrows
   private Link getCurrentUserSelfLink() {
-    return withDefaultAffordance(linkTo(methodOn(UserProfileController.class).get()).withSelfRel());
+    return withDefaultAffordance(getLink("UserProfileController#get",
+      () -> linkTo(methodOn(UserProfileController.class).get()).withSelfRel()));
   }
 
-  @SneakyThrows
   private Link getPreferencesLink(String userPreferencesId) {
-    return linkTo(methodOn(UserPreferencesController.class).get(userPreferencesId)).withRel(USER_PREFERENCES_REL);
+    return getLink("UserPreferencesController#get#user", id -> linkTo(
+      methodOn(UserPreferencesController.class).get(id)).withRel(USER_PREFERENCES_REL), userPreferencesId);
   }
 
-  @SneakyThrows
   public Link getCurrentUserPreferencesSelfLink() {
-    return linkTo(methodOn(UserProfileController.class).getPreferences()).withRel(USER_PREFERENCES_REL);
+    return getLink("UserProfileController#getPreferences#user",
+      () -> linkTo(methodOn(UserProfileController.class).getPreferences()).withRel(USER_PREFERENCES_REL));
   }
 
-  @SneakyThrows
-  private @NonNull Affordance getUpdateAffordance(String username) {
-    return afford(methodOn(UserController.class).update(username, null));
+  private @NonNull Affordance getUpdateAffordance(String userId) {
+    return getAffordance("UserController#update",
+      id -> afford(methodOn(UserController.class).update(id, null)), userId);
   }
 
-  @SneakyThrows
-  private @NonNull Affordance getUpdateRoleAffordance(String username) {
-    return afford(methodOn(UserController.class).updateRole(username, null));
+  private @NonNull Affordance getUpdateRoleAffordance(String userId) {
+    return getAffordance("UserController#updateRole",
+      id -> afford(methodOn(UserController.class).updateRole(id, null)), userId);
   }
 
-  @SneakyThrows
-  private @NonNull Affordance getUpdateAuthoritiesAffordance(String username) {
-    return afford(methodOn(UserController.class).updateAuthorities(username, null));
+  private @NonNull Affordance getUpdateAuthoritiesAffordance(String userId) {
+    return getAffordance("UserController#updateAuthorities",
+      id -> afford(methodOn(UserController.class).updateAuthorities(id, null)), userId);
   }
 
-  @SneakyThrows
   private @NonNull Affordance getDeleteAffordance(String userId) {
-    return afford(methodOn(UserController.class).delete(userId));
+    return getAffordance("UserController#delete", id -> afford(methodOn(UserController.class).delete(id)), userId);
   }
 
-  @SneakyThrows
   private @NonNull Affordance getSendActivationTokenAffordance(String userId) {
-    return afford(methodOn(UserController.class).requestActivationToken(userId));
+    return getAffordance("UserController#requestActivationToken",
+      id -> afford(methodOn(UserController.class).requestActivationToken(id)), userId);
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateProfileAffordance() {
-    return afford(methodOn(UserProfileController.class).updateProfile(null));
+    return getAffordance("UserProfileController#updateProfile",
+      () -> afford(methodOn(UserProfileController.class).updateProfile(null)));
   }
 
-  @SneakyThrows
   private @NonNull Affordance getChangePasswordAffordance() {
-    return afford(methodOn(UserProfileController.class).changePassword(null));
+    return getAffordance("UserProfileController#changePassword",
+      () -> afford(methodOn(UserProfileController.class).changePassword(null)));
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUploadAvatarAffordance() {
-    return afford(methodOn(UserProfileController.class).uploadAvatar(null));
+    return getAffordance("UserProfileController#uploadAvatar",
+      () -> afford(methodOn(UserProfileController.class).uploadAvatar(null)));
   }
 
-  @SneakyThrows
   private @NonNull Affordance getDeleteProfileAffordance() {
-    return afford(methodOn(UserProfileController.class).deleteProfile());
+    return getAffordance("UserProfileController#deleteProfile",
+      () -> afford(methodOn(UserProfileController.class).deleteProfile()));
   }
 }
@@ -14,24 +14,22 @@ import static dev.kurama.api.core.utility.AuthorityUtils.hasAnyAuthority;
 import static dev.kurama.api.core.utility.AuthorityUtils.hasAuthority;
 import static dev.kurama.api.core.utility.AuthorityUtils.isCurrentUserId;
 import static dev.kurama.api.core.utility.HateoasUtils.withDefaultAffordance;
+import static dev.kurama.api.core.utility.LinkTemplates.getAffordance;
+import static dev.kurama.api.core.utility.LinkTemplates.getLink;
 import static java.lang.String.format;
-import static org.springframework.hateoas.mediatype.Affordances.of;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import dev.kurama.api.core.hateoas.model.UserPreferencesModel;
-import dev.kurama.api.core.hateoas.relations.HateoasRelations;
 import dev.kurama.api.core.rest.UserController;
 import dev.kurama.api.core.rest.UserPreferencesController;
 import dev.kurama.api.core.rest.UserProfileController;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -55,36 +53,34 @@ public class UserPreferencesModelProcessor implements RepresentationModelProcess
     return entity;
   }
 
-  @SneakyThrows
   public Link getSelfLink(String id) {
-    return withDefaultAffordance(linkTo(methodOn(UserPreferencesController.class).get(id)).withSelfRel());
+    return withDefaultAffordance(getLink("UserPreferencesController#get",
+      preferencesId -> linkTo(methodOn(UserPreferencesController.class).get(preferencesId)).withSelfRel(), id));
   }
 
-  @SneakyThrows
   private @NonNull Link getUserLink(String userId) {
-    return linkTo(methodOn(UserController.class).get(userId)).withRel(USER_REL);
+    return getLink("UserController#get#userPreferences",
+      id -> linkTo(methodOn(UserController.class).get(id)).withRel(USER_REL), userId);
   }
 
-  @SneakyThrows
   private @NonNull Link getProfileLink() {
-    return linkTo(methodOn(UserProfileController.class).get()).withRel(CURRENT_USER_REL);
+    return getLink("UserProfileController#get#userPreferences",
+      () -> linkTo(methodOn(UserProfileController.class).get()).withRel(CURRENT_USER_REL));
   }
 
-  @SneakyThrows
   public Link getCurrentUserPreferencesSelfLink() {
-    return of(linkTo(methodOn(UserProfileController.class).getPreferences()).withSelfRel()).afford(HttpMethod.HEAD)
-      .withName(HateoasRelations.DEFAULT)
-      .toLink();
+    return withDefaultAffordance(getLink("UserProfileController#getPreferences",
+      () -> linkTo(methodOn(UserProfileController.class).getPreferences()).withSelfRel()));
   }
 
-  @SneakyThrows
-  private @NonNull Affordance getUpdateAffordance(String username) {
-    return afford(methodOn(UserPreferencesController.class).update(username, null));
+  private @NonNull Affordance getUpdateAffordance(String preferencesId) {
+    return getAffordance("UserPreferencesController#update",
+      id -> afford(methodOn(UserPreferencesController.class).update(id, null)), preferencesId);
   }
 
-  @SneakyThrows
   private @NonNull Affordance getUpdateCurrentUserPreferencesAffordance() {
-    return afford(methodOn(UserProfileController.class).updatePreferences(null));
+    return getAffordance("UserProfileController#updatePreferences",
+      () -> afford(methodOn(UserProfileController.class).updatePreferences(null)));
   }
 
   private @NonNull Link getWebSocket(String id) {
@@ -1,6 +1,7 @@
 package dev.kurama.api.core.listener;
 
 import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.service.LoginActivityRecorder;
 import dev.kurama.api.core.service.LoginAttemptService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +16,16 @@ public class AuthenticationSuccessListener {
   @NonNull
   private final LoginAttemptService loginAttemptService;
 
+  @NonNull
+  private final LoginActivityRecorder loginActivityRecorder;
+
   @EventListener
   public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
     Object principal = event.getAuthentication().getPrincipal();
     if (principal instanceof UserPrincipal) {
-      loginAttemptService.evictUserFromLoginAttemptCache(((UserPrincipal) principal).getUsername());
+      UserPrincipal userPrincipal = (UserPrincipal) principal;
+      loginAttemptService.evictUserFromLoginAttemptCache(userPrincipal.getUsername());
+      loginActivityRecorder.record(userPrincipal.getUser());
     }
   }
 }
@@ -4,6 +4,7 @@ import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.hateoas.model.RoleModel;
 import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Mapper(uses = {AuthorityMapper.class})
 public interface RoleMapper {
@@ -14,4 +15,8 @@ public interface RoleMapper {
     return roles.map(this::roleToRoleModel);
   }
 
+  default Slice<RoleModel> roleSliceToRoleModelSlice(Slice<Role> roles) {
+    return roles.map(this::roleToRoleModel);
+  }
+
 }
@@ -6,12 +6,16 @@ import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.support.AuthenticatedUser;
 import dev.kurama.api.core.hateoas.model.AuthenticatedUserModel;
 import dev.kurama.api.core.hateoas.model.UserModel;
+import dev.kurama.api.core.service.LoginActivityBuffer;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
-@Mapper(uses = {RoleMapper.class, AuthorityMapper.class, UserPreferencesMapper.class})
+@Mapper(uses = {RoleMapper.class, AuthorityMapper.class, UserPreferencesMapper.class, LoginActivityBuffer.class})
 public interface UserMapper {
 
+  @Mapping(target = "lastLoginDateDisplay", source = "user", qualifiedByName = "lastLoginDateDisplay")
   UserModel userToUserModel(User user);
 
   default AuthenticatedUserModel authenticatedUserToModel(AuthenticatedUser authenticatedUser) {
@@ -24,5 +28,9 @@ public interface UserMapper {
   default Page<UserModel> userPageToUserModelPage(Page<User> users) {
     return users.map(this::userToUserModel);
   }
+
+  default Slice<UserModel> userSliceToUserModelSlice(Slice<User> users) {
+    return users.map(this::userToUserModel);
+  }
 }
 
@@ -0,0 +1,23 @@
+package dev.kurama.api.core.message;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import dev.kurama.api.core.event.domain.ApplicationEvent;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeMessage {
+
+  @JsonUnwrapped
+  private ApplicationEvent event;
+
+  private long version;
+
+  private Map<String, Object> data;
+
+  private Map<String, Object> delta;
+}
@@ -0,0 +1,98 @@
+package dev.kurama.api.core.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.kurama.api.core.filter.VerifiedToken;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.flogger.Flogger;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+@Flogger
+@Component
+@RequiredArgsConstructor
+public class ChangePayloadFilter implements ChannelInterceptor {
+
+  public static final String AUTHORITY_HEADER = "x-payload-authority";
+  public static final String OWNER_HEADER = "x-payload-owner";
+
+  private static final List<String> PAYLOAD_FIELDS = List.of("data", "delta");
+
+  @NonNull
+  private final ObjectMapper objectMapper;
+
+  @NonNull
+  private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+  public static Map<String, Object> headers(@NonNull String authority, String owner) {
+    Map<String, Object> headers = new HashMap<>();
+    headers.put(AUTHORITY_HEADER, authority);
+    if (owner != null) {
+      headers.put(OWNER_HEADER, owner);
+    }
+    return headers;
+  }
+
+  @Override
+  public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+    if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+      return message;
+    }
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+    String authority = accessor.getFirstNativeHeader(AUTHORITY_HEADER);
+    String owner = accessor.getFirstNativeHeader(OWNER_HEADER);
+    if (authority == null && owner == null) {
+      return message;
+    }
+    accessor.removeNativeHeader(AUTHORITY_HEADER);
+    accessor.removeNativeHeader(OWNER_HEADER);
+    Object payload = message.getPayload();
+    if (payload instanceof byte[]) {
+      Optional<VerifiedToken> token = Optional.ofNullable(accessor.getSessionId())
+        .flatMap(stompAuthenticationInterceptor::getSessionToken);
+      if (token.filter(verifiedToken -> isPermitted(verifiedToken, authority, owner)).isEmpty()) {
+        payload = withoutPayloadFields((byte[]) payload);
+      }
+    }
+    if (payload == null) {
+      return null;
+    }
+    return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+  }
+
+  private byte[] withoutPayloadFields(byte[] payload) {
+    try {
+      JsonNode node = objectMapper.readTree(payload);
+      if (!(node instanceof ObjectNode) || PAYLOAD_FIELDS.stream().noneMatch(node::has)) {
+        return payload;
+      }
+      ((ObjectNode) node).remove(PAYLOAD_FIELDS);
+      return objectMapper.writeValueAsBytes(node);
+    } catch (IOException e) {
+      log.atWarning().withCause(e).log("Dropping change message with an unreadable payload");
+      return null;
+    }
+  }
+
+  private static boolean isPermitted(VerifiedToken token, String authority, String owner) {
+    if (owner != null && token.getContextUser() != null && Objects.equals(owner, token.getContextUser().getId())) {
+      return true;
+    }
+    return authority != null && token.getAuthorities() != null && token.getAuthorities()
+      .stream()
+      .anyMatch(grantedAuthority -> authority.equals(grantedAuthority.getAuthority()));
+  }
+}
@@ -0,0 +1,133 @@
+package dev.kurama.api.core.message;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.kurama.api.core.configuration.ChangePayloadMode;
+import dev.kurama.api.core.event.domain.ApplicationEvent;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+@Flogger
+@Component
+public class ChangePayloadService {
+
+  private static final TypeReference<LinkedHashMap<String, Object>> FIELDS = new TypeReference<>() {
+  };
+  private static final Set<String> IGNORED_FIELDS = Set.of("links", "_links");
+
+  private final ObjectMapper objectMapper;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ChangePayloadMode mode;
+
+  private final long maxSize;
+
+  private final Cache<String, Snapshot> snapshots;
+
+  public ChangePayloadService(@NonNull ObjectMapper objectMapper,
+                              @NonNull PlatformTransactionManager transactionManager,
+                              @Value("${application.websocket.payload.mode:none}") @NonNull ChangePayloadMode mode,
+                              @Value("${application.websocket.payload.max-size:16KB}") @NonNull DataSize maxSize,
+                              @Value("${application.websocket.payload.snapshot-capacity:10000}") long capacity) {
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.mode = mode;
+    this.maxSize = maxSize.toBytes();
+    this.snapshots = CacheBuilder.newBuilder().maximumSize(capacity).build();
+  }
+
+  public boolean isEnabled() {
+    return mode != ChangePayloadMode.NONE;
+  }
+
+  public <T> Optional<T> load(@NonNull Supplier<Optional<T>> loader) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+    return transactionTemplate.execute(status -> loader.get());
+  }
+
+  public Object toPayload(@NonNull ApplicationEvent event, @NonNull String key, Object model) {
+    if (!isEnabled()) {
+      return event;
+    }
+    Map<String, Object> fields = model != null ? toFields(model) : null;
+    ChangeMessage[] message = new ChangeMessage[1];
+    snapshots.asMap().compute(key, (ignored, previous) -> {
+      ChangeMessage.ChangeMessageBuilder builder = ChangeMessage.builder()
+        .event(event)
+        .version(previous != null ? previous.version + 1 : 1);
+      if (fields != null) {
+        if (mode == ChangePayloadMode.DELTA && previous != null && previous.fields != null) {
+          builder.delta(diff(previous.fields, fields));
+        } else {
+          builder.data(fields);
+        }
+      }
+      message[0] = builder.build();
+      return new Snapshot(message[0].getVersion(), fields);
+    });
+    return capped(message[0]);
+  }
+
+  private ChangeMessage capped(ChangeMessage message) {
+    if (message.getData() == null && message.getDelta() == null) {
+      return message;
+    }
+    try {
+      int size = objectMapper.writeValueAsBytes(message).length;
+      if (size <= maxSize) {
+        return message;
+      }
+      log.atFine().log("Omitting %d byte change payload for %s", size, message.getEvent());
+    } catch (JsonProcessingException e) {
+      log.atWarning().withCause(e).log("Unable to serialize change payload for %s", message.getEvent());
+    }
+    return message.toBuilder().data(null).delta(null).build();
+  }
+
+  private Map<String, Object> toFields(Object model) {
+    Map<String, Object> fields = objectMapper.convertValue(model, FIELDS);
+    fields.keySet().removeAll(IGNORED_FIELDS);
+    return fields;
+  }
+
+  private static Map<String, Object> diff(Map<String, Object> previous, Map<String, Object> current) {
+    Map<String, Object> delta = new HashMap<>();
+    current.forEach((field, value) -> {
+      if (!previous.containsKey(field) || !Objects.equals(previous.get(field), value)) {
+        delta.put(field, value);
+      }
+    });
+    previous.keySet().stream().filter(field -> !current.containsKey(field)).forEach(field -> delta.put(field, null));
+    return delta;
+  }
+
+  private static final class Snapshot {
+
+    private final long version;
+    private final Map<String, Object> fields;
+
+    private Snapshot(long version, Map<String, Object> fields) {
+      this.version = version;
+      this.fields = fields;
+    }
+  }
+}
@@ -2,7 +2,11 @@ package dev.kurama.api.core.message;
 
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
 
+import dev.kurama.api.core.authority.GlobalSettingsAuthority;
 import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent;
+import dev.kurama.api.core.mapper.GlobalSettingsMapper;
+import dev.kurama.api.core.service.GlobalSettingsService;
+import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -17,8 +21,20 @@ public class GlobalSettingsChangedMessageSender {
   @NonNull
   private final SimpMessagingTemplate template;
 
+  @NonNull
+  private final ChangePayloadService changePayloadService;
+
+  @NonNull
+  private final GlobalSettingsService globalSettingsService;
+
+  @NonNull
+  private final GlobalSettingsMapper globalSettingsMapper;
+
   public void sendGlobalSettingsChangedMessage(@NonNull GlobalSettingsChangedEvent event) {
-    template.convertAndSend(GLOBAL_SETTINGS_CHANGED_CHANNEL, event);
+    template.convertAndSend(GLOBAL_SETTINGS_CHANGED_CHANNEL, changePayloadService.toPayload(event, "global-settings",
+      changePayloadService.load(() -> Optional.ofNullable(globalSettingsService.getGlobalSettings())
+        .map(globalSettingsMapper::globalSettingsToGlobalSettingsModel)).orElse(null)),
+      ChangePayloadFilter.headers(GlobalSettingsAuthority.GLOBAL_SETTINGS_READ, null));
   }
 
 }
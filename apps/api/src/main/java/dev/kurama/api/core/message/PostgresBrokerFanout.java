@@ -0,0 +1,200 @@
+package dev.kurama.api.core.message;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.utility.UuidUtils;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+@Flogger
+@Component
+@ConditionalOnProperty(name = "application.websocket.broker.mode", havingValue = "postgres")
+public class PostgresBrokerFanout implements ChannelInterceptor, SmartLifecycle {
+
+  public static final String NOTIFY_CHANNEL = "ami_broker";
+  public static final String ORIGIN_HEADER = "brokerFanoutOrigin";
+
+  private static final String NOTIFY_QUERY = "select pg_notify(?, ?)";
+  private static final int MAX_NOTIFICATION_SIZE = 7900;
+
+  private final DataSource dataSource;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final MessageChannel brokerChannel;
+
+  private final int pollTimeout;
+
+  private final String nodeId = UuidUtils.randomUUID();
+
+  private volatile boolean running;
+
+  private Thread listener;
+
+  @Autowired
+  public PostgresBrokerFanout(@NonNull DataSource dataSource,
+                              @NonNull ObjectMapper objectMapper,
+                              @Lazy @Qualifier("brokerChannel") @NonNull MessageChannel brokerChannel,
+                              @Value("${application.websocket.broker.poll-timeout:500}") int pollTimeout) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.objectMapper = objectMapper;
+    this.brokerChannel = brokerChannel;
+    this.pollTimeout = pollTimeout;
+  }
+
+  @Override
+  public void postSend(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent) {
+    if (!sent
+      || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE
+      || message.getHeaders().containsKey(ORIGIN_HEADER)
+      || !(message.getPayload() instanceof byte[])) {
+      return;
+    }
+    String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    if (destination == null) {
+      return;
+    }
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+    MimeType contentType = accessor.getContentType();
+    try {
+      String notification = objectMapper.writeValueAsString(new FanoutMessage(nodeId, destination,
+        contentType != null ? contentType.toString() : null, accessor.toNativeHeaderMap(),
+        Base64.getEncoder().encodeToString((byte[]) message.getPayload())));
+      int size = notification.getBytes(StandardCharsets.UTF_8).length;
+      if (size > MAX_NOTIFICATION_SIZE) {
+        log.atWarning().log("Message to %s is too large to fan out (%d bytes)", destination, size);
+        return;
+      }
+      jdbcTemplate.query(NOTIFY_QUERY, ResultSet::next, NOTIFY_CHANNEL, notification);
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.atWarning().withCause(e).log("Unable to fan out message to %s", destination);
+    }
+  }
+
+  @Override
+  public synchronized void start() {
+    running = true;
+    listener = new Thread(this::listen, "broker-fanout-" + nodeId);
+    listener.setDaemon(true);
+    listener.start();
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    if (listener != null) {
+      listener.interrupt();
+      listener = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = dataSource.getConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + NOTIFY_CHANNEL);
+        }
+        log.atInfo().log("Listening for broker fan-out on %s as node %s", NOTIFY_CHANNEL, nodeId);
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(pollTimeout);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              deliver(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (running) {
+          log.atWarning().withCause(e).log("Lost broker fan-out connection, reconnecting");
+          pause();
+        }
+      }
+    }
+  }
+
+  private void deliver(String notification) {
+    try {
+      FanoutMessage fanoutMessage = objectMapper.readValue(notification, FanoutMessage.class);
+      if (nodeId.equals(fanoutMessage.getOrigin())) {
+        return;
+      }
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+      accessor.setDestination(fanoutMessage.getDestination());
+      if (fanoutMessage.getContentType() != null) {
+        accessor.setContentType(MimeType.valueOf(fanoutMessage.getContentType()));
+      }
+      if (fanoutMessage.getNativeHeaders() != null) {
+        fanoutMessage.getNativeHeaders()
+          .forEach((name, values) -> values.forEach(value -> accessor.addNativeHeader(name, value)));
+      }
+      accessor.setHeader(ORIGIN_HEADER, fanoutMessage.getOrigin());
+      brokerChannel.send(MessageBuilder.createMessage(Base64.getDecoder().decode(fanoutMessage.getPayload()),
+        accessor.getMessageHeaders()));
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      log.atWarning().withCause(e).log("Dropping unreadable broker fan-out notification");
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(pollTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class FanoutMessage {
+
+    private String origin;
+
+    private String destination;
+
+    private String contentType;
+
+    private Map<String, List<String>> nativeHeaders;
+
+    private String payload;
+  }
+}
@@ -3,7 +3,11 @@ package dev.kurama.api.core.message;
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
 import static java.lang.String.format;
 
+import dev.kurama.api.core.authority.RoleAuthority;
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.mapper.RoleMapper;
+import dev.kurama.api.core.service.RoleService;
+import java.util.Map;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -19,9 +23,22 @@ public class RoleChangedMessageSender {
   @NonNull
   private final SimpMessagingTemplate template;
 
+  @NonNull
+  private final ChangePayloadService changePayloadService;
+
+  @NonNull
+  private final RoleService roleService;
+
+  @NonNull
+  private final RoleMapper roleMapper;
+
   public void sendRoleChangedMessage(@NonNull RoleChangedEvent event) {
-    template.convertAndSend(format(ROLE_CHANGED_CHANNEL, event.getRoleId()), event);
-    template.convertAndSend(ROLES_CHANGED_CHANNEL, event);
+    Object payload = changePayloadService.toPayload(event, "role:" + event.getRoleId(),
+      changePayloadService.load(() -> roleService.findRoleById(event.getRoleId()).map(roleMapper::roleToRoleModel))
+        .orElse(null));
+    Map<String, Object> headers = ChangePayloadFilter.headers(RoleAuthority.ROLE_READ, null);
+    template.convertAndSend(format(ROLE_CHANGED_CHANNEL, event.getRoleId()), payload, headers);
+    template.convertAndSend(ROLES_CHANGED_CHANNEL, payload, headers);
   }
 
 }
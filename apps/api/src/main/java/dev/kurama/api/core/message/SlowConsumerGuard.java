@@ -0,0 +1,123 @@
+package dev.kurama.api.core.message;
+
+import dev.kurama.api.core.configuration.SlowConsumerPolicy;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+@Flogger
+@Component
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+  private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+  private final SlowConsumerPolicy policy;
+
+  private final long thresholdMillis;
+
+  private final WebSocketMetrics webSocketMetrics;
+
+  private final Clock clock;
+
+  @Autowired
+  public SlowConsumerGuard(
+    @Value("${application.websocket.slow-consumer.policy:drop}") @NonNull SlowConsumerPolicy policy,
+    @Value("${application.websocket.slow-consumer.threshold:2s}") @NonNull Duration threshold,
+    @NonNull WebSocketMetrics webSocketMetrics) {
+    this(policy, threshold, webSocketMetrics, Clock.systemUTC());
+  }
+
+  SlowConsumerGuard(@NonNull SlowConsumerPolicy policy, @NonNull Duration threshold,
+                    @NonNull WebSocketMetrics webSocketMetrics, @NonNull Clock clock) {
+    this.policy = policy;
+    this.thresholdMillis = threshold.toMillis();
+    this.webSocketMetrics = webSocketMetrics;
+    this.clock = clock;
+  }
+
+  @Override
+  public WebSocketHandler decorate(@NonNull WebSocketHandler handler) {
+    return new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+        TrackedSession trackedSession = new TrackedSession(session);
+        sessions.put(session.getId(), trackedSession);
+        super.afterConnectionEstablished(trackedSession);
+      }
+
+      @Override
+      public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus closeStatus)
+        throws Exception {
+        sessions.remove(session.getId());
+        if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+          webSocketMetrics.recordSlowConsumer(SlowConsumerPolicy.DISCONNECT);
+        }
+        super.afterConnectionClosed(session, closeStatus);
+      }
+    };
+  }
+
+  @Override
+  public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    TrackedSession session = sessionId != null ? sessions.get(sessionId) : null;
+    if (session == null || !session.isBlocked(clock.millis() - thresholdMillis)) {
+      return message;
+    }
+    if (policy == SlowConsumerPolicy.DROP) {
+      webSocketMetrics.recordSlowConsumer(SlowConsumerPolicy.DROP);
+      return null;
+    }
+    if (sessions.remove(sessionId) != null) {
+      log.atWarning().log("Disconnecting slow WebSocket session %s", sessionId);
+      try {
+        session.getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+      } catch (IOException e) {
+        log.atWarning().withCause(e).log("Unable to close slow WebSocket session %s", sessionId);
+      }
+    }
+    return null;
+  }
+
+  private final class TrackedSession extends WebSocketSessionDecorator {
+
+    private volatile long sendStartedAt;
+
+    private TrackedSession(WebSocketSession session) {
+      super(session);
+    }
+
+    @Override
+    public void sendMessage(@NonNull WebSocketMessage<?> message) throws IOException {
+      sendStartedAt = clock.millis();
+      try {
+        super.sendMessage(message);
+      } finally {
+        sendStartedAt = 0;
+      }
+    }
+
+    private boolean isBlocked(long since) {
+      long startedAt = sendStartedAt;
+      return startedAt != 0 && startedAt < since;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package dev.kurama.api.core.message;
+
+import com.google.common.net.HttpHeaders;
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.filter.VerifiedToken;
+import dev.kurama.api.core.service.TokenRevocationService;
+import dev.kurama.api.core.utility.JWTTokenCache;
+import dev.kurama.api.core.utility.JWTTokenProvider;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+@Flogger
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+  private final Map<String, VerifiedToken> sessionTokens = new ConcurrentHashMap<>();
+
+  private final JWTTokenCache jwtTokenCache;
+
+  private final JWTTokenProvider jwtTokenProvider;
+
+  private final TokenRevocationService tokenRevocationService;
+
+  private final MessageChannel clientOutboundChannel;
+
+  public StompAuthenticationInterceptor(
+    @NonNull JWTTokenCache jwtTokenCache,
+    @NonNull JWTTokenProvider jwtTokenProvider,
+    @NonNull TokenRevocationService tokenRevocationService,
+    @Lazy @Qualifier("clientOutboundChannel") @NonNull MessageChannel clientOutboundChannel) {
+    this.jwtTokenCache = jwtTokenCache;
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.tokenRevocationService = tokenRevocationService;
+    this.clientOutboundChannel = clientOutboundChannel;
+  }
+
+  @Override
+  public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+    StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() == null || accessor.getSessionId() == null) {
+      return message;
+    }
+    if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+      authenticate(accessor);
+    } else if (!StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+      VerifiedToken token = sessionTokens.get(accessor.getSessionId());
+      if (token != null && !isValid(token)) {
+        sessionTokens.remove(accessor.getSessionId());
+        throw new MessageDeliveryException(message, SecurityConstant.SESSION_TOKEN_EXPIRED);
+      }
+    }
+    return message;
+  }
+
+  public Optional<VerifiedToken> getSessionToken(@NonNull String sessionId) {
+    return Optional.ofNullable(sessionTokens.get(sessionId)).filter(this::isValid);
+  }
+
+  @EventListener
+  public void onDisconnect(@NonNull SessionDisconnectEvent event) {
+    sessionTokens.remove(event.getSessionId());
+  }
+
+  @Scheduled(fixedDelayString = "${application.websocket.session-expiry-check:10000}")
+  public void closeExpiredSessions() {
+    sessionTokens.entrySet().removeIf(entry -> {
+      if (isValid(entry.getValue())) {
+        return false;
+      }
+      StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+      accessor.setSessionId(entry.getKey());
+      accessor.setMessage(SecurityConstant.SESSION_TOKEN_EXPIRED);
+      clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+      log.atFine().log("Closed WebSocket session %s with an expired token", entry.getKey());
+      return true;
+    });
+  }
+
+  private void authenticate(StompHeaderAccessor accessor) {
+    String authorizationHeader = accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION);
+    if (authorizationHeader == null || !authorizationHeader.startsWith(SecurityConstant.TOKEN_PREFIX)) {
+      return;
+    }
+    jwtTokenCache.getVerifiedToken(authorizationHeader.substring(SecurityConstant.TOKEN_PREFIX.length()))
+      .filter(token -> !tokenRevocationService.isRevoked(token))
+      .ifPresent(token -> {
+        accessor.setUser(jwtTokenProvider.getAuthentication(token, null));
+        sessionTokens.put(accessor.getSessionId(), token);
+      });
+  }
+
+  private boolean isValid(VerifiedToken token) {
+    return !token.isExpired(jwtTokenProvider.getCurrentTimeMillis()) && !tokenRevocationService.isRevoked(token);
+  }
+}
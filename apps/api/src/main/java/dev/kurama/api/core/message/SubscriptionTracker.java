@@ -0,0 +1,74 @@
+package dev.kurama.api.core.message;
+
+import dev.kurama.api.core.configuration.WebSocketBrokerMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@Component
+public class SubscriptionTracker {
+
+  private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+  private final Map<String, Integer> destinationSubscribers = new ConcurrentHashMap<>();
+
+  private final boolean clustered;
+
+  public SubscriptionTracker(@Value("${application.websocket.broker.mode:simple}") @NonNull WebSocketBrokerMode mode) {
+    this.clustered = mode.isClustered();
+  }
+
+  @EventListener
+  public void onSubscribe(@NonNull SessionSubscribeEvent event) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+    String sessionId = accessor.getSessionId();
+    String subscriptionId = accessor.getSubscriptionId();
+    String destination = accessor.getDestination();
+    if (sessionId == null || subscriptionId == null || destination == null) {
+      return;
+    }
+    String previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+      .put(subscriptionId, destination);
+    if (previous != null) {
+      release(previous);
+    }
+    destinationSubscribers.merge(destination, 1, Integer::sum);
+  }
+
+  @EventListener
+  public void onUnsubscribe(@NonNull SessionUnsubscribeEvent event) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+    Map<String, String> subscriptions = accessor.getSessionId() != null
+                                        ? sessionSubscriptions.get(accessor.getSessionId())
+                                        : null;
+    if (subscriptions != null && accessor.getSubscriptionId() != null) {
+      String destination = subscriptions.remove(accessor.getSubscriptionId());
+      if (destination != null) {
+        release(destination);
+      }
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(@NonNull SessionDisconnectEvent event) {
+    Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+    if (subscriptions != null) {
+      subscriptions.values().forEach(this::release);
+    }
+  }
+
+  public boolean hasSubscribers(@NonNull String destination) {
+    return clustered || destinationSubscribers.containsKey(destination);
+  }
+
+  private void release(String destination) {
+    destinationSubscribers.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+  }
+}
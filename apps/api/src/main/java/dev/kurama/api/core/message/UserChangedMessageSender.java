@@ -3,25 +3,115 @@ package dev.kurama.api.core.message;
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
 import static java.lang.String.format;
 
+import com.google.common.collect.Lists;
+import dev.kurama.api.core.authority.UserAuthority;
+import dev.kurama.api.core.event.domain.UserChangedBatchEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.mapper.UserMapper;
+import dev.kurama.api.core.service.UserService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+@Flogger
 @Component
-@RequiredArgsConstructor
 public class UserChangedMessageSender {
 
   public static final String USERS_CHANGED_CHANNEL = ROOT_WEBSOCKET_CHANNEL + "/user";
   public static final String USER_CHANGED_CHANNEL = USERS_CHANGED_CHANNEL + "/%s";
 
-  @NonNull
   private final SimpMessagingTemplate template;
 
-  public void sendUserChangedMessage(@NonNull UserChangedEvent event) {
-    template.convertAndSend(format(USER_CHANGED_CHANNEL, event.getUserId()), event);
-    template.convertAndSend(USERS_CHANGED_CHANNEL, event);
+  private final SubscriptionTracker subscriptionTracker;
+
+  private final ChangePayloadService changePayloadService;
+
+  private final UserService userService;
+
+  private final UserMapper userMapper;
+
+  private final int batchSize;
+
+  private Map<String, UserChangedEvent> pending = new LinkedHashMap<>();
+
+  public UserChangedMessageSender(@NonNull SimpMessagingTemplate template,
+                                  @NonNull SubscriptionTracker subscriptionTracker,
+                                  @NonNull ChangePayloadService changePayloadService,
+                                  @NonNull UserService userService,
+                                  @NonNull UserMapper userMapper,
+                                  @Value("${application.websocket.user-changed-batch-size:100}") int batchSize) {
+    this.template = template;
+    this.subscriptionTracker = subscriptionTracker;
+    this.changePayloadService = changePayloadService;
+    this.userService = userService;
+    this.userMapper = userMapper;
+    this.batchSize = batchSize;
+  }
+
+  public synchronized void sendUserChangedMessage(@NonNull UserChangedEvent event) {
+    pending.merge(event.getUserId(), event, UserChangedMessageSender::coalesce);
+  }
+
+  public void flush() {
+    List<UserChangedEvent> events;
+    synchronized (this) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      events = new ArrayList<>(pending.values());
+      pending = new LinkedHashMap<>();
+    }
+    boolean collectionSubscribed = subscriptionTracker.hasSubscribers(USERS_CHANGED_CHANNEL);
+    boolean single = events.size() == 1;
+    events.forEach(event -> {
+      String destination = format(USER_CHANGED_CHANNEL, event.getUserId());
+      boolean subscribed = subscriptionTracker.hasSubscribers(destination);
+      if (!subscribed && !(collectionSubscribed && single)) {
+        return;
+      }
+      Object payload = toPayload(event);
+      if (subscribed) {
+        template.convertAndSend(destination, payload,
+          ChangePayloadFilter.headers(UserAuthority.USER_READ, event.getUserId()));
+      }
+      if (collectionSubscribed && single) {
+        template.convertAndSend(USERS_CHANGED_CHANNEL, payload,
+          ChangePayloadFilter.headers(UserAuthority.USER_READ, null));
+      }
+    });
+    if (collectionSubscribed && !single) {
+      events.stream()
+        .collect(Collectors.groupingBy(UserChangedEvent::getAction, LinkedHashMap::new, Collectors.toList()))
+        .forEach((action, actionEvents) -> Lists.partition(actionEvents, batchSize)
+          .forEach(batch -> template.convertAndSend(USERS_CHANGED_CHANNEL, toBatch(action, batch))));
+    }
+    log.atFine().log("Flushed %d coalesced user change(s)", events.size());
+  }
+
+  private Object toPayload(UserChangedEvent event) {
+    return changePayloadService.toPayload(event, "user:" + event.getUserId(), changePayloadService.load(
+      () -> userService.findUserById(event.getUserId()).map(userMapper::userToUserModel)).orElse(null));
+  }
+
+  private static UserChangedEvent coalesce(UserChangedEvent previous, UserChangedEvent next) {
+    return previous.getAction() == UserChangedEventAction.CREATED && next.getAction() == UserChangedEventAction.UPDATED
+           ? previous
+           : next;
+  }
+
+  private static UserChangedBatchEvent toBatch(UserChangedEventAction action, List<UserChangedEvent> events) {
+    return UserChangedBatchEvent.builder()
+      .userIds(events.stream().map(UserChangedEvent::getUserId).collect(Collectors.toList()))
+      .action(action)
+      .build();
   }
 
 }
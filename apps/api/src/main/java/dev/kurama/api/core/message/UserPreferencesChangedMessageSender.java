@@ -3,7 +3,13 @@ package dev.kurama.api.core.message;
 import static dev.kurama.api.core.constant.WebsocketConstant.ROOT_WEBSOCKET_CHANNEL;
 import static java.lang.String.format;
 
+import dev.kurama.api.core.authority.UserPreferencesAuthority;
 import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent;
+import dev.kurama.api.core.exception.domain.not.found.EntityNotFoundException;
+import dev.kurama.api.core.hateoas.model.UserPreferencesModel;
+import dev.kurama.api.core.mapper.UserPreferencesMapper;
+import dev.kurama.api.core.service.UserPreferencesService;
+import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -18,8 +24,31 @@ public class UserPreferencesChangedMessageSender {
   @NonNull
   private final SimpMessagingTemplate template;
 
+  @NonNull
+  private final ChangePayloadService changePayloadService;
+
+  @NonNull
+  private final UserPreferencesService userPreferencesService;
+
+  @NonNull
+  private final UserPreferencesMapper userPreferencesMapper;
+
   public void sendUserPreferencesChangedMessage(@NonNull UserPreferencesChangedEvent event) {
-    template.convertAndSend(format(USERS_PREFERENCES_CHANGED_CHANNEL, event.getUserPreferencesId()), event);
+    Optional<UserPreferencesModel> model = changePayloadService.load(
+      () -> findUserPreferences(event.getUserPreferencesId()));
+    template.convertAndSend(format(USERS_PREFERENCES_CHANGED_CHANNEL, event.getUserPreferencesId()),
+      changePayloadService.toPayload(event, "user-preferences:" + event.getUserPreferencesId(), model.orElse(null)),
+      ChangePayloadFilter.headers(UserPreferencesAuthority.USER_PREFERENCES_READ,
+        model.map(UserPreferencesModel::getUser).map(UserPreferencesModel.PreferencesOwner::getId).orElse(null)));
+  }
+
+  private Optional<UserPreferencesModel> findUserPreferences(String userPreferencesId) {
+    try {
+      return Optional.of(userPreferencesMapper.userPreferencesToUserPreferencesModel(
+        userPreferencesService.findUserPreferencesById(userPreferencesId)));
+    } catch (EntityNotFoundException e) {
+      return Optional.empty();
+    }
   }
 
 }
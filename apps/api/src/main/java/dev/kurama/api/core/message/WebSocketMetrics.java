@@ -0,0 +1,112 @@
+package dev.kurama.api.core.message;
+
+import dev.kurama.api.core.configuration.SlowConsumerPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WebSocketMetrics {
+
+  public static final String PUBLISHED_METRIC = "websocket.messages.published";
+  public static final String DELIVERED_METRIC = "websocket.messages.delivered";
+  public static final String FAILED_METRIC = "websocket.messages.failed";
+  public static final String DROPPED_METRIC = "websocket.messages.dropped";
+  public static final String DISCONNECTED_METRIC = "websocket.sessions.disconnected";
+  public static final String QUEUED_METRIC = "websocket.executor.queued";
+  public static final String ACTIVE_METRIC = "websocket.executor.active";
+  public static final String REJECTED_METRIC = "websocket.executor.rejected";
+
+  private static final String DESTINATION_PARAMETER = "/{id}";
+  private static final int DESTINATION_SEGMENTS = 2;
+
+  private final MeterRegistry registry;
+
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  public WebSocketMetrics(@NonNull MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  public ChannelInterceptor publishedInterceptor() {
+    return new CountingInterceptor(PUBLISHED_METRIC);
+  }
+
+  public ChannelInterceptor deliveredInterceptor() {
+    return new CountingInterceptor(DELIVERED_METRIC);
+  }
+
+  public void recordSlowConsumer(@NonNull SlowConsumerPolicy policy) {
+    String metric = policy == SlowConsumerPolicy.DROP ? DROPPED_METRIC : DISCONNECTED_METRIC;
+    registry.counter(metric, "reason", "slow-consumer").increment();
+  }
+
+  public void monitorExecutor(@NonNull String channel, @NonNull ThreadPoolTaskExecutor executor) {
+    Gauge.builder(QUEUED_METRIC, executor, WebSocketMetrics::queued).tag("channel", channel).register(registry);
+    Gauge.builder(ACTIVE_METRIC, executor, ThreadPoolTaskExecutor::getActiveCount).tag("channel", channel)
+      .register(registry);
+    Counter rejected = Counter.builder(REJECTED_METRIC).tag("channel", channel).register(registry);
+    ThreadPoolExecutor.AbortPolicy abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+    executor.setRejectedExecutionHandler((task, pool) -> {
+      rejected.increment();
+      abortPolicy.rejectedExecution(task, pool);
+    });
+  }
+
+  static String destinationTemplate(String destination) {
+    int index = 0;
+    for (int segment = 0; segment < DESTINATION_SEGMENTS; segment++) {
+      index = destination.indexOf('/', index + 1);
+      if (index < 0) {
+        return destination;
+      }
+    }
+    return destination.substring(0, index) + DESTINATION_PARAMETER;
+  }
+
+  private static double queued(ThreadPoolTaskExecutor executor) {
+    try {
+      return executor.getThreadPoolExecutor().getQueue().size();
+    } catch (IllegalStateException e) {
+      return 0;
+    }
+  }
+
+  private Counter counter(String name, String destination) {
+    String template = destinationTemplate(destination);
+    return counters.computeIfAbsent(name + template,
+      key -> Counter.builder(name).tag("destination", template).register(registry));
+  }
+
+  private final class CountingInterceptor implements ChannelInterceptor {
+
+    private final String metric;
+
+    private CountingInterceptor(String metric) {
+      this.metric = metric;
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent,
+                                    Exception ex) {
+      if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+        return;
+      }
+      String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+      if (destination != null) {
+        counter(sent && ex == null ? metric : FAILED_METRIC, destination).increment();
+      }
+    }
+  }
+}
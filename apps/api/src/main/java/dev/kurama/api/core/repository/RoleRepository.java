@@ -2,7 +2,11 @@ package dev.kurama.api.core.repository;
 
 import dev.kurama.api.core.domain.Role;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +14,12 @@ public interface RoleRepository extends JpaRepository<Role, String> {
 
   Optional<Role> findByName(String name);
 
+  Slice<Role> findAllBy(Pageable pageable);
+
+  @Query("select r from Role r where lower(r.name) like :pattern escape '\\'")
+  Slice<Role> findSliceMatching(@Param("pattern") String pattern, Pageable pageable);
+
+  @Query("select r from Role r where r.name >= :name and (r.name > :name or r.id > :id)")
+  Slice<Role> findAllAfter(@Param("name") String name, @Param("id") String id, Pageable pageable);
+
 }
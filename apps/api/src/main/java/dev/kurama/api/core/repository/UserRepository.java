@@ -1,15 +1,56 @@
 package dev.kurama.api.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import dev.kurama.api.core.domain.User;
 import java.util.Optional;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
 
+  String MATCHING_QUERY = "select u from User u where lower(u.username) like :pattern escape '\\' "
+    + "or lower(u.email) like :pattern escape '\\' "
+    + "or lower(u.firstname) like :pattern escape '\\' "
+    + "or lower(u.lastname) like :pattern escape '\\'";
+
+  @EntityGraph(User.DETAIL_GRAPH)
+  Optional<User> findWithDetailsById(String id);
+
+  @EntityGraph(User.DETAIL_GRAPH)
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Optional<User> findUserByUsername(String username);
 
+  @EntityGraph(User.DETAIL_GRAPH)
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Optional<User> findUserByEmail(String email);
 
+  @Override
+  @EntityGraph(User.LIST_GRAPH)
+  Page<User> findAll(Pageable pageable);
+
+  @EntityGraph(User.LIST_GRAPH)
+  @Query(MATCHING_QUERY)
+  Page<User> findAllMatching(@Param("pattern") String pattern, Pageable pageable);
+
+  @EntityGraph(User.LIST_GRAPH)
+  @Query(MATCHING_QUERY)
+  Slice<User> findSliceMatching(@Param("pattern") String pattern, Pageable pageable);
+
+  @EntityGraph(User.LIST_GRAPH)
+  Slice<User> findAllBy(Pageable pageable);
+
+  @EntityGraph(User.LIST_GRAPH)
+  @Query("select u from User u where u.username >= :username and (u.username > :username or u.id > :id)")
+  Slice<User> findAllAfter(@Param("username") String username, @Param("id") String id, Pageable pageable);
+
 }
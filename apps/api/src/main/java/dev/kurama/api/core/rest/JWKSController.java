@@ -0,0 +1,29 @@
+package dev.kurama.api.core.rest;
+
+import static dev.kurama.api.core.constant.RestPathConstant.JWKS_URL;
+
+import dev.kurama.api.core.utility.JWTKeyRing;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JWKSController {
+
+  @NonNull
+  private final JWTKeyRing keyRing;
+
+  @GetMapping(path = JWKS_URL, produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Map<String, Object>> getJwks() {
+    return ResponseEntity.ok()
+      .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+      .body(keyRing.getJwks());
+  }
+}
@@ -1,5 +1,7 @@
 package dev.kurama.api.core.rest;
 
+import static dev.kurama.api.core.constant.PagingConstant.COUNT_PARAM;
+import static dev.kurama.api.core.constant.PagingConstant.CURSOR_PARAM;
 import static dev.kurama.api.core.constant.RestPathConstant.ROLE_PATH;
 import static org.springframework.beans.support.PagedListHolder.DEFAULT_PAGE_SIZE;
 import static org.springframework.http.ResponseEntity.noContent;
@@ -16,6 +18,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -46,6 +49,28 @@ public class RoleController {
     return ok().body(roleFacade.getAll(pageable, search));
   }
 
+  @GetMapping(params = {COUNT_PARAM + "=false", "!" + CURSOR_PARAM})
+  @PreAuthorize("hasAuthority(@RoleAuthority.ROLE_READ)")
+  public ResponseEntity<PagedModel<RoleModel>> getAllSliced(@PageableDefault(page = 0, size = DEFAULT_PAGE_SIZE, sort
+    = "name") Pageable pageable,
+                                                             @RequestParam(value = "search", required = false)
+                                                             String search) {
+    return ok().body(roleFacade.getAllSliced(pageable, search));
+  }
+
+  @GetMapping(params = CURSOR_PARAM)
+  @PreAuthorize("hasAuthority(@RoleAuthority.ROLE_READ)")
+  public ResponseEntity<CollectionModel<RoleModel>> getAllByCursor(@RequestParam(CURSOR_PARAM) String cursor,
+                                                                    @PageableDefault(size = DEFAULT_PAGE_SIZE)
+                                                                    Pageable pageable,
+                                                                    @RequestParam(value = "search", required = false)
+                                                                    String search) {
+    if (search != null) {
+      throw new IllegalArgumentException("Search is not supported with cursor paging");
+    }
+    return ok().body(roleFacade.getAllByCursor(cursor, pageable));
+  }
+
   @GetMapping("/{roleId}")
   @PreAuthorize("hasAuthority(@RoleAuthority.ROLE_READ)")
   public ResponseEntity<RoleModel> get(@PathVariable("roleId") String roleId) throws RoleNotFoundException {
@@ -1,5 +1,7 @@
 package dev.kurama.api.core.rest;
 
+import static dev.kurama.api.core.constant.PagingConstant.COUNT_PARAM;
+import static dev.kurama.api.core.constant.PagingConstant.CURSOR_PARAM;
 import static dev.kurama.api.core.constant.RestPathConstant.USER_PATH;
 import static org.springframework.beans.support.PagedListHolder.DEFAULT_PAGE_SIZE;
 import static org.springframework.http.ResponseEntity.created;
@@ -20,6 +22,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -56,6 +59,28 @@ public class UserController {
     return ok().body(userFacade.getAll(pageable, search));
   }
 
+  @GetMapping(params = {COUNT_PARAM + "=false", "!" + CURSOR_PARAM})
+  @PreAuthorize("hasAuthority(@UserAuthority.USER_READ)")
+  public ResponseEntity<PagedModel<UserModel>> getAllSliced(@PageableDefault(page = 0, size = DEFAULT_PAGE_SIZE, sort
+    = "username") Pageable pageable,
+                                                             @RequestParam(value = "search", required = false)
+                                                             String search) {
+    return ok().body(userFacade.getAllSliced(pageable, search));
+  }
+
+  @GetMapping(params = CURSOR_PARAM)
+  @PreAuthorize("hasAuthority(@UserAuthority.USER_READ)")
+  public ResponseEntity<CollectionModel<UserModel>> getAllByCursor(@RequestParam(CURSOR_PARAM) String cursor,
+                                                                    @PageableDefault(size = DEFAULT_PAGE_SIZE)
+                                                                    Pageable pageable,
+                                                                    @RequestParam(value = "search", required = false)
+                                                                    String search) {
+    if (search != null) {
+      throw new IllegalArgumentException("Search is not supported with cursor paging");
+    }
+    return ok().body(userFacade.getAllByCursor(cursor, pageable));
+  }
+
   @PostMapping()
   @PreAuthorize("hasAuthority(@UserAuthority.USER_CREATE)")
   public ResponseEntity<UserModel> create(@RequestBody UserInput userInput) throws UserExistsException {
@@ -1,10 +1,8 @@
 package dev.kurama.api.core.service;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
-import dev.kurama.api.core.authority.TokenAuthority;
 import dev.kurama.api.core.domain.User;
-import dev.kurama.api.core.domain.UserPrincipal;
 import dev.kurama.api.core.domain.support.AuthenticatedUser;
+import dev.kurama.api.core.domain.support.SecurityStamp;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
 import dev.kurama.api.core.utility.JWTTokenProvider;
@@ -24,6 +22,9 @@ public class AuthenticationFacility {
   @NonNull
   private final UserService userService;
 
+  @NonNull
+  private final SecurityStampService securityStampService;
+
   @NonNull
   private final JWTTokenProvider jwtTokenProvider;
 
@@ -36,33 +37,38 @@ public class AuthenticationFacility {
   public AuthenticatedUser login(String username, String password)
     throws RoleCanNotLoginException, UserNotFoundException {
     validateCredentials(username, password);
-    return authenticateUser(
-      userService.findUserByUsername(username).orElseThrow(() -> new UserNotFoundException(username)));
+    User user = userService.findUserByUsername(username).orElseThrow(() -> new UserNotFoundException(username));
+    return authenticateUser(user, securityStampService.toSecurityStamp(user));
   }
 
   public AuthenticatedUser refreshToken(String userId) throws UserNotFoundException, RoleCanNotLoginException {
-    return authenticateUser(userService.findUserById(userId).orElseThrow(() -> new UserNotFoundException(userId)));
+    SecurityStamp securityStamp = securityStampService.getSecurityStamp(userId)
+      .orElseThrow(() -> new UserNotFoundException(userId));
+    validateSecurityStamp(securityStamp);
+    User user = userService.findCachedUserById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+    return authenticateUser(user, securityStamp);
   }
 
   public void validateCredentials(String username, String password) {
     authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
   }
 
-  private AuthenticatedUser authenticateUser(@NonNull User user) throws RoleCanNotLoginException {
-    if (!user.getRole().isCanLogin()) {
-      throw new RoleCanNotLoginException(user.getRole().getName());
-    }
-    if (user.isLocked()) {
-      throw new LockedException(user.getUsername());
-    }
-    UserPrincipal userPrincipal = new UserPrincipal(user);
-    var token = jwtTokenProvider.generateToken(userPrincipal);
-    DecodedJWT decodedToken = jwtTokenProvider.getDecodedJWT(token);
-    SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(decodedToken, context));
-
-    user.getAuthorities().removeIf(authority -> !authority.getName().equals(TokenAuthority.TOKEN_REFRESH));
-    var refreshToken = jwtTokenProvider.generateRefreshToken(new UserPrincipal(user));
+  private AuthenticatedUser authenticateUser(@NonNull User user, @NonNull SecurityStamp securityStamp)
+    throws RoleCanNotLoginException {
+    validateSecurityStamp(securityStamp);
+    var token = jwtTokenProvider.generateToken(securityStamp);
+    SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(securityStamp, context));
+    var refreshToken = jwtTokenProvider.generateRefreshToken(securityStamp);
 
     return AuthenticatedUser.builder().user(user).token(token).refreshToken(refreshToken).build();
   }
+
+  private void validateSecurityStamp(SecurityStamp securityStamp) throws RoleCanNotLoginException {
+    if (!securityStamp.isCanLogin()) {
+      throw new RoleCanNotLoginException(securityStamp.getRoleName());
+    }
+    if (securityStamp.isLocked()) {
+      throw new LockedException(securityStamp.getUsername());
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package dev.kurama.api.core.service;
 
+import dev.kurama.api.core.configuration.AsyncConfiguration;
 import dev.kurama.api.core.domain.EmailTemplate;
 import javax.mail.internet.MimeMessage;
 import lombok.NonNull;
@@ -18,7 +19,7 @@ public class EmailService {
   @NonNull
   private final JavaMailSender emailSender;
 
-  @Async
+  @Async(AsyncConfiguration.EMAIL_TASK_EXECUTOR)
   public void sendEmail(EmailTemplate emailTemplate) {
     try {
       MimeMessage mimeMessage = emailSender.createMimeMessage();
@@ -0,0 +1,51 @@
+package dev.kurama.api.core.service;
+
+import dev.kurama.api.core.domain.User;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NonNull;
+import org.mapstruct.Named;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoginActivityBuffer {
+
+  private final Map<String, LoginActivity> pending = new ConcurrentHashMap<>();
+
+  @Named("lastLoginDateDisplay")
+  public Date getLastLoginDateDisplay(@NonNull User user) {
+    LoginActivity activity = pending.get(user.getId());
+    return activity != null ? activity.getLastLoginDateDisplay() : user.getLastLoginDateDisplay();
+  }
+
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  LoginActivity record(@NonNull User user, @NonNull Date loginDate) {
+    return pending.compute(user.getId(), (id, previous) -> new LoginActivity(loginDate,
+      previous != null ? previous.getLastLoginDate() : user.getLastLoginDate()));
+  }
+
+  List<Map.Entry<String, LoginActivity>> snapshot() {
+    return new ArrayList<>(pending.entrySet());
+  }
+
+  void remove(String userId, LoginActivity activity) {
+    pending.remove(userId, activity);
+  }
+
+  @Data
+  @AllArgsConstructor
+  static class LoginActivity {
+
+    private final Date lastLoginDate;
+
+    private final Date lastLoginDateDisplay;
+  }
+}
@@ -0,0 +1,81 @@
+package dev.kurama.api.core.service;
+
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.service.LoginActivityBuffer.LoginActivity;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Flogger
+@Service
+public class LoginActivityRecorder {
+
+  private static final String UPDATE_QUERY = "update %s.\"user\" set last_login_date = ?, last_login_date_display = ? where id = ?";
+
+  private final LoginActivityBuffer loginActivityBuffer;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  private final String updateQuery;
+
+  private final int batchSize;
+
+  public LoginActivityRecorder(@NonNull LoginActivityBuffer loginActivityBuffer,
+                               @NonNull JdbcTemplate jdbcTemplate,
+                               @NonNull EntityManagerFactory entityManagerFactory,
+                               @Value("${spring.jpa.properties.hibernate.default_schema}") String schema,
+                               @Value("${application.login-activity.batch-size:500}") int batchSize) {
+    this.loginActivityBuffer = loginActivityBuffer;
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManagerFactory = entityManagerFactory;
+    this.updateQuery = String.format(UPDATE_QUERY, schema);
+    this.batchSize = batchSize;
+  }
+
+  public void record(@NonNull User user) {
+    loginActivityBuffer.record(user, new Date());
+  }
+
+  public int getPendingCount() {
+    return loginActivityBuffer.getPendingCount();
+  }
+
+  @PreDestroy
+  @Scheduled(fixedDelayString = "${application.login-activity.flush-interval:5000}")
+  public void flush() {
+    List<Map.Entry<String, LoginActivity>> batch = loginActivityBuffer.snapshot();
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      jdbcTemplate.batchUpdate(updateQuery, batch, batchSize, (statement, entry) -> {
+        statement.setTimestamp(1, toTimestamp(entry.getValue().getLastLoginDate()));
+        statement.setTimestamp(2, toTimestamp(entry.getValue().getLastLoginDateDisplay()));
+        statement.setString(3, entry.getKey());
+      });
+    } catch (DataAccessException e) {
+      log.atWarning().withCause(e).log("Could not flush %d login activities, retrying later", batch.size());
+      return;
+    }
+    batch.forEach(entry -> {
+      entityManagerFactory.getCache().evict(User.class, entry.getKey());
+      loginActivityBuffer.remove(entry.getKey(), entry.getValue());
+    });
+  }
+
+  private Timestamp toTimestamp(Date date) {
+    return date != null ? new Timestamp(date.getTime()) : null;
+  }
+}
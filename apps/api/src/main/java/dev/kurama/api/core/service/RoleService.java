@@ -7,12 +7,14 @@ import static org.apache.logging.log4j.util.Strings.isEmpty;
 
 import dev.kurama.api.core.domain.Authority;
 import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.event.emitter.RoleChangedEventEmitter;
 import dev.kurama.api.core.exception.domain.ImmutableRoleException;
 import dev.kurama.api.core.exception.domain.exists.RoleExistsException;
 import dev.kurama.api.core.exception.domain.not.found.RoleNotFoundException;
 import dev.kurama.api.core.hateoas.input.RoleUpdateInput;
 import dev.kurama.api.core.repository.RoleRepository;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.NonNull;
@@ -22,7 +24,11 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -50,6 +56,24 @@ public class RoleService {
     }
   }
 
+  public Slice<Role> getAllRolesSlice(Pageable pageable, String search) {
+    if (isEmpty(search)) {
+      return roleRepository.findAllBy(pageable);
+    } else {
+      return roleRepository.findSliceMatching(
+        "%" + EscapeCharacter.DEFAULT.escape(search.toLowerCase(Locale.ROOT)) + "%", pageable);
+    }
+  }
+
+  public Slice<Role> getAllRoles(KeysetCursor cursor, int size) {
+    Pageable pageable = PageRequest.of(0, size, Sort.by("name", "id"));
+    if (cursor == null) {
+      return roleRepository.findAllBy(pageable);
+    } else {
+      return roleRepository.findAllAfter(cursor.getKey(), cursor.getId(), pageable);
+    }
+  }
+
   public Optional<Role> findRoleById(String id) {
     return roleRepository.findById(id);
   }
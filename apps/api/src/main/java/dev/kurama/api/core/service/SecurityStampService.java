@@ -0,0 +1,70 @@
+package dev.kurama.api.core.service;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.kurama.api.core.domain.Authority;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.support.SecurityStamp;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SecurityStampService {
+
+  private final UserService userService;
+
+  private final Cache<String, SecurityStamp> securityStamps;
+
+  private final AtomicLong version = new AtomicLong();
+
+  public SecurityStampService(@NonNull UserService userService) {
+    this.userService = userService;
+    this.securityStamps = CacheBuilder.newBuilder().expireAfterWrite(15, MINUTES).maximumSize(10_000).build();
+  }
+
+  public Optional<SecurityStamp> getSecurityStamp(String userId) {
+    SecurityStamp securityStamp = securityStamps.getIfPresent(userId);
+    if (securityStamp != null) {
+      return Optional.of(securityStamp);
+    }
+    long loadedVersion = version.get();
+    Optional<SecurityStamp> loaded = userService.findCachedUserById(userId)
+      .map(user -> toSecurityStamp(user, loadedVersion));
+    loaded.filter(stamp -> version.get() == loadedVersion).ifPresent(stamp -> securityStamps.put(userId, stamp));
+    return loaded;
+  }
+
+  public SecurityStamp toSecurityStamp(@NonNull User user) {
+    return toSecurityStamp(user, version.get());
+  }
+
+  public void evictUser(String userId) {
+    version.incrementAndGet();
+    securityStamps.invalidate(userId);
+  }
+
+  public void evictRole(String roleId) {
+    version.incrementAndGet();
+    securityStamps.asMap().values().removeIf(stamp -> roleId == null || roleId.equals(stamp.getRoleId()));
+  }
+
+  private SecurityStamp toSecurityStamp(User user, long stampVersion) {
+    return SecurityStamp.builder()
+      .userId(user.getId())
+      .username(user.getUsername())
+      .roleId(user.getRole() != null ? user.getRole().getId() : null)
+      .roleName(user.getRole() != null ? user.getRole().getName() : null)
+      .canLogin(user.getRole() != null && user.getRole().isCanLogin())
+      .locked(user.isLocked())
+      .authorities(Collections.unmodifiableList(
+        user.getAuthorities().stream().map(Authority::getName).collect(Collectors.toList())))
+      .version(stampVersion)
+      .build();
+  }
+}
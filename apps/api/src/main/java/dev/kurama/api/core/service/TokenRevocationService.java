@@ -0,0 +1,103 @@
+package dev.kurama.api.core.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.filter.VerifiedToken;
+import dev.kurama.api.core.service.revocation.RevocationStore;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.List;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Flogger
+@Service
+public class TokenRevocationService {
+
+  // tolerates clock skew and late commits between nodes sharing the revocation store
+  private static final long SYNC_OVERLAP = 60_000L;
+
+  private final RevocationStore store;
+
+  private final int expectedInsertions;
+
+  private final double falsePositiveProbability;
+
+  private final Clock clock;
+
+  private volatile BloomFilter<CharSequence> filter;
+
+  private int filterCapacity;
+
+  private long lastSync;
+
+  @Autowired
+  public TokenRevocationService(
+    @NonNull RevocationStore store,
+    @Value("${application.token-revocation.expected-insertions:100000}") int expectedInsertions,
+    @Value("${application.token-revocation.false-positive-probability:0.01}") double falsePositiveProbability) {
+    this(store, expectedInsertions, falsePositiveProbability, Clock.systemUTC());
+  }
+
+  TokenRevocationService(@NonNull RevocationStore store, int expectedInsertions, double falsePositiveProbability,
+                         @NonNull Clock clock) {
+    this.store = store;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveProbability = falsePositiveProbability;
+    this.clock = clock;
+    this.filter = newFilter(expectedInsertions);
+    sync();
+  }
+
+  public synchronized void revokeUser(@NonNull String userId) {
+    store.revoke(userId, truncateToSeconds(clock.millis()));
+    filter.put(userId);
+  }
+
+  public boolean isRevoked(@NonNull VerifiedToken token) {
+    return isRevoked(token.getContextUser() != null ? token.getContextUser().getId() : null, token.getIssuedAt());
+  }
+
+  // iat only carries seconds, so a token issued in the revocation second is rejected as well
+  public boolean isRevoked(String userId, long issuedAt) {
+    if (userId == null || !filter.mightContain(userId)) {
+      return false;
+    }
+    return store.getRevokedAt(userId).filter(revokedAt -> truncateToSeconds(issuedAt) <= revokedAt).isPresent();
+  }
+
+  @Scheduled(fixedDelayString = "${application.token-revocation.sync-interval:5000}")
+  public synchronized void sync() {
+    long now = clock.millis();
+    List<String> revoked = store.findRevokedSince(lastSync - SYNC_OVERLAP);
+    revoked.forEach(filter::put);
+    lastSync = now;
+  }
+
+  @Scheduled(fixedDelayString = "${application.token-revocation.prune-interval:60000}")
+  public synchronized void prune() {
+    int pruned = store.prune(clock.millis() - SecurityConstant.REFRESH_TOKEN_LIFE_SPAN);
+    if (pruned == 0 && filter.approximateElementCount() <= filterCapacity) {
+      return;
+    }
+    List<String> remaining = store.findRevokedSince(Long.MIN_VALUE);
+    BloomFilter<CharSequence> rebuilt = newFilter(Math.max(expectedInsertions, remaining.size() * 2));
+    remaining.forEach(rebuilt::put);
+    filter = rebuilt;
+    log.atFine().log("Pruned %d expired revocation(s), %d remaining", pruned, remaining.size());
+  }
+
+  private static long truncateToSeconds(long millis) {
+    return millis - Math.floorMod(millis, 1000L);
+  }
+
+  private BloomFilter<CharSequence> newFilter(int insertions) {
+    filterCapacity = insertions;
+    return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), insertions, falsePositiveProbability);
+  }
+}
@@ -2,12 +2,13 @@ package dev.kurama.api.core.service;
 
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.event.emitter.UserChangedEventEmitter;
 import dev.kurama.api.core.repository.UserRepository;
-import java.util.Date;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,7 +16,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Service
 @Qualifier("userDetailsService")
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
   @NonNull
   private final UserRepository userRepository;
@@ -23,22 +24,32 @@ public class UserDetailsServiceImpl implements UserDetailsService {
   @NonNull
   private final LoginAttemptService loginAttemptService;
 
+  @NonNull
+  private final UserChangedEventEmitter userChangedEventEmitter;
+
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
     var user = userRepository.findUserByUsername(username)
       .orElseThrow(() -> new UsernameNotFoundException("User not found by username: " + username));
     validateLoginAttempt(user);
-    user.setLastLoginDateDisplay(user.getLastLoginDate());
-    user.setLastLoginDate(new Date());
-    userRepository.save(user);
     return new UserPrincipal(user);
   }
 
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    var user = userRepository.findUserByUsername(userDetails.getUsername())
+      .orElseThrow(() -> new UsernameNotFoundException("User not found by username: " + userDetails.getUsername()));
+    user.setPassword(newPassword);
+    return new UserPrincipal(userRepository.save(user));
+  }
+
   private void validateLoginAttempt(User user) {
     if (user.isLocked()) {
       loginAttemptService.evictUserFromLoginAttemptCache(user.getUsername());
-    } else {
-      user.setLocked(loginAttemptService.hasExceededMaxAttempts(user.getUsername()));
+    } else if (loginAttemptService.hasExceededMaxAttempts(user.getUsername())) {
+      user.setLocked(true);
+      userRepository.save(user);
+      userChangedEventEmitter.emitUserUpdatedEvent(user.getId());
     }
   }
 }
@@ -1,6 +1,5 @@
 package dev.kurama.api.core.service;
 
-import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.apache.logging.log4j.util.Strings.isEmpty;
@@ -13,6 +12,7 @@ import dev.kurama.api.core.domain.GlobalSettings;
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPreferences;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.event.emitter.UserChangedEventEmitter;
 import dev.kurama.api.core.exception.domain.ActivationTokenExpiredException;
 import dev.kurama.api.core.exception.domain.ActivationTokenRecentException;
@@ -28,19 +28,20 @@ import dev.kurama.api.core.hateoas.input.UserInput;
 import dev.kurama.api.core.repository.UserRepository;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.flogger.Flogger;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -81,6 +82,10 @@ public class UserService {
   }
 
   public Optional<User> findUserById(String id) {
+    return userRepository.findWithDetailsById(id);
+  }
+
+  public Optional<User> findCachedUserById(String id) {
     return userRepository.findById(id);
   }
 
@@ -96,7 +101,24 @@ public class UserService {
     if (isEmpty(search)) {
       return userRepository.findAll(pageable);
     } else {
-      return userRepository.findAll(getUserExample(search), pageable);
+      return userRepository.findAllMatching(getSearchPattern(search), pageable);
+    }
+  }
+
+  public Slice<User> getAllUsersSlice(Pageable pageable, String search) {
+    if (isEmpty(search)) {
+      return userRepository.findAllBy(pageable);
+    } else {
+      return userRepository.findSliceMatching(getSearchPattern(search), pageable);
+    }
+  }
+
+  public Slice<User> getAllUsers(KeysetCursor cursor, int size) {
+    Pageable pageable = PageRequest.of(0, size, Sort.by("username", "id"));
+    if (cursor == null) {
+      return userRepository.findAllBy(pageable);
+    } else {
+      return userRepository.findAllAfter(cursor.getKey(), cursor.getId(), pageable);
     }
   }
 
@@ -114,7 +136,6 @@ public class UserService {
 
     var userInput = UserInput.builder()
       .username(signupInput.getUsername())
-      .password(randomUUID())
       .email(signupInput.getEmail())
       .firstname(signupInput.getFirstname())
       .lastname(signupInput.getLastname())
@@ -141,7 +162,7 @@ public class UserService {
     User user = User.builder()
       .setRandomUUID()
       .username(userInput.getUsername())
-      .password(passwordEncoder.encode(userInput.getPassword()))
+      .password(userInput.getPassword() != null ? passwordEncoder.encode(userInput.getPassword()) : null)
       .email(userInput.getEmail())
       .firstname(userInput.getFirstname())
       .lastname(userInput.getLastname())
@@ -256,14 +277,16 @@ public class UserService {
     user.setPassword(passwordEncoder.encode(accountActivationInput.getPassword()));
     user.setActivationToken(null);
     userRepository.saveAndFlush(user);
+    userChangedEventEmitter.emitUserUpdatedEvent(user.getId());
   }
 
   @Transactional
   public void requestActivationToken(User user) throws ActivationTokenRecentException {
     user.setActivationToken(activationTokenService.createActivationToken(user));
-    user.setPassword(passwordEncoder.encode(UUID.randomUUID().toString()));
+    user.clearPassword();
     user.setLocked(true);
     userRepository.saveAndFlush(user);
+    userChangedEventEmitter.emitUserUpdatedEvent(user.getId());
 
     sendActivationTokenEmail(user, user.getActivationToken().getId());
   }
@@ -303,13 +326,7 @@ public class UserService {
     user.setAuthorities(Sets.newHashSet(role.getAuthorities()));
   }
 
-  private Example<User> getUserExample(String search) {
-    return Example.of(User.builder().username(search).email(search).firstname(search).lastname(search).build(),
-      ExampleMatcher.matchingAny()
-        .withIgnorePaths("active", "locked", "expired", "credentialsExpired")
-        .withMatcher("username", GenericPropertyMatchers.contains().ignoreCase())
-        .withMatcher("email", GenericPropertyMatchers.contains().ignoreCase())
-        .withMatcher("firstname", GenericPropertyMatchers.contains().ignoreCase())
-        .withMatcher("lastname", GenericPropertyMatchers.contains().ignoreCase()));
+  private String getSearchPattern(String search) {
+    return "%" + EscapeCharacter.DEFAULT.escape(search.toLowerCase(Locale.ROOT)) + "%";
   }
 }
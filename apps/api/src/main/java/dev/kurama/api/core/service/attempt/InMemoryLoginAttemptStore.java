@@ -0,0 +1,141 @@
+package dev.kurama.api.core.service.attempt;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+  private static final int COUNT_BITS = 16;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+  private static final long INDEX_MASK = (1L << (64 - 2 * COUNT_BITS)) - 1;
+
+  private final Map<String, Counter>[] stripes;
+
+  private final int stripeCapacity;
+
+  private final SlidingWindow window;
+
+  private final Clock clock;
+
+  @SuppressWarnings("unchecked")
+  public InMemoryLoginAttemptStore(@NonNull SlidingWindow window, int capacity, int stripes, @NonNull Clock clock) {
+    if (capacity <= 0 || stripes <= 0 || Integer.bitCount(stripes) != 1) {
+      throw new IllegalArgumentException("Capacity must be positive and stripes a power of two");
+    }
+    this.window = window;
+    this.clock = clock;
+    this.stripeCapacity = Math.max(1, capacity / stripes);
+    this.stripes = new Map[stripes];
+    for (int i = 0; i < stripes; i++) {
+      this.stripes[i] = new ConcurrentHashMap<>();
+    }
+  }
+
+  @Override
+  public int increment(String key) {
+    long now = clock.millis();
+    Map<String, Counter> stripe = stripeOf(key);
+    Counter counter = stripe.get(key);
+    if (counter == null) {
+      long seed = stripe.size() >= stripeCapacity ? makeRoom(stripe, now) : 0;
+      counter = stripe.computeIfAbsent(key, k -> new Counter(seed));
+    }
+    return counter.increment(now);
+  }
+
+  @Override
+  public int count(String key) {
+    Counter counter = stripeOf(key).get(key);
+    return counter != null ? counter.estimate(clock.millis()) : 0;
+  }
+
+  @Override
+  public void reset(String key) {
+    stripeOf(key).remove(key);
+  }
+
+  public int size() {
+    int size = 0;
+    for (Map<String, Counter> stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private Map<String, Counter> stripeOf(String key) {
+    int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+  }
+
+  // Space-saving eviction: the newcomer inherits the lowest counter, so a key never reads lower than its true count
+  private long makeRoom(Map<String, Counter> stripe, long now) {
+    stripe.values().removeIf(counter -> counter.isExpired(now));
+    if (stripe.size() < stripeCapacity) {
+      return 0;
+    }
+    Map.Entry<String, Counter> lowest = null;
+    int lowestCount = Integer.MAX_VALUE;
+    for (Map.Entry<String, Counter> entry : stripe.entrySet()) {
+      int count = entry.getValue().estimate(now);
+      if (count < lowestCount) {
+        lowest = entry;
+        lowestCount = count;
+      }
+    }
+    return lowest != null && stripe.remove(lowest.getKey(), lowest.getValue()) ? lowest.getValue().state.get() : 0;
+  }
+
+  private class Counter {
+
+    private final AtomicLong state;
+
+    Counter(long state) {
+      this.state = new AtomicLong(state);
+    }
+
+    int increment(long now) {
+      long windowIndex = window.indexOf(now);
+      long previousState;
+      long nextState;
+      do {
+        previousState = state.get();
+        long stateIndex = indexOf(previousState, now);
+        int current = (int) (previousState & COUNT_MASK);
+        int previous = (int) ((previousState >>> COUNT_BITS) & COUNT_MASK);
+        if (stateIndex == windowIndex) {
+          current = (int) Math.min(current + 1L, COUNT_MASK);
+        } else {
+          previous = stateIndex == windowIndex - 1 ? current : 0;
+          current = 1;
+        }
+        nextState = pack(windowIndex, current, previous);
+      } while (!state.compareAndSet(previousState, nextState));
+      return estimate(nextState, now);
+    }
+
+    int estimate(long now) {
+      return estimate(state.get(), now);
+    }
+
+    boolean isExpired(long now) {
+      return window.isExpired(indexOf(state.get(), now), now);
+    }
+
+    private int estimate(long value, long now) {
+      return window.estimate(indexOf(value, now), (int) (value & COUNT_MASK),
+        (int) ((value >>> COUNT_BITS) & COUNT_MASK), now);
+    }
+
+    private long indexOf(long value, long now) {
+      long nowIndex = window.indexOf(now);
+      return nowIndex - ((nowIndex - (value >>> (2 * COUNT_BITS))) & INDEX_MASK);
+    }
+
+    private long pack(long windowIndex, int current, int previous) {
+      return ((windowIndex & INDEX_MASK) << (2 * COUNT_BITS)) | ((long) previous << COUNT_BITS) | current;
+    }
+  }
+}
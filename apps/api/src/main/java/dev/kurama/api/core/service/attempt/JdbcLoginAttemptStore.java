@@ -0,0 +1,80 @@
+package dev.kurama.api.core.service.attempt;
+
+import java.time.Clock;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class JdbcLoginAttemptStore implements LoginAttemptStore {
+
+  private static final String INCREMENT_QUERY = "insert into %1$s.login_attempt as a "
+    + "(username, window_index, current_count, previous_count) values (?, ?, 1, 0) "
+    + "on conflict (username) do update set "
+    + "previous_count = case when a.window_index >= excluded.window_index then a.previous_count "
+    + "when a.window_index = excluded.window_index - 1 then a.current_count else 0 end, "
+    + "current_count = case when a.window_index >= excluded.window_index then a.current_count + 1 else 1 end, "
+    + "window_index = greatest(a.window_index, excluded.window_index) "
+    + "returning window_index, current_count, previous_count";
+
+  private static final String COUNT_QUERY = "select window_index, current_count, previous_count "
+    + "from %1$s.login_attempt where username = ?";
+
+  private static final String RESET_QUERY = "delete from %1$s.login_attempt where username = ?";
+
+  private static final String PRUNE_QUERY = "delete from %1$s.login_attempt where window_index < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final SlidingWindow window;
+
+  private final Clock clock;
+
+  private final String incrementQuery;
+
+  private final String countQuery;
+
+  private final String resetQuery;
+
+  private final String pruneQuery;
+
+  public JdbcLoginAttemptStore(@NonNull JdbcTemplate jdbcTemplate, @NonNull SlidingWindow window,
+                               @NonNull Clock clock, @NonNull String schema) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.window = window;
+    this.clock = clock;
+    this.incrementQuery = String.format(INCREMENT_QUERY, schema);
+    this.countQuery = String.format(COUNT_QUERY, schema);
+    this.resetQuery = String.format(RESET_QUERY, schema);
+    this.pruneQuery = String.format(PRUNE_QUERY, schema);
+  }
+
+  @Override
+  public int increment(String key) {
+    long now = clock.millis();
+    return jdbcTemplate.queryForObject(incrementQuery, estimateMapper(now), key, window.indexOf(now));
+  }
+
+  @Override
+  public int count(String key) {
+    long now = clock.millis();
+    List<Integer> counts = jdbcTemplate.query(countQuery, estimateMapper(now), key);
+    return counts.isEmpty() ? 0 : counts.get(0);
+  }
+
+  @Override
+  public void reset(String key) {
+    jdbcTemplate.update(resetQuery, key);
+  }
+
+  @Scheduled(fixedDelayString = "${application.login-attempts.prune-interval:300000}")
+  public void prune() {
+    jdbcTemplate.update(pruneQuery, window.indexOf(clock.millis()) - 1);
+  }
+
+  private RowMapper<Integer> estimateMapper(long now) {
+    return (rs, rowNum) -> window.estimate(rs.getLong("window_index"), rs.getInt("current_count"),
+      rs.getInt("previous_count"), now);
+  }
+}
@@ -0,0 +1,10 @@
+package dev.kurama.api.core.service.attempt;
+
+public interface LoginAttemptStore {
+
+  int increment(String key);
+
+  int count(String key);
+
+  void reset(String key);
+}
@@ -0,0 +1,37 @@
+package dev.kurama.api.core.service.attempt;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.NonNull;
+
+@Getter
+public class SlidingWindow {
+
+  private final long windowMillis;
+
+  public SlidingWindow(@NonNull Duration window) {
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("Sliding window must be positive: " + window);
+    }
+    this.windowMillis = window.toMillis();
+  }
+
+  public long indexOf(long timeMillis) {
+    return timeMillis / windowMillis;
+  }
+
+  public int estimate(long windowIndex, int current, int previous, long nowMillis) {
+    long nowIndex = indexOf(nowMillis);
+    double remaining = 1 - (double) (nowMillis % windowMillis) / windowMillis;
+    if (windowIndex == nowIndex) {
+      return current + (int) (previous * remaining);
+    } else if (windowIndex == nowIndex - 1) {
+      return (int) (current * remaining);
+    }
+    return 0;
+  }
+
+  public boolean isExpired(long windowIndex, long nowMillis) {
+    return windowIndex < indexOf(nowMillis) - 1;
+  }
+}
@@ -0,0 +1,37 @@
+package dev.kurama.api.core.service.revocation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class InMemoryRevocationStore implements RevocationStore {
+
+  private final Map<String, Long> revokedUsers = new ConcurrentHashMap<>();
+
+  @Override
+  public void revoke(String userId, long revokedAt) {
+    revokedUsers.merge(userId, revokedAt, Math::max);
+  }
+
+  @Override
+  public Optional<Long> getRevokedAt(String userId) {
+    return Optional.ofNullable(revokedUsers.get(userId));
+  }
+
+  @Override
+  public List<String> findRevokedSince(long since) {
+    return revokedUsers.entrySet().stream()
+      .filter(entry -> entry.getValue() >= since)
+      .map(Map.Entry::getKey)
+      .collect(Collectors.toList());
+  }
+
+  @Override
+  public int prune(long revokedBefore) {
+    int before = revokedUsers.size();
+    revokedUsers.values().removeIf(revokedAt -> revokedAt <= revokedBefore);
+    return before - revokedUsers.size();
+  }
+}
@@ -0,0 +1,56 @@
+package dev.kurama.api.core.service.revocation;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JdbcRevocationStore implements RevocationStore {
+
+  private static final String REVOKE_QUERY = "insert into %1$s.token_revocation as r (user_id, revoked_at) "
+    + "values (?, ?) on conflict (user_id) do update set revoked_at = greatest(r.revoked_at, excluded.revoked_at)";
+
+  private static final String REVOKED_AT_QUERY = "select revoked_at from %1$s.token_revocation where user_id = ?";
+
+  private static final String REVOKED_SINCE_QUERY = "select user_id from %1$s.token_revocation where revoked_at >= ?";
+
+  private static final String PRUNE_QUERY = "delete from %1$s.token_revocation where revoked_at <= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final String revokeQuery;
+
+  private final String revokedAtQuery;
+
+  private final String revokedSinceQuery;
+
+  private final String pruneQuery;
+
+  public JdbcRevocationStore(@NonNull JdbcTemplate jdbcTemplate, @NonNull String schema) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.revokeQuery = String.format(REVOKE_QUERY, schema);
+    this.revokedAtQuery = String.format(REVOKED_AT_QUERY, schema);
+    this.revokedSinceQuery = String.format(REVOKED_SINCE_QUERY, schema);
+    this.pruneQuery = String.format(PRUNE_QUERY, schema);
+  }
+
+  @Override
+  public void revoke(String userId, long revokedAt) {
+    jdbcTemplate.update(revokeQuery, userId, revokedAt);
+  }
+
+  @Override
+  public Optional<Long> getRevokedAt(String userId) {
+    return jdbcTemplate.queryForList(revokedAtQuery, Long.class, userId).stream().findFirst();
+  }
+
+  @Override
+  public List<String> findRevokedSince(long since) {
+    return jdbcTemplate.queryForList(revokedSinceQuery, String.class, since);
+  }
+
+  @Override
+  public int prune(long revokedBefore) {
+    return jdbcTemplate.update(pruneQuery, revokedBefore);
+  }
+}
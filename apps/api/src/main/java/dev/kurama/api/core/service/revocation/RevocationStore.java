@@ -0,0 +1,15 @@
+package dev.kurama.api.core.service.revocation;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RevocationStore {
+
+  void revoke(String userId, long revokedAt);
+
+  Optional<Long> getRevokedAt(String userId);
+
+  List<String> findRevokedSince(long since);
+
+  int prune(long revokedBefore);
+}
@@ -0,0 +1,92 @@
+package dev.kurama.api.core.utility;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import dev.kurama.api.core.authority.AdminAuthority;
+import dev.kurama.api.core.authority.AuthorityAuthority;
+import dev.kurama.api.core.authority.GlobalSettingsAuthority;
+import dev.kurama.api.core.authority.ProfileAuthority;
+import dev.kurama.api.core.authority.RoleAuthority;
+import dev.kurama.api.core.authority.ServiceLogsAuthority;
+import dev.kurama.api.core.authority.TokenAuthority;
+import dev.kurama.api.core.authority.UserAuthority;
+import dev.kurama.api.core.authority.UserPreferencesAuthority;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthorityClaimCodec {
+
+  public static final String VERSION = "1";
+  private static final String SEPARATOR = ".";
+
+  // Issued tokens depend on these bit positions: only append entries, anything else needs a new VERSION
+  static final List<String> V1_AUTHORITIES = ImmutableList.of(TokenAuthority.TOKEN_REFRESH,
+    ProfileAuthority.PROFILE_UPDATE, ProfileAuthority.PROFILE_READ, ProfileAuthority.PROFILE_DELETE,
+    UserAuthority.USER_READ, UserAuthority.USER_CREATE, UserAuthority.USER_UPDATE, UserAuthority.USER_UPDATE_ROLE,
+    UserAuthority.USER_UPDATE_AUTHORITIES, UserAuthority.USER_DELETE,
+    UserPreferencesAuthority.USER_PREFERENCES_READ, UserPreferencesAuthority.USER_PREFERENCES_UPDATE,
+    RoleAuthority.ROLE_READ, RoleAuthority.ROLE_CREATE, RoleAuthority.ROLE_UPDATE, RoleAuthority.ROLE_UPDATE_CORE,
+    RoleAuthority.ROLE_DELETE,
+    AuthorityAuthority.AUTHORITY_CREATE, AuthorityAuthority.AUTHORITY_READ, AuthorityAuthority.AUTHORITY_UPDATE,
+    AuthorityAuthority.AUTHORITY_DELETE,
+    AdminAuthority.ADMIN_ROOT, AdminAuthority.ADMIN_USER_MANAGEMENT_ROOT, AdminAuthority.ADMIN_ROLE_MANAGEMENT_ROOT,
+    ServiceLogsAuthority.SERVICE_LOGS_READ, ServiceLogsAuthority.SERVICE_LOGS_DELETE,
+    GlobalSettingsAuthority.GLOBAL_SETTINGS_READ, GlobalSettingsAuthority.GLOBAL_SETTINGS_UPDATE);
+
+  private static final Map<String, Integer> V1_INDEXES = buildIndexes();
+
+  public static String encode(String[] authorities) {
+    BitSet bits = new BitSet(V1_AUTHORITIES.size());
+    for (String authority : authorities) {
+      Integer index = V1_INDEXES.get(authority);
+      if (index != null) {
+        bits.set(index);
+      }
+    }
+    return VERSION + SEPARATOR + Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+  }
+
+  public static String[] unindexed(String[] authorities) {
+    List<String> unindexed = new ArrayList<>();
+    for (String authority : authorities) {
+      if (!V1_INDEXES.containsKey(authority)) {
+        unindexed.add(authority);
+      }
+    }
+    return unindexed.toArray(String[]::new);
+  }
+
+  public static List<GrantedAuthority> decode(String claim) {
+    int separator = claim.indexOf(SEPARATOR);
+    if (separator < 0 || !VERSION.equals(claim.substring(0, separator))) {
+      throw new JWTDecodeException("Unsupported authority encoding");
+    }
+    BitSet bits;
+    try {
+      bits = BitSet.valueOf(Base64.getUrlDecoder().decode(claim.substring(separator + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new JWTDecodeException("Malformed authority encoding", e);
+    }
+    List<GrantedAuthority> authorities = new ArrayList<>(bits.cardinality());
+    for (int i = bits.nextSetBit(0); i >= 0 && i < V1_AUTHORITIES.size(); i = bits.nextSetBit(i + 1)) {
+      authorities.add(GrantedAuthorityPool.getGrantedAuthority(V1_AUTHORITIES.get(i)));
+    }
+    return authorities;
+  }
+
+  private static Map<String, Integer> buildIndexes() {
+    ImmutableMap.Builder<String, Integer> indexes = ImmutableMap.builder();
+    for (int i = 0; i < V1_AUTHORITIES.size(); i++) {
+      indexes.put(V1_AUTHORITIES.get(i), i);
+    }
+    return indexes.build();
+  }
+}
@@ -0,0 +1,45 @@
+package dev.kurama.api.core.utility;
+
+import com.google.common.collect.ImmutableMap;
+import dev.kurama.api.core.authority.DefaultAuthority;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthorityIndex {
+
+  public static final int NOT_INDEXED = -1;
+  private static final Map<String, Integer> INDEXES = buildIndexes();
+
+  public static int indexOf(String authority) {
+    Integer index = INDEXES.get(authority);
+    return index != null ? index : NOT_INDEXED;
+  }
+
+  public static int size() {
+    return INDEXES.size();
+  }
+
+  public static BitSet toBitSet(Collection<? extends GrantedAuthority> authorities) {
+    BitSet authorityBits = new BitSet(INDEXES.size());
+    for (GrantedAuthority authority : authorities) {
+      int index = indexOf(authority.getAuthority());
+      if (index != NOT_INDEXED) {
+        authorityBits.set(index);
+      }
+    }
+    return authorityBits;
+  }
+
+  private static Map<String, Integer> buildIndexes() {
+    ImmutableMap.Builder<String, Integer> indexes = ImmutableMap.builder();
+    for (int i = 0; i < DefaultAuthority.AUTHORITIES.size(); i++) {
+      indexes.put(DefaultAuthority.AUTHORITIES.get(i), i);
+    }
+    return indexes.build();
+  }
+}
@@ -2,18 +2,19 @@ package dev.kurama.api.core.utility;
 
 import com.google.common.collect.Lists;
 import dev.kurama.api.core.filter.ContextUser;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class AuthorityUtils {
 
+  private static final String ROLE_ANONYMOUS = "ROLE_ANONYMOUS";
+
   public static Authentication getAuthentication() {
     return SecurityContextHolder.getContext().getAuthentication();
   }
@@ -43,18 +44,52 @@ public class AuthorityUtils {
   }
 
   public static boolean hasAuthority(String authority) {
-    return getAuthorities().contains(new SimpleGrantedAuthority(authority));
+    return hasAuthority(getAuthentication(), authority);
   }
 
   public static boolean hasAllAuthorities(String... authorities) {
-    return Arrays.stream(authorities).allMatch(AuthorityUtils::hasAuthority);
+    Authentication authentication = getAuthentication();
+    for (String authority : authorities) {
+      if (!hasAuthority(authentication, authority)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   public static boolean hasAnyAuthority(String... authorities) {
-    return Arrays.stream(authorities).anyMatch(AuthorityUtils::hasAuthority);
+    Authentication authentication = getAuthentication();
+    for (String authority : authorities) {
+      if (hasAuthority(authentication, authority)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   public static boolean isAuthenticated() {
-    return !getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ANONYMOUS"));
+    return !hasAuthority(ROLE_ANONYMOUS);
+  }
+
+  private static boolean hasAuthority(Authentication authentication, String authority) {
+    if (authentication == null) {
+      return false;
+    }
+    BitSet authorityBits = getAuthorityBits(authentication);
+    int index = AuthorityIndex.indexOf(authority);
+    if (authorityBits != null && index != AuthorityIndex.NOT_INDEXED) {
+      return authorityBits.get(index);
+    }
+    for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+      if (authority.equals(grantedAuthority.getAuthority())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static BitSet getAuthorityBits(Authentication authentication) {
+    Object principal = authentication.getPrincipal();
+    return principal instanceof ContextUser ? ((ContextUser) principal).getAuthorityBits() : null;
   }
 }
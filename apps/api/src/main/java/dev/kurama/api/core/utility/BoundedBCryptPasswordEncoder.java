@@ -0,0 +1,108 @@
+package dev.kurama.api.core.utility;
+
+import dev.kurama.api.core.exception.domain.PasswordHashingSaturatedException;
+import dev.kurama.api.core.exception.domain.PasswordHashingUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class BoundedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+  private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+  @Getter
+  private final int strength;
+
+  private final ThreadPoolExecutor executor;
+
+  private final Duration timeout;
+
+  public BoundedBCryptPasswordEncoder(int strength, int threads, int queueCapacity, @NonNull Duration timeout) {
+    super(strength);
+    if (threads <= 0 || queueCapacity <= 0) {
+      throw new IllegalArgumentException("Password hashing threads and queue capacity must be positive");
+    }
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+    threadFactory.setDaemon(true);
+    this.strength = strength;
+    this.timeout = timeout;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  public static int calibrateStrength(@NonNull Duration targetLatency, int minStrength, int maxStrength) {
+    if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+      throw new IllegalArgumentException("Invalid BCrypt strength range: " + minStrength + "-" + maxStrength);
+    }
+    BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+    probe.encode(CALIBRATION_PASSWORD);
+    long fastest = Long.MAX_VALUE;
+    for (int i = 0; i < 3; i++) {
+      long start = System.nanoTime();
+      probe.encode(CALIBRATION_PASSWORD);
+      fastest = Math.min(fastest, System.nanoTime() - start);
+    }
+    int strength = minStrength;
+    long estimate = fastest;
+    while (strength < maxStrength && estimate * 2 <= targetLatency.toNanos()) {
+      estimate *= 2;
+      strength++;
+    }
+    return strength;
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> super.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    if (encodedPassword == null || encodedPassword.isEmpty()) {
+      return false;
+    }
+    return execute(() -> super.matches(rawPassword, encodedPassword));
+  }
+
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T execute(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new PasswordHashingSaturatedException("Password hashing queue is full", e);
+    }
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new PasswordHashingUnavailableException("Password hashing timed out", e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingUnavailableException("Password hashing interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new PasswordHashingUnavailableException("Password hashing failed", e.getCause());
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package dev.kurama.api.core.utility;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GrantedAuthorityPool {
+
+  private static final ConcurrentMap<String, GrantedAuthority> POOL = new ConcurrentHashMap<>();
+
+  static {
+    DefaultAuthority.AUTHORITIES.forEach(GrantedAuthorityPool::getGrantedAuthority);
+  }
+
+  public static GrantedAuthority getGrantedAuthority(String authority) {
+    GrantedAuthority grantedAuthority = POOL.get(authority);
+    return grantedAuthority != null ? grantedAuthority : POOL.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+  }
+}
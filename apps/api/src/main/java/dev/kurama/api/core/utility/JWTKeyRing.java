@@ -0,0 +1,302 @@
+package dev.kurama.api.core.utility;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.google.common.hash.Hashing;
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.utility.signing.SigningKeyStore;
+import dev.kurama.api.core.utility.signing.StoredSigningKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.flogger.Flogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Flogger
+@Component
+public class JWTKeyRing {
+
+  private static final int RSA_KEY_SIZE = 2048;
+  private static final String EC_CURVE = "secp256r1";
+  private static final int EC_COORDINATE_SIZE = 32;
+
+  private final JWTSigningAlgorithm signingAlgorithm;
+
+  private final String secret;
+
+  private final long keyRetention;
+
+  private final long rotationInterval;
+
+  private final long publishLead;
+
+  private final SigningKeyStore store;
+
+  private final Clock clock;
+
+  private volatile KeyState state;
+
+  @Autowired
+  public JWTKeyRing(@Value("${application.jwt.algorithm:HS512}") @NonNull JWTSigningAlgorithm signingAlgorithm,
+                    @Value("${application.jwt.secret:}") String secret,
+                    @Value("${application.jwt.key-retention:2h}") @NonNull Duration keyRetention,
+                    @Value("${application.jwt.rotation-interval:86400000}") long rotationInterval,
+                    @Value("${application.jwt.refresh-interval:60000}") long refreshInterval,
+                    @NonNull SigningKeyStore store) {
+    this(signingAlgorithm, secret, keyRetention, rotationInterval, refreshInterval, store, Clock.systemUTC());
+  }
+
+  JWTKeyRing(@NonNull JWTSigningAlgorithm signingAlgorithm, String secret, @NonNull Duration keyRetention,
+             long rotationInterval, long refreshInterval, @NonNull SigningKeyStore store, @NonNull Clock clock) {
+    if (!signingAlgorithm.isAsymmetric() && (secret == null || secret.isEmpty())) {
+      throw new IllegalArgumentException("A secret is required for " + signingAlgorithm);
+    }
+    if (keyRetention.toMillis() < SecurityConstant.REFRESH_TOKEN_LIFE_SPAN) {
+      throw new IllegalArgumentException("Key retention must outlive the refresh token life span");
+    }
+    if (signingAlgorithm.isAsymmetric() && rotationInterval <= 2 * refreshInterval) {
+      throw new IllegalArgumentException("Rotation interval must exceed twice the refresh interval");
+    }
+    this.signingAlgorithm = signingAlgorithm;
+    this.secret = secret;
+    this.keyRetention = keyRetention.toMillis();
+    this.rotationInterval = rotationInterval;
+    // every node refreshes at least once between a key being published and it signing tokens
+    this.publishLead = 2 * refreshInterval;
+    this.store = store;
+    this.clock = clock;
+    if (signingAlgorithm.isAsymmetric()) {
+      refresh();
+    } else {
+      this.state = KeyState.of(newSecretKey(), List.of(), signingAlgorithm);
+    }
+  }
+
+  public String sign(@NonNull JWTCreator.Builder builder) {
+    SigningKey signingKey = state.current;
+    return builder.withKeyId(signingKey.kid).sign(signingKey.algorithm);
+  }
+
+  public DecodedJWT verify(@NonNull String token) {
+    DecodedJWT decoded = JWT.decode(token);
+    KeyState current = state;
+    JWTVerifier verifier = decoded.getKeyId() != null
+                           ? current.verifiers.get(decoded.getKeyId())
+                           : current.legacyVerifier;
+    if (verifier == null) {
+      throw new JWTVerificationException(SecurityConstant.TOKEN_CANNOT_BE_VERIFIED);
+    }
+    return verifier.verify(decoded);
+  }
+
+  public Map<String, Object> getJwks() {
+    return state.jwks;
+  }
+
+  public String getCurrentKeyId() {
+    return state.current.kid;
+  }
+
+  @Scheduled(fixedDelayString = "${application.jwt.refresh-interval:60000}",
+             initialDelayString = "${application.jwt.refresh-interval:60000}")
+  public synchronized void refresh() {
+    if (!signingAlgorithm.isAsymmetric()) {
+      return;
+    }
+    long now = clock.millis();
+    List<StoredSigningKey> stored = store.findAll(signingAlgorithm);
+    if (stored.isEmpty()) {
+      publish(now, Long.MIN_VALUE);
+    } else if (stored.get(0).getActivatesAt() + rotationInterval <= now + publishLead) {
+      publish(now + publishLead, now + publishLead - rotationInterval);
+    }
+    store.prune(signingAlgorithm, now - keyRetention);
+    KeyState previous = state;
+    state = load(store.findAll(signingAlgorithm), now);
+    if (previous == null || !previous.current.kid.equals(state.current.kid)) {
+      log.atInfo().log("Signing with %s key %s, %d other key(s) verifiable", signingAlgorithm, state.current.kid,
+        state.verifiers.size() - 1);
+    }
+  }
+
+  private void publish(long activatesAt, long dueAfter) {
+    StoredSigningKey key = newStoredKey(activatesAt);
+    if (store.publishIfDue(key, dueAfter)) {
+      log.atInfo().log("Published %s key %s", signingAlgorithm, key.getKid());
+    }
+  }
+
+  private KeyState load(List<StoredSigningKey> stored, long now) {
+    SigningKey current = null;
+    List<SigningKey> others = new ArrayList<>();
+    long supersededAt = Long.MAX_VALUE;
+    for (StoredSigningKey key : stored) {
+      if (key.getActivatesAt() > now) {
+        others.add(toSigningKey(key));
+      } else if (current == null) {
+        current = toSigningKey(key);
+      } else if (now - supersededAt < keyRetention) {
+        others.add(toSigningKey(key));
+      }
+      supersededAt = key.getActivatesAt();
+    }
+    if (current == null) {
+      // only pending keys are published yet, e.g. when this node's clock lags behind the publisher's
+      current = others.remove(others.size() - 1);
+    }
+    return KeyState.of(current, others, signingAlgorithm);
+  }
+
+  private SigningKey newSecretKey() {
+    String kid = Hashing.sha256().hashString(secret, StandardCharsets.UTF_8).toString().substring(0, 16);
+    return new SigningKey(kid, Algorithm.HMAC512(secret), null);
+  }
+
+  private StoredSigningKey newStoredKey(long activatesAt) {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance(keyType());
+      if (signingAlgorithm == JWTSigningAlgorithm.RS256) {
+        generator.initialize(RSA_KEY_SIZE);
+      } else {
+        generator.initialize(new ECGenParameterSpec(EC_CURVE));
+      }
+      KeyPair keyPair = generator.generateKeyPair();
+      return StoredSigningKey.builder()
+        .kid(UUID.randomUUID().toString())
+        .algorithm(signingAlgorithm)
+        .publicKey(keyPair.getPublic().getEncoded())
+        .privateKey(keyPair.getPrivate().getEncoded())
+        .activatesAt(activatesAt)
+        .build();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to generate " + signingAlgorithm + " signing key", e);
+    }
+  }
+
+  private SigningKey toSigningKey(StoredSigningKey key) {
+    try {
+      KeyFactory factory = KeyFactory.getInstance(keyType());
+      KeyPair keyPair = new KeyPair(factory.generatePublic(new X509EncodedKeySpec(key.getPublicKey())),
+        factory.generatePrivate(new PKCS8EncodedKeySpec(key.getPrivateKey())));
+      return signingAlgorithm == JWTSigningAlgorithm.RS256
+             ? toRsaSigningKey(key.getKid(), keyPair)
+             : toEcSigningKey(key.getKid(), keyPair);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to load " + signingAlgorithm + " signing key " + key.getKid(), e);
+    }
+  }
+
+  private String keyType() {
+    return signingAlgorithm == JWTSigningAlgorithm.RS256 ? "RSA" : "EC";
+  }
+
+  private SigningKey toRsaSigningKey(String kid, KeyPair keyPair) {
+    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+    Map<String, Object> jwk = new LinkedHashMap<>();
+    jwk.put("kty", "RSA");
+    jwk.put("use", "sig");
+    jwk.put("alg", signingAlgorithm.name());
+    jwk.put("kid", kid);
+    jwk.put("n", base64Url(unsigned(publicKey.getModulus(), 0)));
+    jwk.put("e", base64Url(unsigned(publicKey.getPublicExponent(), 0)));
+    return new SigningKey(kid, Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate()), jwk);
+  }
+
+  private SigningKey toEcSigningKey(String kid, KeyPair keyPair) {
+    ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+    Map<String, Object> jwk = new LinkedHashMap<>();
+    jwk.put("kty", "EC");
+    jwk.put("use", "sig");
+    jwk.put("alg", signingAlgorithm.name());
+    jwk.put("kid", kid);
+    jwk.put("crv", "P-256");
+    jwk.put("x", base64Url(unsigned(publicKey.getW().getAffineX(), EC_COORDINATE_SIZE)));
+    jwk.put("y", base64Url(unsigned(publicKey.getW().getAffineY(), EC_COORDINATE_SIZE)));
+    return new SigningKey(kid, Algorithm.ECDSA256(publicKey, (ECPrivateKey) keyPair.getPrivate()), jwk);
+  }
+
+  private static byte[] unsigned(BigInteger value, int length) {
+    byte[] bytes = value.toByteArray();
+    int offset = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+    int size = Math.max(bytes.length - offset, length);
+    byte[] result = new byte[size];
+    System.arraycopy(bytes, offset, result, size - (bytes.length - offset), bytes.length - offset);
+    return result;
+  }
+
+  private static String base64Url(byte[] bytes) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  private static final class SigningKey {
+
+    private final String kid;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Map<String, Object> jwk;
+
+    private SigningKey(String kid, Algorithm algorithm, Map<String, Object> jwk) {
+      this.kid = kid;
+      this.algorithm = algorithm;
+      this.verifier = JWT.require(algorithm).withIssuer(SecurityConstant.AUTH_ISSUER).build();
+      this.jwk = jwk != null ? Map.copyOf(jwk) : null;
+    }
+  }
+
+  private static final class KeyState {
+
+    private final SigningKey current;
+    private final Map<String, JWTVerifier> verifiers;
+    private final JWTVerifier legacyVerifier;
+    private final Map<String, Object> jwks;
+
+    private KeyState(SigningKey current, Map<String, JWTVerifier> verifiers, JWTVerifier legacyVerifier,
+                     Map<String, Object> jwks) {
+      this.current = current;
+      this.verifiers = verifiers;
+      this.legacyVerifier = legacyVerifier;
+      this.jwks = jwks;
+    }
+
+    private static KeyState of(SigningKey current, List<SigningKey> others, JWTSigningAlgorithm signingAlgorithm) {
+      Map<String, JWTVerifier> verifiers = new LinkedHashMap<>();
+      verifiers.put(current.kid, current.verifier);
+      others.forEach(key -> verifiers.put(key.kid, key.verifier));
+      List<Map<String, Object>> keys = Stream.concat(Stream.of(current), others.stream())
+        .map(key -> key.jwk)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableList());
+      return new KeyState(current, Map.copyOf(verifiers), signingAlgorithm.isAsymmetric() ? null : current.verifier,
+        Map.of("keys", keys));
+    }
+  }
+}
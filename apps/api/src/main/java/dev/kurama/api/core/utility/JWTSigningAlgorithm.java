@@ -0,0 +1,14 @@
+package dev.kurama.api.core.utility;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JWTSigningAlgorithm {
+  HS512(false),
+  RS256(true),
+  ES256(true);
+
+  private final boolean asymmetric;
+}
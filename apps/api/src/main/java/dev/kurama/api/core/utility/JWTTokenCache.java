@@ -0,0 +1,63 @@
+package dev.kurama.api.core.utility;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.filter.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JWTTokenCache implements MeterBinder {
+
+  public static final String CACHE_NAME = "jwt.verified";
+  private final JWTTokenProvider jwtTokenProvider;
+  private final Cache<HashCode, VerifiedToken> verifiedTokenCache;
+
+  public JWTTokenCache(@NonNull JWTTokenProvider jwtTokenProvider) {
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.verifiedTokenCache = CacheBuilder.newBuilder()
+      .expireAfterWrite(SecurityConstant.REFRESH_TOKEN_LIFE_SPAN, MILLISECONDS)
+      .maximumSize(SecurityConstant.VERIFIED_TOKEN_CACHE_SIZE)
+      .recordStats()
+      .build();
+  }
+
+  public Optional<VerifiedToken> getVerifiedToken(String token) {
+    HashCode key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+    VerifiedToken verifiedToken = verifiedTokenCache.getIfPresent(key);
+    if (verifiedToken != null) {
+      if (!verifiedToken.isExpired(jwtTokenProvider.getCurrentTimeMillis())) {
+        return Optional.of(verifiedToken);
+      }
+      verifiedTokenCache.invalidate(key);
+    }
+
+    DecodedJWT decodedToken = jwtTokenProvider.getDecodedJWT(token);
+    if (!jwtTokenProvider.isTokenValid(decodedToken)) {
+      return Optional.empty();
+    }
+    verifiedToken = jwtTokenProvider.getVerifiedToken(decodedToken);
+    verifiedTokenCache.put(key, verifiedToken);
+    return Optional.of(verifiedToken);
+  }
+
+  public void invalidateAll() {
+    verifiedTokenCache.invalidateAll();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, verifiedTokenCache, CACHE_NAME);
+  }
+}
@@ -3,32 +3,46 @@ package dev.kurama.api.core.utility;
 import static io.micrometer.core.instrument.util.StringUtils.isNotBlank;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import dev.kurama.api.core.authority.TokenAuthority;
 import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.domain.support.SecurityStamp;
 import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.filter.VerifiedToken;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
+import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JWTTokenProvider {
 
-  @Value("${application.jwt.secret}")
-  private String secret;
+  private static final String USER_CLAIM = "user";
+  private static final String USER_CLAIM_ID = "id";
+  private static final String USER_CLAIM_USERNAME = "username";
+
+  private final JWTKeyRing keyRing;
+  private final boolean compactAuthorities;
+
+  public JWTTokenProvider(@NonNull JWTKeyRing keyRing,
+                          @Value("${application.jwt.compact-authorities:false}") boolean compactAuthorities) {
+    this.keyRing = keyRing;
+    this.compactAuthorities = compactAuthorities;
+  }
 
   public String generateToken(UserPrincipal userPrincipal) {
     return generateJwtToken(userPrincipal, SecurityConstant.TOKEN_LIFE_SPAN);
@@ -38,12 +52,26 @@ public class JWTTokenProvider {
     return generateJwtToken(userPrincipal, SecurityConstant.REFRESH_TOKEN_LIFE_SPAN);
   }
 
+  public String generateToken(SecurityStamp securityStamp) {
+    return generateJwtToken(securityStamp.getUserId(), securityStamp.getUsername(),
+      securityStamp.getAuthorities().toArray(String[]::new), SecurityConstant.TOKEN_LIFE_SPAN);
+  }
+
+  public String generateRefreshToken(SecurityStamp securityStamp) {
+    String[] authorities = securityStamp.getAuthorities()
+      .stream()
+      .filter(TokenAuthority.TOKEN_REFRESH::equals)
+      .toArray(String[]::new);
+    return generateJwtToken(securityStamp.getUserId(), securityStamp.getUsername(), authorities,
+      SecurityConstant.REFRESH_TOKEN_LIFE_SPAN);
+  }
+
   public boolean isTokenValid(DecodedJWT token) {
     return isNotBlank(token.getSubject()) && !isTokenExpired(token);
   }
 
   public DecodedJWT getDecodedJWT(String token) {
-    return getJWTVerifier().verify(token);
+    return keyRing.verify(token);
   }
 
   public Authentication getAuthentication(DecodedJWT token, HttpServletRequest request) {
@@ -54,43 +82,93 @@ public class JWTTokenProvider {
     return authenticationToken;
   }
 
+  public Authentication getAuthentication(VerifiedToken token, HttpServletRequest request) {
+    UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+      token.getContextUser(), null, token.getAuthorities());
+    if (request != null) {
+      authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    }
+    return authenticationToken;
+  }
+
+  public Authentication getAuthentication(SecurityStamp securityStamp, HttpServletRequest request) {
+    List<GrantedAuthority> authorities = securityStamp.getAuthorities()
+      .stream()
+      .map(GrantedAuthorityPool::getGrantedAuthority)
+      .collect(Collectors.toUnmodifiableList());
+    ContextUser contextUser = ContextUser.builder()
+      .id(securityStamp.getUserId())
+      .username(securityStamp.getUsername())
+      .authorityBits(AuthorityIndex.toBitSet(authorities))
+      .build();
+    UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(contextUser,
+      null, authorities);
+    if (request != null) {
+      authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    }
+    return authenticationToken;
+  }
+
+  public VerifiedToken getVerifiedToken(DecodedJWT token) {
+    List<GrantedAuthority> authorities = getAuthorities(token);
+    return VerifiedToken.builder()
+      .decodedJWT(token)
+      .tokenId(token.getId())
+      .authorities(authorities)
+      .contextUser(getContextUser(token, authorities))
+      .issuedAt(token.getIssuedAt() != null ? token.getIssuedAt().getTime() : 0L)
+      .expiresAt(token.getExpiresAt().getTime())
+      .build();
+  }
+
   public UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(DecodedJWT token) {
     List<GrantedAuthority> authorities = getAuthorities(token);
-    ContextUser contextUser = getContextUser(token);
+    ContextUser contextUser = getContextUser(token, authorities);
 
     return new UsernamePasswordAuthenticationToken(contextUser, null, authorities);
   }
 
   private String generateJwtToken(UserPrincipal userPrincipal, long lifeSpan) {
-    String[] authorities = getAuthoritiesFromUser(userPrincipal);
+    User user = userPrincipal.getUser();
+    return generateJwtToken(user.getId(), userPrincipal.getUsername(), getAuthoritiesFromUser(userPrincipal),
+      lifeSpan);
+  }
 
-    return JWT.create()
+  private String generateJwtToken(String userId, String username, String[] authorities, long lifeSpan) {
+    JWTCreator.Builder builder = JWT.create()
+      .withJWTId(UuidUtils.randomUUID())
       .withIssuer(SecurityConstant.AUTH_ISSUER)
       .withAudience(SecurityConstant.AUTH_AUDIENCE)
       .withIssuedAt(new Date())
-      .withSubject(userPrincipal.getUsername())
-      .withArrayClaim(SecurityConstant.AUTHORITIES, authorities)
-      .withClaim("user", new HashMap<String, String>() {{
-        put("id", userPrincipal.getUser().getId());
-        put("username", userPrincipal.getUser().getUsername());
-      }})
-      .withExpiresAt(new Date(getCurrentTimeMillis() + lifeSpan))
-      .sign(getAlgorithm());
-  }
-
-  private ContextUser getContextUser(DecodedJWT token) {
-    Map<String, Object> user = token.getClaim("user").asMap();
-    return ContextUser.builder().id((String) user.get("id")).username((String) user.get("username")).build();
-  }
-
-  private JWTVerifier getJWTVerifier() {
-    JWTVerifier verifier;
-    try {
-      verifier = JWT.require(getAlgorithm()).withIssuer(SecurityConstant.AUTH_ISSUER).build();
-    } catch (JWTVerificationException exception) {
-      throw new JWTVerificationException(SecurityConstant.TOKEN_CANNOT_BE_VERIFIED);
+      .withSubject(username)
+      .withClaim(USER_CLAIM, getUserClaim(userId, username))
+      .withExpiresAt(new Date(getCurrentTimeMillis() + lifeSpan));
+    if (compactAuthorities) {
+      builder.withClaim(SecurityConstant.COMPACT_AUTHORITIES, AuthorityClaimCodec.encode(authorities));
+      String[] unindexed = AuthorityClaimCodec.unindexed(authorities);
+      if (unindexed.length > 0) {
+        builder.withArrayClaim(SecurityConstant.AUTHORITIES, unindexed);
+      }
+    } else {
+      builder.withArrayClaim(SecurityConstant.AUTHORITIES, authorities);
     }
-    return verifier;
+    return keyRing.sign(builder);
+  }
+
+  private Map<String, Object> getUserClaim(String userId, String username) {
+    Map<String, Object> claim = new HashMap<>(4);
+    claim.put(USER_CLAIM_ID, userId);
+    claim.put(USER_CLAIM_USERNAME, username);
+    return claim;
+  }
+
+  private ContextUser getContextUser(DecodedJWT token, List<GrantedAuthority> authorities) {
+    Map<String, Object> user = token.getClaim(USER_CLAIM).asMap();
+    return ContextUser.builder()
+      .id((String) user.get(USER_CLAIM_ID))
+      .username((String) user.get(USER_CLAIM_USERNAME))
+      .authorityBits(AuthorityIndex.toBitSet(authorities))
+      .build();
   }
 
   private boolean isTokenExpired(DecodedJWT token) {
@@ -98,15 +176,23 @@ public class JWTTokenProvider {
   }
 
   private List<GrantedAuthority> getAuthorities(DecodedJWT token) {
-    return token.getClaim(SecurityConstant.AUTHORITIES)
-      .asList(String.class)
-      .stream()
-      .map(SimpleGrantedAuthority::new)
-      .collect(Collectors.toList());
-  }
-
-  private Algorithm getAlgorithm() {
-    return Algorithm.HMAC512(secret);
+    List<String> authorityNames = token.getClaim(SecurityConstant.AUTHORITIES).asList(String.class);
+    String compact = token.getClaim(SecurityConstant.COMPACT_AUTHORITIES).asString();
+    if (compact != null) {
+      List<GrantedAuthority> authorities = AuthorityClaimCodec.decode(compact);
+      if (authorityNames != null) {
+        authorityNames.forEach(name -> authorities.add(GrantedAuthorityPool.getGrantedAuthority(name)));
+      }
+      return Collections.unmodifiableList(authorities);
+    }
+    if (authorityNames == null) {
+      return Collections.emptyList();
+    }
+    GrantedAuthority[] authorities = new GrantedAuthority[authorityNames.size()];
+    for (int i = 0; i < authorities.length; i++) {
+      authorities[i] = GrantedAuthorityPool.getGrantedAuthority(authorityNames.get(i));
+    }
+    return Collections.unmodifiableList(Arrays.asList(authorities));
   }
 
   private String[] getAuthoritiesFromUser(UserPrincipal userPrincipal) {
@@ -0,0 +1,109 @@
+package dev.kurama.api.core.utility;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.AffordanceModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.Affordances;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriUtils;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LinkTemplates {
+
+  private static final String TEMPLATES_ATTRIBUTE = LinkTemplates.class.getName();
+  private static final String PLACEHOLDER = UUID.randomUUID().toString();
+
+  public static Link getLink(String key, IdTemplate<Link> template, String id) {
+    Map<String, Object> templates = getTemplates();
+    if (templates == null || id == null) {
+      return build(template, id);
+    }
+    Link link = (Link) templates.computeIfAbsent(key, k -> build(template, PLACEHOLDER));
+    return Link.of(expand(link.getHref(), id), link.getRel())
+      .andAffordances(link.getAffordances().stream().map(affordance -> expand(affordance, id)).collect(toList()));
+  }
+
+  public static Link getLink(String key, Template<Link> template) {
+    Map<String, Object> templates = getTemplates();
+    return templates == null ? build(template) : (Link) templates.computeIfAbsent(key, k -> build(template));
+  }
+
+  public static Affordance getAffordance(String key, IdTemplate<Affordance> template, String id) {
+    Map<String, Object> templates = getTemplates();
+    if (templates == null || id == null) {
+      return build(template, id);
+    }
+    return expand((Affordance) templates.computeIfAbsent(key, k -> build(template, PLACEHOLDER)), id);
+  }
+
+  public static Affordance getAffordance(String key, Template<Affordance> template) {
+    Map<String, Object> templates = getTemplates();
+    return templates == null ? build(template) : (Affordance) templates.computeIfAbsent(key, k -> build(template));
+  }
+
+  private static Affordance expand(Affordance affordance, String id) {
+    AffordanceModel model = affordance.getAffordanceModel(MediaTypes.HAL_FORMS_JSON);
+    return Affordances.of(Link.of(expand(model.getLink().getHref(), id), model.getLink().getRel()))
+      .afford(model.getHttpMethod())
+      .withInput(model.getInput())
+      .withOutput(model.getOutput())
+      .withParameters(model.getQueryMethodParameters())
+      .withName(model.getName())
+      .toLink()
+      .getAffordances()
+      .get(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> getTemplates() {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return null;
+    }
+    Map<String, Object> templates = (Map<String, Object>) requestAttributes.getAttribute(TEMPLATES_ATTRIBUTE,
+      SCOPE_REQUEST);
+    if (templates == null) {
+      templates = new HashMap<>();
+      requestAttributes.setAttribute(TEMPLATES_ATTRIBUTE, templates, SCOPE_REQUEST);
+    }
+    return templates;
+  }
+
+  private static String expand(String href, String id) {
+    return href.replace(PLACEHOLDER, UriUtils.encodePathSegment(id, StandardCharsets.UTF_8));
+  }
+
+  @SneakyThrows
+  private static <T> T build(IdTemplate<T> template, String id) {
+    return template.build(id);
+  }
+
+  @SneakyThrows
+  private static <T> T build(Template<T> template) {
+    return template.build();
+  }
+
+  @FunctionalInterface
+  public interface IdTemplate<T> {
+
+    T build(String id) throws Exception;
+  }
+
+  @FunctionalInterface
+  public interface Template<T> {
+
+    T build() throws Exception;
+  }
+}
@@ -0,0 +1,43 @@
+package dev.kurama.api.core.utility.signing;
+
+import dev.kurama.api.core.utility.JWTSigningAlgorithm;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class InMemorySigningKeyStore implements SigningKeyStore {
+
+  private static final Comparator<StoredSigningKey> LATEST_FIRST = Comparator
+    .comparingLong(StoredSigningKey::getActivatesAt)
+    .thenComparing(StoredSigningKey::getKid)
+    .reversed();
+
+  private final List<StoredSigningKey> keys = new ArrayList<>();
+
+  @Override
+  public synchronized List<StoredSigningKey> findAll(JWTSigningAlgorithm algorithm) {
+    return keys.stream()
+      .filter(key -> key.getAlgorithm() == algorithm)
+      .sorted(LATEST_FIRST)
+      .collect(Collectors.toList());
+  }
+
+  @Override
+  public synchronized boolean publishIfDue(StoredSigningKey key, long dueAfter) {
+    if (keys.stream().anyMatch(k -> k.getAlgorithm() == key.getAlgorithm() && k.getActivatesAt() > dueAfter)) {
+      return false;
+    }
+    keys.add(key);
+    return true;
+  }
+
+  @Override
+  public synchronized int prune(JWTSigningAlgorithm algorithm, long supersededBefore) {
+    int before = keys.size();
+    keys.removeIf(key -> key.getAlgorithm() == algorithm && keys.stream()
+      .anyMatch(newer -> newer.getAlgorithm() == algorithm && newer.getActivatesAt() > key.getActivatesAt()
+        && newer.getActivatesAt() <= supersededBefore));
+    return before - keys.size();
+  }
+}
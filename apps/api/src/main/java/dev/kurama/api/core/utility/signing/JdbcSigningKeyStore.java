@@ -0,0 +1,84 @@
+package dev.kurama.api.core.utility.signing;
+
+import dev.kurama.api.core.utility.JWTSigningAlgorithm;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class JdbcSigningKeyStore implements SigningKeyStore {
+
+  private static final String FIND_ALL_QUERY = "select kid, algorithm, public_key, private_key, activates_at "
+    + "from %1$s.jwt_signing_key where algorithm = ? order by activates_at desc, kid desc";
+
+  private static final String LOCK_QUERY = "select 1 from pg_advisory_xact_lock(hashtext(?))";
+
+  private static final String DUE_QUERY = "select count(*) from %1$s.jwt_signing_key "
+    + "where algorithm = ? and activates_at > ?";
+
+  private static final String PUBLISH_QUERY = "insert into %1$s.jwt_signing_key "
+    + "(kid, algorithm, public_key, private_key, activates_at) values (?, ?, ?, ?, ?)";
+
+  private static final String PRUNE_QUERY = "delete from %1$s.jwt_signing_key k where k.algorithm = ? and exists "
+    + "(select 1 from %1$s.jwt_signing_key n where n.algorithm = k.algorithm "
+    + "and n.activates_at > k.activates_at and n.activates_at <= ?)";
+
+  private static final RowMapper<StoredSigningKey> KEY_MAPPER = (rs, rowNum) -> StoredSigningKey.builder()
+    .kid(rs.getString("kid"))
+    .algorithm(JWTSigningAlgorithm.valueOf(rs.getString("algorithm")))
+    .publicKey(rs.getBytes("public_key"))
+    .privateKey(rs.getBytes("private_key"))
+    .activatesAt(rs.getLong("activates_at"))
+    .build();
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final String lockKey;
+
+  private final String findAllQuery;
+
+  private final String dueQuery;
+
+  private final String publishQuery;
+
+  private final String pruneQuery;
+
+  public JdbcSigningKeyStore(@NonNull JdbcTemplate jdbcTemplate, @NonNull TransactionTemplate transactionTemplate,
+                             @NonNull String schema) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.lockKey = schema + ".jwt_signing_key";
+    this.findAllQuery = String.format(FIND_ALL_QUERY, schema);
+    this.dueQuery = String.format(DUE_QUERY, schema);
+    this.publishQuery = String.format(PUBLISH_QUERY, schema);
+    this.pruneQuery = String.format(PRUNE_QUERY, schema);
+  }
+
+  @Override
+  public List<StoredSigningKey> findAll(JWTSigningAlgorithm algorithm) {
+    return jdbcTemplate.query(findAllQuery, KEY_MAPPER, algorithm.name());
+  }
+
+  @Override
+  public boolean publishIfDue(StoredSigningKey key, long dueAfter) {
+    // the advisory lock makes concurrent nodes publish one after the other, so only the first one is due
+    return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+      jdbcTemplate.queryForObject(LOCK_QUERY, Integer.class, lockKey);
+      Long newer = jdbcTemplate.queryForObject(dueQuery, Long.class, key.getAlgorithm().name(), dueAfter);
+      if (newer != null && newer > 0) {
+        return false;
+      }
+      jdbcTemplate.update(publishQuery, key.getKid(), key.getAlgorithm().name(), key.getPublicKey(),
+        key.getPrivateKey(), key.getActivatesAt());
+      return true;
+    }));
+  }
+
+  @Override
+  public int prune(JWTSigningAlgorithm algorithm, long supersededBefore) {
+    return jdbcTemplate.update(pruneQuery, algorithm.name(), supersededBefore);
+  }
+}
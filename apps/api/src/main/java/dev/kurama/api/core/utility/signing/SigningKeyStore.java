@@ -0,0 +1,22 @@
+package dev.kurama.api.core.utility.signing;
+
+import dev.kurama.api.core.utility.JWTSigningAlgorithm;
+import java.util.List;
+
+public interface SigningKeyStore {
+
+  /**
+   * Returns the stored keys of the given algorithm, the latest activation first.
+   */
+  List<StoredSigningKey> findAll(JWTSigningAlgorithm algorithm);
+
+  /**
+   * Publishes the key unless another key of its algorithm activates after {@code dueAfter}.
+   */
+  boolean publishIfDue(StoredSigningKey key, long dueAfter);
+
+  /**
+   * Removes the keys superseded by a key activated at or before {@code supersededBefore}.
+   */
+  int prune(JWTSigningAlgorithm algorithm, long supersededBefore);
+}
@@ -0,0 +1,25 @@
+package dev.kurama.api.core.utility.signing;
+
+import dev.kurama.api.core.utility.JWTSigningAlgorithm;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+@Value
+@Builder
+public class StoredSigningKey {
+
+  @NonNull
+  String kid;
+
+  @NonNull
+  JWTSigningAlgorithm algorithm;
+
+  @NonNull
+  byte[] publicKey;
+
+  @NonNull
+  byte[] privateKey;
+
+  long activatesAt;
+}
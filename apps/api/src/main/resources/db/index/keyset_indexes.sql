@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS user_username_id_idx ON application."user" (username, id);
+CREATE INDEX IF NOT EXISTS role_name_id_idx ON application.role (name, id);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS application.login_attempt
+(
+  username       VARCHAR(255) NOT NULL PRIMARY KEY,
+  window_index   BIGINT       NOT NULL,
+  current_count  INTEGER      NOT NULL,
+  previous_count INTEGER      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS login_attempt_window_index_idx ON application.login_attempt (window_index);
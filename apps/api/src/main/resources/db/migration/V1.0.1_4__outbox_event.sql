@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS application.outbox_event
+(
+  id           BIGSERIAL    NOT NULL PRIMARY KEY,
+  aggregate_id VARCHAR(255) NOT NULL,
+  event_type   VARCHAR(255) NOT NULL,
+  payload      TEXT         NOT NULL,
+  created_at   TIMESTAMP    NOT NULL DEFAULT now()
+);
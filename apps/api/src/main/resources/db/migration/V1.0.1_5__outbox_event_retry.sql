@@ -0,0 +1,5 @@
+ALTER TABLE application.outbox_event
+  ADD COLUMN IF NOT EXISTS attempts        INTEGER   NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS outbox_event_aggregate_id_idx ON application.outbox_event (aggregate_id, id);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS application.token_revocation
+(
+  user_id    VARCHAR(255) NOT NULL PRIMARY KEY,
+  revoked_at BIGINT       NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS token_revocation_revoked_at_idx ON application.token_revocation (revoked_at);
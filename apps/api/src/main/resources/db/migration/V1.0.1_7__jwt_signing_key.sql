@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS application.jwt_signing_key
+(
+  kid          VARCHAR(64) NOT NULL PRIMARY KEY,
+  algorithm    VARCHAR(16) NOT NULL,
+  public_key   BYTEA       NOT NULL,
+  private_key  BYTEA       NOT NULL,
+  activates_at BIGINT      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS jwt_signing_key_algorithm_activates_at_idx
+  ON application.jwt_signing_key (algorithm, activates_at);
@@ -0,0 +1,105 @@
+package dev.kurama.api.core.configuration;
+
+import static dev.kurama.api.core.configuration.AsyncConfiguration.DURATION_METRIC;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.QUEUED_METRIC;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.REJECTED_METRIC;
+import static dev.kurama.api.core.configuration.AsyncConfiguration.WAIT_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class AsyncConfigurationTest {
+
+  private MeterRegistry registry;
+
+  private AsyncConfiguration configuration;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    configuration = new AsyncConfiguration(registry, Duration.ofSeconds(5));
+  }
+
+  @Test
+  void should_run_rejected_tasks_on_caller_thread() throws InterruptedException {
+    ThreadPoolTaskExecutor executor = initialized("event", AsyncRejectionPolicy.CALLER_RUNS);
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<Thread> rejectedThread = new AtomicReference<>();
+    try {
+      executor.execute(() -> awaitQuietly(latch));
+      executor.execute(() -> awaitQuietly(latch));
+
+      assertThat(registry.get(QUEUED_METRIC).tag("executor", "event").gauge().value()).isEqualTo(1);
+
+      executor.execute(() -> rejectedThread.set(Thread.currentThread()));
+
+      assertThat(rejectedThread.get()).isSameAs(Thread.currentThread());
+      assertThat(registry.get(REJECTED_METRIC).tags("executor", "event", "policy", "caller_runs").counter().count())
+        .isEqualTo(1);
+    } finally {
+      latch.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void should_drop_rejected_tasks() {
+    ThreadPoolTaskExecutor executor = initialized("email", AsyncRejectionPolicy.DROP);
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicInteger dropped = new AtomicInteger();
+    try {
+      executor.execute(() -> awaitQuietly(latch));
+      executor.execute(() -> awaitQuietly(latch));
+      executor.execute(dropped::incrementAndGet);
+
+      assertThat(registry.get(REJECTED_METRIC).tags("executor", "email", "policy", "drop").counter().count())
+        .isEqualTo(1);
+    } finally {
+      latch.countDown();
+      executor.shutdown();
+    }
+    assertThat(dropped).hasValue(0);
+  }
+
+  @Test
+  void should_drain_queue_and_time_tasks_on_shutdown() {
+    ThreadPoolTaskExecutor executor = initialized("event", AsyncRejectionPolicy.CALLER_RUNS);
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicInteger completed = new AtomicInteger();
+
+    executor.execute(() -> {
+      awaitQuietly(latch);
+      completed.incrementAndGet();
+    });
+    executor.execute(completed::incrementAndGet);
+    latch.countDown();
+    executor.shutdown();
+
+    assertThat(completed).hasValue(2);
+    assertThat(registry.get(WAIT_METRIC).tag("executor", "event").timer().count()).isEqualTo(2);
+    assertThat(registry.get(DURATION_METRIC).tag("executor", "event").timer().count()).isEqualTo(2);
+  }
+
+  private ThreadPoolTaskExecutor initialized(String name, AsyncRejectionPolicy policy) {
+    ThreadPoolTaskExecutor executor = configuration.taskExecutor(name, 1, 1, policy);
+    executor.initialize();
+    return executor;
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package dev.kurama.api.core.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URISyntaxException;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheConfigurationTest {
+
+  private CacheManager cacheManager;
+
+  @BeforeEach
+  void setUp() throws URISyntaxException {
+    CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+    cacheManager = provider.getCacheManager(getClass().getResource("/ehcache.xml").toURI(),
+      getClass().getClassLoader());
+  }
+
+  @AfterEach
+  void tearDown() {
+    cacheManager.close();
+  }
+
+  @Test
+  void should_declare_entity_and_query_regions() {
+    assertThat(cacheManager.getCacheNames()).contains("dev.kurama.api.core.domain.Authority",
+      "dev.kurama.api.core.domain.User", "dev.kurama.api.core.domain.User.authorities",
+      "dev.kurama.api.core.domain.UserPreferences", "dev.kurama.api.core.domain.Role",
+      "dev.kurama.api.core.domain.Role.authorities", "dev.kurama.api.core.domain.GlobalSettings",
+      "default-query-results-region", "default-update-timestamps-region");
+  }
+}
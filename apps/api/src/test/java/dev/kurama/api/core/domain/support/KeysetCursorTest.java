@@ -0,0 +1,36 @@
+package dev.kurama.api.core.domain.support;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+  @Test
+  void should_encode_and_decode_cursor() {
+    KeysetCursor expected = KeysetCursor.builder().id(randomUUID()).key("user:name with spaces/ñ").build();
+
+    String token = expected.encode();
+
+    assertThat(token).matches("[A-Za-z0-9_-]+");
+    assertThat(KeysetCursor.decode(token)).isEqualTo(expected);
+  }
+
+  @Test
+  void should_decode_empty_token_as_first_page() {
+    assertThat(KeysetCursor.decode(null)).isNull();
+    assertThat(KeysetCursor.decode("")).isNull();
+  }
+
+  @Test
+  void should_reject_invalid_token() {
+    String withoutSeparator = Base64.getUrlEncoder().encodeToString("invalid".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> KeysetCursor.decode(withoutSeparator)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -3,6 +3,7 @@ package dev.kurama.api.core.event.emitter;
 import static org.mockito.Mockito.verify;
 
 import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,6 +20,9 @@ class GlobalSettingsChangedEventEmitterTest {
   @Mock
   private ApplicationEventPublisher applicationEventPublisher;
 
+  @Mock
+  private OutboxEventStore outboxEventStore;
+
   @Test
   void should_emit_global_settings_updated_event() {
     GlobalSettingsChangedEvent event = GlobalSettingsChangedEvent.builder().build();
@@ -26,5 +30,6 @@ class GlobalSettingsChangedEventEmitterTest {
     globalSettingsChangedEventEmitter.emitGlobalSettingsUpdatedEvent();
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(GlobalSettingsChangedEventEmitter.GLOBAL_SETTINGS_AGGREGATE_ID, event);
   }
 }
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.verify;
 
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
 import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,6 +22,9 @@ class RoleChangedEventEmitterTest {
   @Mock
   private ApplicationEventPublisher applicationEventPublisher;
 
+  @Mock
+  private OutboxEventStore outboxEventStore;
+
   @Test
   void should_emit_role_created_event() {
     RoleChangedEvent event = RoleChangedEvent.builder()
@@ -31,6 +35,7 @@ class RoleChangedEventEmitterTest {
     roleChangedEventEmitter.emitRoleCreatedEvent(event.getRoleId());
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(event.getRoleId(), event);
   }
 
   @Test
@@ -43,6 +48,7 @@ class RoleChangedEventEmitterTest {
     roleChangedEventEmitter.emitRoleUpdatedEvent(event.getRoleId());
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(event.getRoleId(), event);
   }
 
   @Test
@@ -55,5 +61,6 @@ class RoleChangedEventEmitterTest {
     roleChangedEventEmitter.emitRoleDeletedEvent(event.getRoleId());
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(event.getRoleId(), event);
   }
 }
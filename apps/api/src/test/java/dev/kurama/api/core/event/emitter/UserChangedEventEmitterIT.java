@@ -10,6 +10,7 @@ import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.message.SubscriptionTracker;
 import dev.kurama.support.TestChannelInterceptor;
 import java.io.IOException;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,9 +19,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 @ActiveProfiles(value = "integration-test")
 @SpringBootTest
@@ -33,17 +37,22 @@ class UserChangedEventEmitterIT {
   @Qualifier("brokerChannel")
   private AbstractSubscribableChannel abstractSubscribableChannel;
 
+  @Autowired
+  private SubscriptionTracker subscriptionTracker;
+
   private TestChannelInterceptor testChannelInterceptor;
 
   @BeforeEach
   void setUp() {
     testChannelInterceptor = new TestChannelInterceptor();
     abstractSubscribableChannel.addInterceptor(testChannelInterceptor);
+    subscribe(USERS_CHANGED_CHANNEL);
   }
 
   @Test
   void should_send_user_created_message() throws InterruptedException, IOException {
     String userId = randomUUID();
+    subscribe(format(USER_CHANGED_CHANNEL, userId));
     userChangedEventEmitter.emitUserCreatedEvent(userId);
 
     Message<?> message = testChannelInterceptor.awaitMessage(2);
@@ -77,6 +86,7 @@ class UserChangedEventEmitterIT {
   @Test
   void should_send_user_updated_message() throws InterruptedException, IOException {
     String userId = randomUUID();
+    subscribe(format(USER_CHANGED_CHANNEL, userId));
     userChangedEventEmitter.emitUserUpdatedEvent(userId);
 
     Message<?> message = testChannelInterceptor.awaitMessage(2);
@@ -110,6 +120,7 @@ class UserChangedEventEmitterIT {
   @Test
   void should_send_user_deleted_message() throws InterruptedException, IOException {
     String userId = randomUUID();
+    subscribe(format(USER_CHANGED_CHANNEL, userId));
     userChangedEventEmitter.emitUserDeletedEvent(userId);
 
     Message<?> message = testChannelInterceptor.awaitMessage(2);
@@ -139,4 +150,13 @@ class UserChangedEventEmitterIT {
     message = testChannelInterceptor.awaitMessage(1);
     assertThat(message).isNull();
   }
+
+  private void subscribe(String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setSessionId(randomUUID());
+    accessor.setSubscriptionId(randomUUID());
+    accessor.setDestination(destination);
+    subscriptionTracker.onSubscribe(
+      new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+  }
 }
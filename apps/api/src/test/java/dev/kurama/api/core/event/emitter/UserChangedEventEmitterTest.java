@@ -5,6 +5,7 @@ import static org.mockito.Mockito.verify;
 
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,6 +22,9 @@ class UserChangedEventEmitterTest {
   @Mock
   private ApplicationEventPublisher applicationEventPublisher;
 
+  @Mock
+  private OutboxEventStore outboxEventStore;
+
   @Test
   void should_emit_user_created_event() {
     UserChangedEvent event = UserChangedEvent.builder()
@@ -31,6 +35,7 @@ class UserChangedEventEmitterTest {
     userChangedEventEmitter.emitUserCreatedEvent(event.getUserId());
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(event.getUserId(), event);
   }
 
   @Test
@@ -43,6 +48,7 @@ class UserChangedEventEmitterTest {
     userChangedEventEmitter.emitUserUpdatedEvent(event.getUserId());
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(event.getUserId(), event);
   }
 
   @Test
@@ -55,5 +61,6 @@ class UserChangedEventEmitterTest {
     userChangedEventEmitter.emitUserDeletedEvent(event.getUserId());
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(event.getUserId(), event);
   }
 }
@@ -4,6 +4,7 @@ import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.mockito.Mockito.verify;
 
 import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent;
+import dev.kurama.api.core.event.outbox.OutboxEventStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,6 +21,9 @@ class UserPreferencesChangedEventEmitterTest {
   @Mock
   private ApplicationEventPublisher applicationEventPublisher;
 
+  @Mock
+  private OutboxEventStore outboxEventStore;
+
   @Test
   void should_emit_user_preferences_updated_event() {
     UserPreferencesChangedEvent event = UserPreferencesChangedEvent.builder().userPreferencesId(randomUUID()).build();
@@ -27,5 +31,6 @@ class UserPreferencesChangedEventEmitterTest {
     userPreferencesChangedEventEmitter.emitUserPreferencesUpdatedEvent(event.getUserPreferencesId());
 
     verify(applicationEventPublisher).publishEvent(event);
+    verify(outboxEventStore).append(event.getUserPreferencesId(), event);
   }
 }
@@ -0,0 +1,72 @@
+package dev.kurama.api.core.event.listener;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.domain.support.SecurityStamp;
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.service.SecurityStampService;
+import dev.kurama.api.core.service.TokenRevocationService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class RevokeTokensOnUserChangedEventListenerTest {
+
+  @InjectMocks
+  private RevokeTokensOnUserChangedEventListener listener;
+
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
+  @Mock
+  private SecurityStampService securityStampService;
+
+  @Test
+  void user_deleted_event_should_revoke_user_tokens() {
+    String userId = randomUUID();
+
+    listener.userChangedEvent(UserChangedEvent.builder().action(UserChangedEventAction.DELETED).userId(userId).build());
+
+    verify(tokenRevocationService).revokeUser(userId);
+    verifyNoInteractions(securityStampService);
+  }
+
+  @Test
+  void user_updated_event_should_revoke_tokens_of_locked_user() {
+    String userId = randomUUID();
+    when(securityStampService.getSecurityStamp(userId)).thenReturn(Optional.of(stamp(userId, true, true)));
+
+    listener.userChangedEvent(UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(userId).build());
+
+    verify(tokenRevocationService).revokeUser(userId);
+  }
+
+  @Test
+  void user_updated_event_should_keep_tokens_of_active_user() {
+    String userId = randomUUID();
+    when(securityStampService.getSecurityStamp(userId)).thenReturn(Optional.of(stamp(userId, true, false)));
+
+    listener.userChangedEvent(UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(userId).build());
+
+    verifyNoInteractions(tokenRevocationService);
+  }
+
+  private SecurityStamp stamp(String userId, boolean canLogin, boolean locked) {
+    return SecurityStamp.builder()
+      .userId(userId)
+      .username(randomUUID())
+      .canLogin(canLogin)
+      .locked(locked)
+      .authorities(List.of())
+      .build();
+  }
+}
@@ -0,0 +1,101 @@
+package dev.kurama.api.core.event.outbox;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.support.ServiceLayerIntegrationTestConfig;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ServiceLayerIntegrationTestConfig
+class OutboxEventStoreIT {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private OutboxEventStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new OutboxEventStore(jdbcTemplate, objectMapper, "application");
+    jdbcTemplate.update("delete from application.outbox_event");
+  }
+
+  @Test
+  void should_append_fetch_in_order_and_delete() throws Exception {
+    String userId = randomUUID();
+    UserChangedEvent created = UserChangedEvent.builder().userId(userId).action(UserChangedEventAction.CREATED).build();
+    UserChangedEvent updated = UserChangedEvent.builder().userId(userId).action(UserChangedEventAction.UPDATED).build();
+    store.append(userId, created);
+    store.append(userId, updated);
+
+    List<OutboxEvent> batch = store.fetchBatch(10, 3);
+
+    assertThat(batch).hasSize(2);
+    assertThat(batch).extracting(OutboxEvent::getAggregateId).containsOnly(userId);
+    assertThat(batch).extracting(OutboxEvent::getEventType).containsOnly("UserChangedEvent");
+    assertThat(objectMapper.readValue(batch.get(0).getPayload(), UserChangedEvent.class)).isEqualTo(created);
+    assertThat(objectMapper.readValue(batch.get(1).getPayload(), UserChangedEvent.class)).isEqualTo(updated);
+
+    store.delete(batch.subList(0, 1));
+
+    assertThat(store.fetchBatch(10, 3)).extracting(OutboxEvent::getId).containsExactly(batch.get(1).getId());
+  }
+
+  @Test
+  void should_limit_batch_size() {
+    for (int i = 0; i < 5; i++) {
+      String userId = randomUUID();
+      store.append(userId, UserChangedEvent.builder().userId(userId).action(UserChangedEventAction.CREATED).build());
+    }
+
+    assertThat(store.fetchBatch(3, 3)).hasSize(3);
+  }
+
+  @Test
+  void should_back_off_failed_events_and_hold_their_aggregate() {
+    String userId = randomUUID();
+    String otherId = randomUUID();
+    store.append(userId, UserChangedEvent.builder().userId(userId).action(UserChangedEventAction.CREATED).build());
+    store.append(userId, UserChangedEvent.builder().userId(userId).action(UserChangedEventAction.UPDATED).build());
+    store.append(otherId, UserChangedEvent.builder().userId(otherId).action(UserChangedEventAction.CREATED).build());
+    OutboxEvent failed = store.fetchBatch(10, 3).get(0);
+
+    store.recordFailures(List.of(failed), 60_000);
+
+    assertThat(store.fetchBatch(10, 3)).extracting(OutboxEvent::getAggregateId).containsExactly(otherId);
+
+    jdbcTemplate.update("update application.outbox_event set next_attempt_at = now() where id = ?", failed.getId());
+
+    assertThat(store.fetchBatch(10, 3)).extracting(OutboxEvent::getAggregateId)
+      .containsExactly(userId, userId, otherId);
+    assertThat(store.fetchBatch(10, 3).get(0).getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void should_park_events_after_max_attempts() {
+    String userId = randomUUID();
+    store.append(userId, UserChangedEvent.builder().userId(userId).action(UserChangedEventAction.CREATED).build());
+    store.append(userId, UserChangedEvent.builder().userId(userId).action(UserChangedEventAction.UPDATED).build());
+    OutboxEvent failed = store.fetchBatch(10, 3).get(0);
+
+    jdbcTemplate.update("update application.outbox_event set attempts = 3 where id = ?", failed.getId());
+
+    assertThat(store.fetchBatch(10, 3)).extracting(OutboxEvent::getId).doesNotContain(failed.getId()).hasSize(1);
+    assertThat(jdbcTemplate.queryForObject("select count(*) from application.outbox_event where id = ?", Long.class,
+      failed.getId())).isEqualTo(1);
+  }
+
+  @Test
+  void should_acquire_relay_lock() {
+    assertThat(store.tryLockRelay()).isTrue();
+  }
+}
@@ -0,0 +1,192 @@
+package dev.kurama.api.core.event.outbox;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import dev.kurama.api.core.event.domain.UserChangedEvent;
+import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.message.GlobalSettingsChangedMessageSender;
+import dev.kurama.api.core.message.RoleChangedMessageSender;
+import dev.kurama.api.core.message.UserChangedMessageSender;
+import dev.kurama.api.core.message.UserPreferencesChangedMessageSender;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OutboxRelayTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private OutboxEventStore outboxEventStore;
+
+  private UserChangedMessageSender userChangedMessageSender;
+
+  private RoleChangedMessageSender roleChangedMessageSender;
+
+  private PlatformTransactionManager transactionManager;
+
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    outboxEventStore = mock(OutboxEventStore.class);
+    userChangedMessageSender = mock(UserChangedMessageSender.class);
+    roleChangedMessageSender = mock(RoleChangedMessageSender.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    relay = new OutboxRelay(outboxEventStore, objectMapper, transactionManager, userChangedMessageSender,
+      roleChangedMessageSender, mock(UserPreferencesChangedMessageSender.class),
+      mock(GlobalSettingsChangedMessageSender.class), 10, 3, 1_000);
+    when(outboxEventStore.tryLockRelay()).thenReturn(true);
+  }
+
+  @Test
+  void should_dispatch_batch_in_order_and_delete_it() throws Exception {
+    UserChangedEvent first = UserChangedEvent.builder()
+      .userId(randomUUID())
+      .action(UserChangedEventAction.CREATED)
+      .build();
+    RoleChangedEvent second = RoleChangedEvent.builder()
+      .roleId(randomUUID())
+      .action(RoleChangedEventAction.UPDATED)
+      .build();
+    UserChangedEvent third = UserChangedEvent.builder()
+      .userId(first.getUserId())
+      .action(UserChangedEventAction.UPDATED)
+      .build();
+    List<OutboxEvent> batch = List.of(outboxEvent(1, first.getUserId(), first),
+      outboxEvent(2, second.getRoleId(), second), outboxEvent(3, third.getUserId(), third));
+    when(outboxEventStore.fetchBatch(10, 3)).thenReturn(batch);
+
+    relay.relay();
+
+    InOrder inOrder = inOrder(userChangedMessageSender, roleChangedMessageSender, outboxEventStore);
+    inOrder.verify(userChangedMessageSender).sendUserChangedMessage(first);
+    inOrder.verify(roleChangedMessageSender).sendRoleChangedMessage(second);
+    inOrder.verify(userChangedMessageSender).sendUserChangedMessage(third);
+    inOrder.verify(userChangedMessageSender).flush();
+    inOrder.verify(outboxEventStore).delete(batch);
+    verify(outboxEventStore, never()).recordFailures(any(), anyLong());
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void should_drop_unknown_and_unreadable_events() {
+    List<OutboxEvent> batch = List.of(
+      OutboxEvent.builder().id(1).aggregateId(randomUUID()).eventType("Unknown").payload("{}").build(),
+      OutboxEvent.builder().id(2).aggregateId(randomUUID()).eventType("UserChangedEvent").payload("{").build());
+    when(outboxEventStore.fetchBatch(10, 3)).thenReturn(batch);
+
+    relay.relay();
+
+    verify(userChangedMessageSender, never()).sendUserChangedMessage(any());
+    verify(outboxEventStore).delete(batch);
+  }
+
+  @Test
+  void should_relay_the_rest_of_the_batch_when_an_event_fails() throws Exception {
+    RoleChangedEvent failing = RoleChangedEvent.builder()
+      .roleId(randomUUID())
+      .action(RoleChangedEventAction.UPDATED)
+      .build();
+    UserChangedEvent next = UserChangedEvent.builder()
+      .userId(randomUUID())
+      .action(UserChangedEventAction.DELETED)
+      .build();
+    OutboxEvent failingRow = outboxEvent(1, failing.getRoleId(), failing);
+    OutboxEvent nextRow = outboxEvent(2, next.getUserId(), next);
+    when(outboxEventStore.fetchBatch(10, 3)).thenReturn(List.of(failingRow, nextRow));
+    doThrow(new IllegalStateException()).when(roleChangedMessageSender).sendRoleChangedMessage(failing);
+
+    relay.relay();
+
+    verify(userChangedMessageSender).sendUserChangedMessage(next);
+    verify(outboxEventStore).delete(List.of(nextRow));
+    verify(outboxEventStore).recordFailures(List.of(failingRow), 1_000);
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  void should_hold_later_events_of_a_failed_aggregate() throws Exception {
+    String roleId = randomUUID();
+    RoleChangedEvent failing = RoleChangedEvent.builder().roleId(roleId).action(RoleChangedEventAction.UPDATED).build();
+    RoleChangedEvent later = RoleChangedEvent.builder().roleId(roleId).action(RoleChangedEventAction.DELETED).build();
+    OutboxEvent failingRow = outboxEvent(1, roleId, failing);
+    when(outboxEventStore.fetchBatch(10, 3)).thenReturn(List.of(failingRow, outboxEvent(2, roleId, later)));
+    doThrow(new IllegalStateException()).when(roleChangedMessageSender).sendRoleChangedMessage(failing);
+
+    relay.relay();
+
+    verify(roleChangedMessageSender, never()).sendRoleChangedMessage(later);
+    verify(outboxEventStore, never()).delete(any());
+    verify(outboxEventStore).recordFailures(List.of(failingRow), 1_000);
+  }
+
+  @Test
+  void should_retry_user_changes_when_coalesced_delivery_fails() throws Exception {
+    UserChangedEvent event = UserChangedEvent.builder()
+      .userId(randomUUID())
+      .action(UserChangedEventAction.UPDATED)
+      .build();
+    RoleChangedEvent role = RoleChangedEvent.builder()
+      .roleId(randomUUID())
+      .action(RoleChangedEventAction.UPDATED)
+      .build();
+    OutboxEvent userRow = outboxEvent(1, event.getUserId(), event);
+    OutboxEvent roleRow = outboxEvent(2, role.getRoleId(), role);
+    when(outboxEventStore.fetchBatch(10, 3)).thenReturn(List.of(userRow, roleRow));
+    doThrow(new IllegalStateException()).when(userChangedMessageSender).flush();
+
+    relay.relay();
+
+    verify(outboxEventStore).delete(List.of(roleRow));
+    verify(outboxEventStore).recordFailures(List.of(userRow), 1_000);
+  }
+
+  @Test
+  void should_record_failures_when_batch_transaction_fails() throws Exception {
+    RoleChangedEvent failing = RoleChangedEvent.builder()
+      .roleId(randomUUID())
+      .action(RoleChangedEventAction.UPDATED)
+      .build();
+    OutboxEvent failingRow = outboxEvent(1, failing.getRoleId(), failing);
+    when(outboxEventStore.fetchBatch(10, 3)).thenReturn(List.of(failingRow));
+    doThrow(new IllegalStateException()).when(roleChangedMessageSender).sendRoleChangedMessage(failing);
+    doThrow(new IllegalStateException()).doNothing().when(transactionManager).commit(any());
+
+    assertThatThrownBy(() -> relay.relay()).isInstanceOf(IllegalStateException.class);
+
+    verify(outboxEventStore).recordFailures(List.of(failingRow), 1_000);
+  }
+
+  @Test
+  void should_skip_when_another_relay_holds_the_lock() {
+    when(outboxEventStore.tryLockRelay()).thenReturn(false);
+
+    relay.relay();
+
+    verify(outboxEventStore, never()).fetchBatch(10, 3);
+  }
+
+  private OutboxEvent outboxEvent(long id, String aggregateId, Object event) throws Exception {
+    return OutboxEvent.builder()
+      .id(id)
+      .aggregateId(aggregateId)
+      .eventType(event.getClass().getSimpleName())
+      .payload(objectMapper.writeValueAsString(event))
+      .build();
+  }
+}
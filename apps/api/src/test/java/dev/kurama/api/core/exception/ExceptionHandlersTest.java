@@ -7,6 +7,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.exception.domain.ImmutableRoleException;
+import dev.kurama.api.core.exception.domain.PasswordHashingSaturatedException;
+import dev.kurama.api.core.exception.domain.PasswordHashingUnavailableException;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.SignupClosedException;
 import dev.kurama.api.core.exception.domain.exists.EntityExistsException;
@@ -89,6 +91,16 @@ class ExceptionHandlersTest {
     mockMvc.perform(get("/signupClosedException")).andExpect(status().isForbidden());
   }
 
+  @Test
+  void password_hashing_saturated_exception_should_return_too_many_requests() throws Exception {
+    mockMvc.perform(get("/passwordHashingSaturatedException")).andExpect(status().isTooManyRequests());
+  }
+
+  @Test
+  void password_hashing_unavailable_exception_should_return_service_unavailable() throws Exception {
+    mockMvc.perform(get("/passwordHashingUnavailableException")).andExpect(status().isServiceUnavailable());
+  }
+
   @Test
   void entity_exists_exception_should_return_conflict() throws Exception {
     mockMvc.perform(get("/entityExistsException")).andExpect(status().isConflict());
@@ -181,6 +193,18 @@ class ExceptionHandlersTest {
       throw new SignupClosedException();
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/passwordHashingSaturatedException")
+    public void passwordHashingSaturatedException() {
+      throw new PasswordHashingSaturatedException(null, null);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/passwordHashingUnavailableException")
+    public void passwordHashingUnavailableException() {
+      throw new PasswordHashingUnavailableException(null);
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/entityExistsException")
     public void entityExistsException() throws EntityExistsException {
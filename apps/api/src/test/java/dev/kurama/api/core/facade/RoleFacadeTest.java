@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.exception.domain.ImmutableRoleException;
 import dev.kurama.api.core.exception.domain.exists.RoleExistsException;
 import dev.kurama.api.core.exception.domain.not.found.RoleNotFoundException;
@@ -24,6 +25,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -63,6 +66,26 @@ class RoleFacadeTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void should_get_all_roles_by_cursor() {
+    PageRequest pageable = PageRequest.of(0, 1);
+    KeysetCursor cursor = KeysetCursor.builder().id(randomUUID()).key(randomAlphanumeric(8)).build();
+    Role last = Role.builder().setRandomUUID().name(randomAlphanumeric(8)).build();
+    SliceImpl<Role> roles = new SliceImpl<>(newArrayList(last), pageable, true);
+    SliceImpl<RoleModel> roleModels = new SliceImpl<>(newArrayList(RoleModel.builder().build()), pageable, true);
+    String nextCursor = KeysetCursor.builder().id(last.getId()).key(last.getName()).build().encode();
+    CollectionModel<RoleModel> expected = CollectionModel.of(roleModels.getContent());
+    when(roleService.getAllRoles(cursor, 1)).thenReturn(roles);
+    when(roleMapper.roleSliceToRoleModelSlice(roles)).thenReturn(roleModels);
+    when(roleModelAssembler.toKeysetModel(roleModels, nextCursor)).thenReturn(expected);
+
+    CollectionModel<RoleModel> actual = roleFacade.getAllByCursor(cursor.encode(), pageable);
+
+    verify(roleService).getAllRoles(cursor, 1);
+    verify(roleModelAssembler).toKeysetModel(roleModels, nextCursor);
+    assertEquals(expected, actual);
+  }
+
   @Test
   void should_find_by_role_id() throws RoleNotFoundException {
     Role role = Role.builder().name(randomAlphanumeric(8)).setRandomUUID().build();
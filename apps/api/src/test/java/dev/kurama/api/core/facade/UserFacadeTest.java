@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.exception.domain.ActivationTokenRecentException;
 import dev.kurama.api.core.exception.domain.exists.UserExistsException;
 import dev.kurama.api.core.exception.domain.not.found.RoleNotFoundException;
@@ -31,6 +32,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -100,6 +103,60 @@ class UserFacadeTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void should_get_all_users_sliced() {
+    PageRequest pageable = PageRequest.of(1, 2);
+    SliceImpl<User> users = new SliceImpl<>(newArrayList(User.builder().build()), pageable, true);
+    SliceImpl<UserModel> userModels = new SliceImpl<>(newArrayList(UserModel.builder().build()), pageable, true);
+    PagedModel<UserModel> expected = PagedModel.of(userModels.getContent(), (PagedModel.PageMetadata) null);
+    when(userService.getAllUsersSlice(pageable, "")).thenReturn(users);
+    when(userMapper.userSliceToUserModelSlice(users)).thenReturn(userModels);
+    when(userModelAssembler.toSlicedModel(userModels)).thenReturn(expected);
+
+    PagedModel<UserModel> actual = userFacade.getAllSliced(pageable, "");
+
+    verify(userService).getAllUsersSlice(pageable, "");
+    verify(userModelAssembler).toSlicedModel(userModels);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void should_get_all_users_by_cursor() {
+    PageRequest pageable = PageRequest.of(0, 2);
+    KeysetCursor cursor = KeysetCursor.builder().id(randomUUID()).key(randomAlphanumeric(8)).build();
+    User last = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
+    SliceImpl<User> users = new SliceImpl<>(newArrayList(User.builder().build(), last), pageable, true);
+    SliceImpl<UserModel> userModels = new SliceImpl<>(newArrayList(UserModel.builder().build()), pageable, true);
+    String nextCursor = KeysetCursor.builder().id(last.getId()).key(last.getUsername()).build().encode();
+    CollectionModel<UserModel> expected = CollectionModel.of(userModels.getContent());
+    when(userService.getAllUsers(cursor, 2)).thenReturn(users);
+    when(userMapper.userSliceToUserModelSlice(users)).thenReturn(userModels);
+    when(userModelAssembler.toKeysetModel(userModels, nextCursor)).thenReturn(expected);
+
+    CollectionModel<UserModel> actual = userFacade.getAllByCursor(cursor.encode(), pageable);
+
+    verify(userService).getAllUsers(cursor, 2);
+    verify(userModelAssembler).toKeysetModel(userModels, nextCursor);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void should_get_first_users_by_cursor_without_next_cursor() {
+    PageRequest pageable = PageRequest.of(0, 2);
+    SliceImpl<User> users = new SliceImpl<>(newArrayList(User.builder().build()), pageable, false);
+    SliceImpl<UserModel> userModels = new SliceImpl<>(newArrayList(UserModel.builder().build()), pageable, false);
+    CollectionModel<UserModel> expected = CollectionModel.of(userModels.getContent());
+    when(userService.getAllUsers(null, 2)).thenReturn(users);
+    when(userMapper.userSliceToUserModelSlice(users)).thenReturn(userModels);
+    when(userModelAssembler.toKeysetModel(userModels, null)).thenReturn(expected);
+
+    CollectionModel<UserModel> actual = userFacade.getAllByCursor("", pageable);
+
+    verify(userService).getAllUsers(null, 2);
+    verify(userModelAssembler).toKeysetModel(userModels, null);
+    assertEquals(expected, actual);
+  }
+
   @Test
   void should_delete_by_id() throws UserNotFoundException {
     String id = randomUUID();
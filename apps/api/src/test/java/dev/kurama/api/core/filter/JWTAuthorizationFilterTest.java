@@ -10,12 +10,14 @@ import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.OPTIONS;
 import static org.springframework.http.HttpStatus.OK;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
 import com.google.common.net.HttpHeaders;
 import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.service.TokenRevocationService;
+import dev.kurama.api.core.utility.JWTTokenCache;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Optional;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -38,6 +40,10 @@ class JWTAuthorizationFilterTest {
   private JWTAuthorizationFilter filter;
   @Mock
   private JWTTokenProvider jwtTokenProvider;
+  @Mock
+  private JWTTokenCache jwtTokenCache;
+  @Mock
+  private TokenRevocationService tokenRevocationService;
 
   @Test
   void should_set_status_ok_on_options_method() throws ServletException, IOException {
@@ -51,7 +57,7 @@ class JWTAuthorizationFilterTest {
 
     verify(response).setStatus(OK.value());
     verify(filterChain).doFilter(request, response);
-    verifyNoInteractions(jwtTokenProvider);
+    verifyNoInteractions(jwtTokenProvider, jwtTokenCache);
   }
 
   @Test
@@ -68,7 +74,7 @@ class JWTAuthorizationFilterTest {
       filter.doFilterInternal(request, response, filterChain);
     }
 
-    verifyNoInteractions(jwtTokenProvider);
+    verifyNoInteractions(jwtTokenProvider, jwtTokenCache);
   }
 
   @Test
@@ -78,12 +84,11 @@ class JWTAuthorizationFilterTest {
     FilterChain filterChain = mock(FilterChain.class);
     doReturn(GET.toString()).when(request).getMethod();
     String token = randomUUID();
-    DecodedJWT decodedToken = mock(DecodedJWT.class);
+    VerifiedToken verifiedToken = VerifiedToken.builder().build();
     doReturn(SecurityConstant.TOKEN_PREFIX + token).when(request).getHeader(HttpHeaders.AUTHORIZATION);
-    doReturn(decodedToken).when(jwtTokenProvider).getDecodedJWT(token);
-    doReturn(true).when(jwtTokenProvider).isTokenValid(decodedToken);
+    doReturn(Optional.of(verifiedToken)).when(jwtTokenCache).getVerifiedToken(token);
     Authentication authentication = mock(Authentication.class);
-    doReturn(authentication).when(jwtTokenProvider).getAuthentication(decodedToken, request);
+    doReturn(authentication).when(jwtTokenProvider).getAuthentication(verifiedToken, request);
     SecurityContext securityContext = Mockito.mock(SecurityContext.class);
     SecurityContextHolder.setContext(securityContext);
 
@@ -99,15 +104,33 @@ class JWTAuthorizationFilterTest {
     FilterChain filterChain = mock(FilterChain.class);
     doReturn(GET.toString()).when(request).getMethod();
     String token = randomUUID();
-    DecodedJWT decodedToken = mock(DecodedJWT.class);
     doReturn(SecurityConstant.TOKEN_PREFIX + token).when(request).getHeader(HttpHeaders.AUTHORIZATION);
-    doReturn(decodedToken).when(jwtTokenProvider).getDecodedJWT(token);
-    doReturn(false).when(jwtTokenProvider).isTokenValid(decodedToken);
+    doReturn(Optional.empty()).when(jwtTokenCache).getVerifiedToken(token);
+
+    try (MockedStatic<SecurityContextHolder> utilities = Mockito.mockStatic(SecurityContextHolder.class)) {
+
+      filter.doFilterInternal(request, response, filterChain);
+      utilities.verify(() -> SecurityContextHolder.clearContext());
+    }
+  }
+
+  @Test
+  void should_clear_context_on_revoked_token() throws ServletException, IOException {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    FilterChain filterChain = mock(FilterChain.class);
+    doReturn(GET.toString()).when(request).getMethod();
+    String token = randomUUID();
+    VerifiedToken verifiedToken = VerifiedToken.builder().tokenId(randomUUID()).build();
+    doReturn(SecurityConstant.TOKEN_PREFIX + token).when(request).getHeader(HttpHeaders.AUTHORIZATION);
+    doReturn(Optional.of(verifiedToken)).when(jwtTokenCache).getVerifiedToken(token);
+    doReturn(true).when(tokenRevocationService).isRevoked(verifiedToken);
 
     try (MockedStatic<SecurityContextHolder> utilities = Mockito.mockStatic(SecurityContextHolder.class)) {
 
       filter.doFilterInternal(request, response, filterChain);
       utilities.verify(() -> SecurityContextHolder.clearContext());
     }
+    verifyNoInteractions(jwtTokenProvider);
   }
 }
@@ -23,10 +23,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.UriComponents;
 
 class UserModelAssemblerTest {
@@ -50,6 +56,7 @@ class UserModelAssemblerTest {
   @AfterEach
   void tearDown() {
     authorityUtils.close();
+    RequestContextHolder.resetRequestAttributes();
   }
 
   @Test
@@ -113,4 +120,58 @@ class UserModelAssemblerTest {
       .anySatisfy(reqs -> assertThat(reqs.toList()).contains(DEFAULT, HttpMethod.HEAD))
       .anySatisfy(reqs -> assertThat(reqs.toList()).contains("create", HttpMethod.POST));
   }
+
+  @Test
+  void should_map_to_sliced_model_without_totals() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", USER_PATH);
+    request.setQueryString("count=false&page=1&size=2");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    authorityUtils.when(() -> AuthorityUtils.hasAuthority(USER_READ)).thenReturn(true);
+    UserModel admin = UserModel.builder().id(randomUUID()).username(randomAlphanumeric(8)).build();
+    UserModel mod = UserModel.builder().id(randomUUID()).username(randomAlphanumeric(8)).build();
+    SliceImpl<UserModel> users = new SliceImpl<>(newArrayList(admin, mod), of(1, 2), true);
+
+    PagedModel<UserModel> actual = assembler.toSlicedModel(users);
+
+    assertThat(actual.getContent()).hasSize(2);
+    assertThat(actual.getMetadata()).isNull();
+    assertThat(actual.getLinks()).hasSize(4);
+    assertThat(actual.getRequiredLink(IanaLinkRelations.PREV).getHref()).contains("page=0", "size=2", "count=false");
+    assertThat(actual.getRequiredLink(IanaLinkRelations.NEXT).getHref()).contains("page=2", "size=2", "count=false");
+    assertThat(actual.getLink(WEBSOCKET_REL)).isPresent();
+  }
+
+  @Test
+  void should_map_to_keyset_model_and_add_next_link() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", USER_PATH);
+    request.setQueryString("cursor=&size=2");
+    request.addParameter("cursor", "");
+    request.addParameter("size", "2");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    authorityUtils.when(() -> AuthorityUtils.hasAuthority(USER_CREATE)).thenReturn(true);
+    UserModel admin = UserModel.builder().id(randomUUID()).username(randomAlphanumeric(8)).build();
+    UserModel mod = UserModel.builder().id(randomUUID()).username(randomAlphanumeric(8)).build();
+    SliceImpl<UserModel> users = new SliceImpl<>(newArrayList(admin, mod), of(0, 2), true);
+
+    CollectionModel<UserModel> actual = assembler.toKeysetModel(users, "next-cursor");
+
+    assertThat(actual.getContent()).hasSize(2);
+    assertThat(actual.getLinks()).hasSize(2);
+    assertThat(actual.getRequiredLink(SELF).getHref()).endsWith(USER_PATH + "?cursor=&size=2");
+    assertThat(actual.getRequiredLink(SELF).getAffordances()).hasSize(2);
+    assertThat(actual.getRequiredLink(IanaLinkRelations.NEXT).getHref()).contains(USER_PATH + "?")
+      .contains("cursor=next-cursor", "size=2");
+  }
+
+  @Test
+  void should_not_add_next_link_to_last_keyset_model() {
+    RequestContextHolder.setRequestAttributes(
+      new ServletRequestAttributes(new MockHttpServletRequest("GET", USER_PATH)));
+    SliceImpl<UserModel> users = new SliceImpl<>(newArrayList(), of(0, 2), false);
+
+    CollectionModel<UserModel> actual = assembler.toKeysetModel(users, null);
+
+    assertThat(actual.getLink(IanaLinkRelations.NEXT)).isEmpty();
+    assertThat(actual.getLink(SELF)).isPresent();
+  }
 }
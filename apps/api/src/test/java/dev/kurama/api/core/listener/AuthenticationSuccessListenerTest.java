@@ -4,7 +4,9 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.service.LoginActivityRecorder;
 import dev.kurama.api.core.service.LoginAttemptService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,11 +26,15 @@ class AuthenticationSuccessListenerTest {
   @Mock
   private LoginAttemptService loginAttemptService;
 
+  @Mock
+  private LoginActivityRecorder loginActivityRecorder;
+
   @Test
   void should_remove_username_from_login_attempt_cache() {
     Authentication authentication = mock(Authentication.class);
     UserPrincipal principal = mock(UserPrincipal.class);
     doReturn("Username").when(principal).getUsername();
+    doReturn(User.builder().setRandomUUID().build()).when(principal).getUser();
     doReturn(principal).when(authentication).getPrincipal();
     AuthenticationSuccessEvent event = new AuthenticationSuccessEvent(authentication);
 
@@ -36,4 +42,16 @@ class AuthenticationSuccessListenerTest {
 
     verify(loginAttemptService).evictUserFromLoginAttemptCache(principal.getUsername());
   }
+
+  @Test
+  void should_record_login_activity() {
+    Authentication authentication = mock(Authentication.class);
+    User user = User.builder().setRandomUUID().username("Username").build();
+    doReturn(new UserPrincipal(user)).when(authentication).getPrincipal();
+    AuthenticationSuccessEvent event = new AuthenticationSuccessEvent(authentication);
+
+    listener.onAuthenticationSuccess(event);
+
+    verify(loginActivityRecorder).record(user);
+  }
 }
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.hateoas.model.UserModel;
+import dev.kurama.api.core.service.LoginActivityBuffer;
+import java.util.Date;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
@@ -42,6 +44,7 @@ class UserMapperTest {
       .locked(false)
       .active(false)
       .expired(false)
+      .lastLoginDateDisplay(new Date())
       .build();
 
     UserModel actual = mapper.userToUserModel(user);
@@ -54,7 +57,8 @@ class UserMapperTest {
       .hasFieldOrPropertyWithValue("profileImageUrl", user.getProfileImageUrl())
       .hasFieldOrPropertyWithValue("locked", user.isLocked())
       .hasFieldOrPropertyWithValue("active", user.isActive())
-      .hasFieldOrPropertyWithValue("expired", user.isExpired());
+      .hasFieldOrPropertyWithValue("expired", user.isExpired())
+      .hasFieldOrPropertyWithValue("lastLoginDateDisplay", user.getLastLoginDateDisplay());
   }
 
   @Test
@@ -92,5 +96,10 @@ class UserMapperTest {
     public UserPreferencesMapper userPreferencesMapper() {
       return Mappers.getMapper(UserPreferencesMapper.class);
     }
+
+    @Bean
+    public LoginActivityBuffer loginActivityBuffer() {
+      return new LoginActivityBuffer();
+    }
   }
 }
@@ -0,0 +1,140 @@
+package dev.kurama.api.core.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.authority.GlobalSettingsAuthority;
+import dev.kurama.api.core.authority.RoleAuthority;
+import dev.kurama.api.core.authority.UserAuthority;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.filter.VerifiedToken;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class ChangePayloadFilterTest {
+
+  private static final String SESSION_ID = "s1";
+  private static final String OWNER_ID = "u1";
+  private static final String PAYLOAD = "{\"userId\":\"u1\",\"version\":3,\"data\":{\"username\":\"admin\"}}";
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+
+  private StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+  private ChangePayloadFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    stompAuthenticationInterceptor = mock(StompAuthenticationInterceptor.class);
+    filter = new ChangePayloadFilter(new ObjectMapper(), stompAuthenticationInterceptor);
+  }
+
+  @Test
+  void should_pass_messages_without_filter_headers() {
+    Message<byte[]> message = message(Map.of());
+
+    assertThat(filter.preSend(message, channel)).isSameAs(message);
+  }
+
+  @Test
+  void should_keep_payload_for_subscribers_with_authority() {
+    givenSessionToken("other", UserAuthority.USER_READ);
+
+    Message<?> filtered = filter.preSend(message(ChangePayloadFilter.headers(UserAuthority.USER_READ, OWNER_ID)),
+      channel);
+
+    assertThat(body(filtered)).isEqualTo(PAYLOAD);
+    assertThat(SimpMessageHeaderAccessor.wrap(filtered).toNativeHeaderMap()).isEmpty();
+  }
+
+  @Test
+  void should_keep_payload_for_owner() {
+    givenSessionToken(OWNER_ID);
+
+    Message<?> filtered = filter.preSend(message(ChangePayloadFilter.headers(UserAuthority.USER_READ, OWNER_ID)),
+      channel);
+
+    assertThat(body(filtered)).isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  void should_strip_payload_for_other_subscribers() {
+    givenSessionToken("other");
+
+    Message<?> filtered = filter.preSend(message(ChangePayloadFilter.headers(UserAuthority.USER_READ, OWNER_ID)),
+      channel);
+
+    assertThat(body(filtered)).isEqualTo("{\"userId\":\"u1\",\"version\":3}");
+    assertThat(SimpMessageHeaderAccessor.wrap(filtered).toNativeHeaderMap()).isEmpty();
+  }
+
+  @Test
+  void should_strip_payload_for_sessions_without_token() {
+    when(stompAuthenticationInterceptor.getSessionToken(SESSION_ID)).thenReturn(Optional.empty());
+
+    Message<?> filtered = filter.preSend(message(ChangePayloadFilter.headers(UserAuthority.USER_READ, OWNER_ID)),
+      channel);
+
+    assertThat(body(filtered)).doesNotContain("data");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {UserAuthority.USER_READ, RoleAuthority.ROLE_READ,
+    GlobalSettingsAuthority.GLOBAL_SETTINGS_READ})
+  void should_strip_collection_payload_for_unauthenticated_subscribers(String authority) {
+    when(stompAuthenticationInterceptor.getSessionToken(SESSION_ID)).thenReturn(Optional.empty());
+
+    Message<?> filtered = filter.preSend(message(ChangePayloadFilter.headers(authority, null)), channel);
+
+    assertThat(body(filtered)).isEqualTo("{\"userId\":\"u1\",\"version\":3}");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {UserAuthority.USER_READ, RoleAuthority.ROLE_READ,
+    GlobalSettingsAuthority.GLOBAL_SETTINGS_READ})
+  void should_keep_collection_payload_for_subscribers_with_authority(String authority) {
+    givenSessionToken(OWNER_ID, authority);
+
+    Message<?> filtered = filter.preSend(message(ChangePayloadFilter.headers(authority, null)), channel);
+
+    assertThat(body(filtered)).isEqualTo(PAYLOAD);
+  }
+
+  private void givenSessionToken(String userId, String... authorities) {
+    VerifiedToken token = VerifiedToken.builder()
+      .contextUser(ContextUser.builder().id(userId).build())
+      .authorities(Arrays.stream(authorities)
+        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+        .collect(Collectors.toList()))
+      .build();
+    when(stompAuthenticationInterceptor.getSessionToken(SESSION_ID)).thenReturn(Optional.of(token));
+  }
+
+  private Message<byte[]> message(Map<String, Object> nativeHeaders) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(SESSION_ID);
+    accessor.setDestination("/ami/user/" + OWNER_ID);
+    nativeHeaders.forEach((name, value) -> accessor.setNativeHeader(name, value.toString()));
+    return MessageBuilder.createMessage(PAYLOAD.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+  }
+
+  private String body(Message<?> message) {
+    return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+  }
+}
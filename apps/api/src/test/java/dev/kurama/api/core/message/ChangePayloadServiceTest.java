@@ -0,0 +1,111 @@
+package dev.kurama.api.core.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.api.core.configuration.ChangePayloadMode;
+import dev.kurama.api.core.event.domain.RoleChangedEvent;
+import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+class ChangePayloadServiceTest {
+
+  private static final String KEY = "role:r1";
+
+  private final RoleChangedEvent event = RoleChangedEvent.builder()
+    .roleId("r1")
+    .action(RoleChangedEventAction.UPDATED)
+    .build();
+
+  @Test
+  void should_send_plain_events_when_disabled() {
+    ChangePayloadService service = service(ChangePayloadMode.NONE, DataSize.ofKilobytes(16));
+
+    assertThat(service.isEnabled()).isFalse();
+    assertThat(service.load(() -> Optional.of("model"))).isEmpty();
+    assertThat(service.toPayload(event, KEY, Map.of("name", "admin"))).isSameAs(event);
+  }
+
+  @Test
+  void should_send_full_model_with_increasing_version() {
+    ChangePayloadService service = service(ChangePayloadMode.FULL, DataSize.ofKilobytes(16));
+
+    ChangeMessage first = (ChangeMessage) service.toPayload(event, KEY, Map.of("name", "admin"));
+    ChangeMessage second = (ChangeMessage) service.toPayload(event, KEY, Map.of("name", "root"));
+
+    assertThat(first.getEvent()).isSameAs(event);
+    assertThat(first.getVersion()).isEqualTo(1);
+    assertThat(first.getData()).containsEntry("name", "admin");
+    assertThat(second.getVersion()).isEqualTo(2);
+    assertThat(second.getData()).containsEntry("name", "root");
+    assertThat(second.getDelta()).isNull();
+  }
+
+  @Test
+  void should_send_changed_fields_in_delta_mode() {
+    ChangePayloadService service = service(ChangePayloadMode.DELTA, DataSize.ofKilobytes(16));
+
+    ChangeMessage first = (ChangeMessage) service.toPayload(event, KEY,
+      Map.of("name", "admin", "canLogin", true, "description", "Admins"));
+    ChangeMessage second = (ChangeMessage) service.toPayload(event, KEY, Map.of("name", "root", "canLogin", true));
+
+    assertThat(first.getData()).containsEntry("name", "admin").containsEntry("description", "Admins");
+    assertThat(second.getVersion()).isEqualTo(2);
+    assertThat(second.getData()).isNull();
+    assertThat(second.getDelta()).hasSize(2).containsEntry("name", "root").containsEntry("description", null);
+  }
+
+  @Test
+  void should_bump_version_without_data_for_deleted_models() {
+    ChangePayloadService service = service(ChangePayloadMode.DELTA, DataSize.ofKilobytes(16));
+
+    service.toPayload(event, KEY, Map.of("name", "admin"));
+    ChangeMessage deleted = (ChangeMessage) service.toPayload(event, KEY, null);
+    ChangeMessage recreated = (ChangeMessage) service.toPayload(event, KEY, Map.of("name", "admin"));
+
+    assertThat(deleted.getVersion()).isEqualTo(2);
+    assertThat(deleted.getData()).isNull();
+    assertThat(deleted.getDelta()).isNull();
+    assertThat(recreated.getVersion()).isEqualTo(3);
+    assertThat(recreated.getData()).containsEntry("name", "admin");
+  }
+
+  @Test
+  void should_omit_oversized_payloads() {
+    ChangePayloadService service = service(ChangePayloadMode.FULL, DataSize.ofBytes(64));
+
+    ChangeMessage message = (ChangeMessage) service.toPayload(event, KEY, Map.of("description", "x".repeat(128)));
+
+    assertThat(message.getVersion()).isEqualTo(1);
+    assertThat(message.getData()).isNull();
+  }
+
+  @Test
+  void should_ignore_hypermedia_links() {
+    ChangePayloadService service = service(ChangePayloadMode.FULL, DataSize.ofKilobytes(16));
+
+    ChangeMessage message = (ChangeMessage) service.toPayload(event, KEY,
+      Map.of("name", "admin", "links", "self", "_links", "self"));
+
+    assertThat(message.getData()).containsOnlyKeys("name");
+  }
+
+  @Test
+  void should_serialize_event_fields_alongside_payload() throws Exception {
+    ChangePayloadService service = service(ChangePayloadMode.FULL, DataSize.ofKilobytes(16));
+
+    String json = new ObjectMapper().writeValueAsString(service.toPayload(event, KEY, Map.of("name", "admin")));
+
+    assertThat(json).contains("\"roleId\":\"r1\"", "\"action\":\"UPDATED\"", "\"version\":1", "\"data\":{")
+      .doesNotContain("delta");
+  }
+
+  private ChangePayloadService service(ChangePayloadMode mode, DataSize maxSize) {
+    return new ChangePayloadService(new ObjectMapper(), mock(PlatformTransactionManager.class), mode, maxSize, 100);
+  }
+}
@@ -1,9 +1,17 @@
 package dev.kurama.api.core.message;
 
 import static dev.kurama.api.core.message.GlobalSettingsChangedMessageSender.GLOBAL_SETTINGS_CHANGED_CHANNEL;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import dev.kurama.api.core.authority.GlobalSettingsAuthority;
 import dev.kurama.api.core.event.domain.GlobalSettingsChangedEvent;
+import dev.kurama.api.core.mapper.GlobalSettingsMapper;
+import dev.kurama.api.core.service.GlobalSettingsService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,12 +28,27 @@ class GlobalSettingsChangedMessageSenderTest {
   @Mock
   private SimpMessagingTemplate template;
 
+  @Mock
+  private ChangePayloadService changePayloadService;
+
+  @Mock
+  private GlobalSettingsService globalSettingsService;
+
+  @Mock
+  private GlobalSettingsMapper globalSettingsMapper;
+
+  @BeforeEach
+  void setUp() {
+    when(changePayloadService.toPayload(any(), anyString(), any())).thenAnswer(returnsFirstArg());
+  }
+
   @Test
   void should_send_global_settings_changed_message() {
     GlobalSettingsChangedEvent event = GlobalSettingsChangedEvent.builder().build();
 
     globalSettingsChangedMessageSender.sendGlobalSettingsChangedMessage(event);
 
-    verify(template).convertAndSend(GLOBAL_SETTINGS_CHANGED_CHANNEL, event);
+    verify(template).convertAndSend(GLOBAL_SETTINGS_CHANGED_CHANNEL, event,
+      ChangePayloadFilter.headers(GlobalSettingsAuthority.GLOBAL_SETTINGS_READ, null));
   }
 }
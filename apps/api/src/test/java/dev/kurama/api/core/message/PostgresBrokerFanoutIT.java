@@ -0,0 +1,92 @@
+package dev.kurama.api.core.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kurama.support.TestChannelInterceptor;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+class PostgresBrokerFanoutIT {
+
+  private static final String URL = "jdbc:tc:postgresql:14.2:///fanout?TC_DAEMON=true";
+
+  private final DataSource dataSource = new DriverManagerDataSource(URL);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private ExecutorSubscribableChannel channelA;
+
+  private ExecutorSubscribableChannel channelB;
+
+  private TestChannelInterceptor receivedA;
+
+  private TestChannelInterceptor receivedB;
+
+  private PostgresBrokerFanout nodeA;
+
+  private PostgresBrokerFanout nodeB;
+
+  @BeforeEach
+  void setUp() throws InterruptedException, SQLException {
+    dataSource.getConnection().close();
+    channelA = new ExecutorSubscribableChannel();
+    channelB = new ExecutorSubscribableChannel();
+    receivedA = new TestChannelInterceptor();
+    receivedB = new TestChannelInterceptor();
+    channelA.addInterceptor(receivedA);
+    channelB.addInterceptor(receivedB);
+    nodeA = new PostgresBrokerFanout(dataSource, objectMapper, channelA, 100);
+    nodeB = new PostgresBrokerFanout(dataSource, objectMapper, channelB, 100);
+    nodeA.start();
+    nodeB.start();
+    Thread.sleep(500);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.stop();
+    nodeB.stop();
+  }
+
+  @Test
+  void should_fan_out_messages_to_other_nodes() throws InterruptedException {
+    nodeA.postSend(message("/ami/user/u1", "{\"userId\":\"u1\"}"), channelA, true);
+
+    Message<?> message = receivedB.awaitMessage(5);
+    assertThat(message).isNotNull();
+    assertThat(SimpMessageHeaderAccessor.getDestination(message.getHeaders())).isEqualTo("/ami/user/u1");
+    assertThat(SimpMessageHeaderAccessor.wrap(message).getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"userId\":\"u1\"}");
+    assertThat(receivedA.awaitMessage(1)).isNull();
+  }
+
+  @Test
+  void should_not_fan_out_relayed_messages_again() throws InterruptedException {
+    nodeA.postSend(message("/ami/user/u1", "{}"), channelA, true);
+
+    Message<?> message = receivedB.awaitMessage(5);
+    assertThat(message).isNotNull();
+    nodeB.postSend(message, channelB, true);
+
+    assertThat(receivedA.awaitMessage(1)).isNull();
+  }
+
+  private Message<byte[]> message(String destination, String payload) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(destination);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+  }
+}
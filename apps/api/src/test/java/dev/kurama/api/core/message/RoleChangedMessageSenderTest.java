@@ -4,10 +4,18 @@ import static dev.kurama.api.core.message.RoleChangedMessageSender.ROLES_CHANGED
 import static dev.kurama.api.core.message.RoleChangedMessageSender.ROLE_CHANGED_CHANNEL;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static java.lang.String.format;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import dev.kurama.api.core.authority.RoleAuthority;
 import dev.kurama.api.core.event.domain.RoleChangedEvent;
 import dev.kurama.api.core.event.domain.RoleChangedEvent.RoleChangedEventAction;
+import dev.kurama.api.core.mapper.RoleMapper;
+import dev.kurama.api.core.service.RoleService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -24,6 +32,20 @@ class RoleChangedMessageSenderTest {
   @Mock
   private SimpMessagingTemplate template;
 
+  @Mock
+  private ChangePayloadService changePayloadService;
+
+  @Mock
+  private RoleService roleService;
+
+  @Mock
+  private RoleMapper roleMapper;
+
+  @BeforeEach
+  void setUp() {
+    when(changePayloadService.toPayload(any(), anyString(), any())).thenAnswer(returnsFirstArg());
+  }
+
   @Test
   void should_send_role_changed_message() {
     RoleChangedEvent event = RoleChangedEvent.builder()
@@ -33,7 +55,9 @@ class RoleChangedMessageSenderTest {
 
     roleChangedMessageSender.sendRoleChangedMessage(event);
 
-    verify(template).convertAndSend(format(ROLE_CHANGED_CHANNEL, event.getRoleId()), event);
-    verify(template).convertAndSend(ROLES_CHANGED_CHANNEL, event);
+    verify(template).convertAndSend(format(ROLE_CHANGED_CHANNEL, event.getRoleId()), event,
+      ChangePayloadFilter.headers(RoleAuthority.ROLE_READ, null));
+    verify(template).convertAndSend(ROLES_CHANGED_CHANNEL, event,
+      ChangePayloadFilter.headers(RoleAuthority.ROLE_READ, null));
   }
 }
@@ -0,0 +1,118 @@
+package dev.kurama.api.core.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.configuration.SlowConsumerPolicy;
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+class SlowConsumerGuardTest {
+
+  private static final String SESSION_ID = "s1";
+
+  private final Clock clock = mock(Clock.class);
+
+  private final WebSocketMetrics webSocketMetrics = mock(WebSocketMetrics.class);
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+
+  private WebSocketHandler handler;
+
+  private WebSocketSession session;
+
+  @BeforeEach
+  void setUp() {
+    handler = mock(WebSocketHandler.class);
+    session = mock(WebSocketSession.class);
+    when(session.getId()).thenReturn(SESSION_ID);
+  }
+
+  @Test
+  void should_pass_messages_to_idle_sessions() throws Exception {
+    SlowConsumerGuard guard = new SlowConsumerGuard(SlowConsumerPolicy.DROP, Duration.ofSeconds(2), webSocketMetrics,
+      clock);
+    guard.decorate(handler).afterConnectionEstablished(session);
+    Message<byte[]> message = message();
+
+    assertThat(guard.preSend(message, channel)).isSameAs(message);
+    verifyNoInteractions(webSocketMetrics);
+  }
+
+  @Test
+  void should_drop_messages_for_blocked_sessions() throws Exception {
+    SlowConsumerGuard guard = new SlowConsumerGuard(SlowConsumerPolicy.DROP, Duration.ofSeconds(2), webSocketMetrics,
+      clock);
+    WebSocketSession trackedSession = establish(guard);
+    when(clock.millis()).thenReturn(1_000L, 5_000L, 5_000L);
+    doAnswer(invocation -> {
+      assertThat(guard.preSend(message(), channel)).isNull();
+      return null;
+    }).when(session).sendMessage(any());
+
+    trackedSession.sendMessage(new TextMessage("payload"));
+
+    verify(webSocketMetrics).recordSlowConsumer(SlowConsumerPolicy.DROP);
+    assertThat(guard.preSend(message(), channel)).isNotNull();
+  }
+
+  @Test
+  void should_disconnect_blocked_sessions() throws Exception {
+    SlowConsumerGuard guard = new SlowConsumerGuard(SlowConsumerPolicy.DISCONNECT, Duration.ofSeconds(2),
+      webSocketMetrics, clock);
+    WebSocketSession trackedSession = establish(guard);
+    when(clock.millis()).thenReturn(1_000L, 5_000L);
+    doAnswer(invocation -> {
+      assertThat(guard.preSend(message(), channel)).isNull();
+      return null;
+    }).when(session).sendMessage(any());
+
+    trackedSession.sendMessage(new TextMessage("payload"));
+
+    verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+  }
+
+  @Test
+  void should_record_unreliable_session_closes() throws Exception {
+    SlowConsumerGuard guard = new SlowConsumerGuard(SlowConsumerPolicy.DISCONNECT, Duration.ofSeconds(2),
+      webSocketMetrics, clock);
+    WebSocketHandler decorated = guard.decorate(handler);
+    decorated.afterConnectionEstablished(session);
+
+    decorated.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+    verify(webSocketMetrics).recordSlowConsumer(SlowConsumerPolicy.DISCONNECT);
+    verify(handler).afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+  }
+
+  private WebSocketSession establish(SlowConsumerGuard guard) throws Exception {
+    guard.decorate(handler).afterConnectionEstablished(session);
+    ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+    verify(handler).afterConnectionEstablished(captor.capture());
+    return captor.getValue();
+  }
+
+  private Message<byte[]> message() {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(SESSION_ID);
+    accessor.setDestination("/ami/user");
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,122 @@
+package dev.kurama.api.core.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.net.HttpHeaders;
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.filter.VerifiedToken;
+import dev.kurama.api.core.service.TokenRevocationService;
+import dev.kurama.api.core.utility.JWTTokenCache;
+import dev.kurama.api.core.utility.JWTTokenProvider;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class StompAuthenticationInterceptorTest {
+
+  private static final String SESSION_ID = "s1";
+  private static final String TOKEN = "token";
+
+  private JWTTokenCache jwtTokenCache;
+
+  private JWTTokenProvider jwtTokenProvider;
+
+  private TokenRevocationService tokenRevocationService;
+
+  private MessageChannel clientOutboundChannel;
+
+  private StompAuthenticationInterceptor interceptor;
+
+  private VerifiedToken verifiedToken;
+
+  private Authentication authentication;
+
+  @BeforeEach
+  void setUp() {
+    jwtTokenCache = mock(JWTTokenCache.class);
+    jwtTokenProvider = mock(JWTTokenProvider.class);
+    tokenRevocationService = mock(TokenRevocationService.class);
+    clientOutboundChannel = mock(MessageChannel.class);
+    interceptor = new StompAuthenticationInterceptor(jwtTokenCache, jwtTokenProvider, tokenRevocationService,
+      clientOutboundChannel);
+    verifiedToken = VerifiedToken.builder().tokenId("jti").expiresAt(10_000L).build();
+    authentication = new UsernamePasswordAuthenticationToken("user", null);
+    when(jwtTokenCache.getVerifiedToken(TOKEN)).thenReturn(Optional.of(verifiedToken));
+    when(jwtTokenProvider.getAuthentication(verifiedToken, null)).thenReturn(authentication);
+    when(jwtTokenProvider.getCurrentTimeMillis()).thenReturn(1_000L);
+  }
+
+  @Test
+  void should_authenticate_once_at_connect() {
+    Message<byte[]> connect = frame(StompCommand.CONNECT);
+
+    interceptor.preSend(connect, clientOutboundChannel);
+    interceptor.preSend(frame(StompCommand.SUBSCRIBE), clientOutboundChannel);
+    interceptor.preSend(frame(StompCommand.SEND), clientOutboundChannel);
+
+    assertThat(StompHeaderAccessor.wrap(connect).getUser()).isSameAs(authentication);
+    verify(jwtTokenCache).getVerifiedToken(TOKEN);
+  }
+
+  @Test
+  void should_not_authenticate_revoked_tokens() {
+    when(tokenRevocationService.isRevoked(verifiedToken)).thenReturn(true);
+    Message<byte[]> connect = frame(StompCommand.CONNECT);
+
+    interceptor.preSend(connect, clientOutboundChannel);
+
+    assertThat(StompHeaderAccessor.wrap(connect).getUser()).isNull();
+  }
+
+  @Test
+  void should_reject_frames_after_token_expiry() {
+    interceptor.preSend(frame(StompCommand.CONNECT), clientOutboundChannel);
+    when(jwtTokenProvider.getCurrentTimeMillis()).thenReturn(10_000L);
+
+    assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE), clientOutboundChannel))
+      .isInstanceOf(MessageDeliveryException.class)
+      .hasMessageContaining(SecurityConstant.SESSION_TOKEN_EXPIRED);
+  }
+
+  @Test
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  void should_close_expired_sessions() {
+    interceptor.preSend(frame(StompCommand.CONNECT), clientOutboundChannel);
+
+    interceptor.closeExpiredSessions();
+    verify(clientOutboundChannel, never()).send(any());
+
+    when(jwtTokenProvider.getCurrentTimeMillis()).thenReturn(10_000L);
+    interceptor.closeExpiredSessions();
+    interceptor.closeExpiredSessions();
+
+    ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+    verify(clientOutboundChannel).send(captor.capture());
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(captor.getValue());
+    assertThat(accessor.getCommand()).isEqualTo(StompCommand.ERROR);
+    assertThat(accessor.getSessionId()).isEqualTo(SESSION_ID);
+  }
+
+  private Message<byte[]> frame(StompCommand command) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    accessor.setSessionId(SESSION_ID);
+    accessor.setNativeHeader(HttpHeaders.AUTHORIZATION, SecurityConstant.TOKEN_PREFIX + TOKEN);
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,63 @@
+package dev.kurama.api.core.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.configuration.WebSocketBrokerMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class SubscriptionTrackerTest {
+
+  private static final String DESTINATION = "/ami/user/u1";
+
+  private final SubscriptionTracker tracker = new SubscriptionTracker(WebSocketBrokerMode.SIMPLE);
+
+  @Test
+  void should_track_subscriptions_until_unsubscribed() {
+    tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-0", DESTINATION)));
+    tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-0", DESTINATION)));
+
+    assertThat(tracker.hasSubscribers(DESTINATION)).isTrue();
+    assertThat(tracker.hasSubscribers("/ami/user/u2")).isFalse();
+
+    tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+
+    assertThat(tracker.hasSubscribers(DESTINATION)).isTrue();
+
+    tracker.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s2", "sub-0", null)));
+
+    assertThat(tracker.hasSubscribers(DESTINATION)).isFalse();
+  }
+
+  @Test
+  void should_release_subscriptions_on_disconnect() {
+    tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-0", DESTINATION)));
+    tracker.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/ami/user")));
+
+    tracker.onDisconnect(new SessionDisconnectEvent(this, frame(StompCommand.DISCONNECT, "s1", null, null), "s1",
+      CloseStatus.NORMAL));
+
+    assertThat(tracker.hasSubscribers(DESTINATION)).isFalse();
+    assertThat(tracker.hasSubscribers("/ami/user")).isFalse();
+  }
+
+  @Test
+  void should_assume_subscribers_when_clustered() {
+    assertThat(new SubscriptionTracker(WebSocketBrokerMode.POSTGRES).hasSubscribers(DESTINATION)).isTrue();
+  }
+
+  private Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId(subscriptionId);
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
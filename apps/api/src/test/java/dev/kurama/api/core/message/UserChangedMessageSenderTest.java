@@ -4,13 +4,26 @@ import static dev.kurama.api.core.message.UserChangedMessageSender.USERS_CHANGED
 import static dev.kurama.api.core.message.UserChangedMessageSender.USER_CHANGED_CHANNEL;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static java.lang.String.format;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import dev.kurama.api.core.authority.UserAuthority;
+import dev.kurama.api.core.event.domain.UserChangedBatchEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent;
 import dev.kurama.api.core.event.domain.UserChangedEvent.UserChangedEventAction;
+import dev.kurama.api.core.mapper.UserMapper;
+import dev.kurama.api.core.service.UserService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -18,22 +31,140 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ExtendWith(SpringExtension.class)
 class UserChangedMessageSenderTest {
 
-  @InjectMocks
-  private UserChangedMessageSender userChangedMessageSender;
-
   @Mock
   private SimpMessagingTemplate template;
 
+  @Mock
+  private SubscriptionTracker subscriptionTracker;
+
+  @Mock
+  private ChangePayloadService changePayloadService;
+
+  @Mock
+  private UserService userService;
+
+  @Mock
+  private UserMapper userMapper;
+
+  private UserChangedMessageSender userChangedMessageSender;
+
+  @BeforeEach
+  void setUp() {
+    when(changePayloadService.toPayload(any(), anyString(), any())).thenAnswer(returnsFirstArg());
+    userChangedMessageSender = new UserChangedMessageSender(template, subscriptionTracker, changePayloadService,
+      userService, userMapper, 2);
+  }
+
   @Test
   void should_send_user_changed_message() {
     UserChangedEvent event = UserChangedEvent.builder()
       .action(UserChangedEventAction.CREATED)
       .userId(randomUUID())
       .build();
+    when(subscriptionTracker.hasSubscribers(anyString())).thenReturn(true);
 
     userChangedMessageSender.sendUserChangedMessage(event);
+    userChangedMessageSender.flush();
+
+    verify(template).convertAndSend(format(USER_CHANGED_CHANNEL, event.getUserId()), event,
+      ChangePayloadFilter.headers(UserAuthority.USER_READ, event.getUserId()));
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, event,
+      ChangePayloadFilter.headers(UserAuthority.USER_READ, null));
+  }
+
+  @Test
+  void should_batch_user_changed_messages() {
+    UserChangedEvent first = UserChangedEvent.builder()
+      .action(UserChangedEventAction.UPDATED)
+      .userId(randomUUID())
+      .build();
+    UserChangedEvent second = UserChangedEvent.builder()
+      .action(UserChangedEventAction.UPDATED)
+      .userId(randomUUID())
+      .build();
+    when(subscriptionTracker.hasSubscribers(USERS_CHANGED_CHANNEL)).thenReturn(true);
+
+    userChangedMessageSender.sendUserChangedMessage(first);
+    userChangedMessageSender.sendUserChangedMessage(second);
+    userChangedMessageSender.sendUserChangedMessage(first);
+    userChangedMessageSender.flush();
+
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, UserChangedBatchEvent.builder()
+      .userIds(List.of(first.getUserId(), second.getUserId()))
+      .action(UserChangedEventAction.UPDATED)
+      .build());
+    verify(template, never()).convertAndSend(eq(format(USER_CHANGED_CHANNEL, first.getUserId())), any(Object.class),
+      anyMap());
+  }
+
+  @Test
+  void should_split_batches_by_size() {
+    List<UserChangedEvent> events = List.of(
+      UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(randomUUID()).build(),
+      UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(randomUUID()).build(),
+      UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(randomUUID()).build());
+    when(subscriptionTracker.hasSubscribers(USERS_CHANGED_CHANNEL)).thenReturn(true);
+
+    events.forEach(userChangedMessageSender::sendUserChangedMessage);
+    userChangedMessageSender.flush();
+
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, UserChangedBatchEvent.builder()
+      .userIds(List.of(events.get(0).getUserId(), events.get(1).getUserId()))
+      .action(UserChangedEventAction.UPDATED)
+      .build());
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, UserChangedBatchEvent.builder()
+      .userIds(List.of(events.get(2).getUserId()))
+      .action(UserChangedEventAction.UPDATED)
+      .build());
+  }
+
+  @Test
+  void should_batch_mixed_actions_separately() {
+    List<UserChangedEvent> events = List.of(
+      UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(randomUUID()).build(),
+      UserChangedEvent.builder().action(UserChangedEventAction.DELETED).userId(randomUUID()).build(),
+      UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(randomUUID()).build());
+    when(subscriptionTracker.hasSubscribers(USERS_CHANGED_CHANNEL)).thenReturn(true);
+
+    events.forEach(userChangedMessageSender::sendUserChangedMessage);
+    userChangedMessageSender.flush();
+
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, UserChangedBatchEvent.builder()
+      .userIds(List.of(events.get(0).getUserId(), events.get(2).getUserId()))
+      .action(UserChangedEventAction.UPDATED)
+      .build());
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, UserChangedBatchEvent.builder()
+      .userIds(List.of(events.get(1).getUserId()))
+      .action(UserChangedEventAction.DELETED)
+      .build());
+  }
+
+  @Test
+  void should_keep_created_action_when_coalescing_update() {
+    String userId = randomUUID();
+    UserChangedEvent created = UserChangedEvent.builder().action(UserChangedEventAction.CREATED).userId(userId).build();
+    UserChangedEvent updated = UserChangedEvent.builder().action(UserChangedEventAction.UPDATED).userId(userId).build();
+    when(subscriptionTracker.hasSubscribers(anyString())).thenReturn(true);
+
+    userChangedMessageSender.sendUserChangedMessage(created);
+    userChangedMessageSender.sendUserChangedMessage(updated);
+    userChangedMessageSender.flush();
+
+    verify(template).convertAndSend(format(USER_CHANGED_CHANNEL, userId), created,
+      ChangePayloadFilter.headers(UserAuthority.USER_READ, userId));
+    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, created,
+      ChangePayloadFilter.headers(UserAuthority.USER_READ, null));
+  }
+
+  @Test
+  void should_not_send_without_subscribers() {
+    userChangedMessageSender.sendUserChangedMessage(UserChangedEvent.builder()
+      .action(UserChangedEventAction.DELETED)
+      .userId(randomUUID())
+      .build());
+    userChangedMessageSender.flush();
+    userChangedMessageSender.flush();
 
-    verify(template).convertAndSend(format(USER_CHANGED_CHANNEL, event.getUserId()), event);
-    verify(template).convertAndSend(USERS_CHANGED_CHANNEL, event);
+    verifyNoInteractions(template);
   }
 }
@@ -3,9 +3,17 @@ package dev.kurama.api.core.message;
 import static dev.kurama.api.core.message.UserPreferencesChangedMessageSender.USERS_PREFERENCES_CHANGED_CHANNEL;
 import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static java.lang.String.format;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import dev.kurama.api.core.authority.UserPreferencesAuthority;
 import dev.kurama.api.core.event.domain.UserPreferencesChangedEvent;
+import dev.kurama.api.core.mapper.UserPreferencesMapper;
+import dev.kurama.api.core.service.UserPreferencesService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -22,12 +30,27 @@ class UserPreferencesChangedMessageSenderTest {
   @Mock
   private SimpMessagingTemplate template;
 
+  @Mock
+  private ChangePayloadService changePayloadService;
+
+  @Mock
+  private UserPreferencesService userPreferencesService;
+
+  @Mock
+  private UserPreferencesMapper userPreferencesMapper;
+
+  @BeforeEach
+  void setUp() {
+    when(changePayloadService.toPayload(any(), anyString(), any())).thenAnswer(returnsFirstArg());
+  }
+
   @Test
   void should_send_user_preferences_changed_message() {
     UserPreferencesChangedEvent event = UserPreferencesChangedEvent.builder().userPreferencesId(randomUUID()).build();
 
     userPreferencesChangedMessageSender.sendUserPreferencesChangedMessage(event);
 
-    verify(template).convertAndSend(format(USERS_PREFERENCES_CHANGED_CHANNEL, event.getUserPreferencesId()), event);
+    verify(template).convertAndSend(format(USERS_PREFERENCES_CHANGED_CHANNEL, event.getUserPreferencesId()), event,
+      ChangePayloadFilter.headers(UserPreferencesAuthority.USER_PREFERENCES_READ, null));
   }
 }
@@ -0,0 +1,96 @@
+package dev.kurama.api.core.message;
+
+import static dev.kurama.api.core.message.WebSocketMetrics.DELIVERED_METRIC;
+import static dev.kurama.api.core.message.WebSocketMetrics.DROPPED_METRIC;
+import static dev.kurama.api.core.message.WebSocketMetrics.FAILED_METRIC;
+import static dev.kurama.api.core.message.WebSocketMetrics.QUEUED_METRIC;
+import static dev.kurama.api.core.message.WebSocketMetrics.REJECTED_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.kurama.api.core.configuration.SlowConsumerPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class WebSocketMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final WebSocketMetrics metrics = new WebSocketMetrics(registry);
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+
+  @Test
+  void should_group_destinations_by_template() {
+    assertThat(WebSocketMetrics.destinationTemplate("/ami/user")).isEqualTo("/ami/user");
+    assertThat(WebSocketMetrics.destinationTemplate("/ami/user/u1")).isEqualTo("/ami/user/{id}");
+    assertThat(WebSocketMetrics.destinationTemplate("/ami/user/u1/x")).isEqualTo("/ami/user/{id}");
+  }
+
+  @Test
+  void should_count_deliveries_per_destination_template() {
+    ChannelInterceptor interceptor = metrics.deliveredInterceptor();
+
+    interceptor.afterSendCompletion(message(SimpMessageType.MESSAGE, "/ami/user/u1"), channel, true, null);
+    interceptor.afterSendCompletion(message(SimpMessageType.MESSAGE, "/ami/user/u2"), channel, true, null);
+    interceptor.afterSendCompletion(message(SimpMessageType.MESSAGE, "/ami/user"), channel, false, null);
+    interceptor.afterSendCompletion(message(SimpMessageType.HEARTBEAT, "/ami/user"), channel, true, null);
+
+    assertThat(registry.get(DELIVERED_METRIC).tag("destination", "/ami/user/{id}").counter().count()).isEqualTo(2);
+    assertThat(registry.get(FAILED_METRIC).tag("destination", "/ami/user").counter().count()).isEqualTo(1);
+    assertThat(registry.find(DELIVERED_METRIC).tag("destination", "/ami/user").counter()).isNull();
+  }
+
+  @Test
+  void should_monitor_executor_queue_and_rejections() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    metrics.monitorExecutor("outbound", executor);
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.initialize();
+    CountDownLatch latch = new CountDownLatch(1);
+    try {
+      executor.execute(() -> awaitQuietly(latch));
+      executor.execute(() -> awaitQuietly(latch));
+
+      assertThat(registry.get(QUEUED_METRIC).tag("channel", "outbound").gauge().value()).isEqualTo(1);
+      assertThatThrownBy(() -> executor.execute(() -> awaitQuietly(latch))).isInstanceOf(TaskRejectedException.class);
+      assertThat(registry.get(REJECTED_METRIC).tag("channel", "outbound").counter().count()).isEqualTo(1);
+    } finally {
+      latch.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void should_count_slow_consumer_drops() {
+    metrics.recordSlowConsumer(SlowConsumerPolicy.DROP);
+
+    assertThat(registry.get(DROPPED_METRIC).counter().count()).isEqualTo(1);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Message<byte[]> message(SimpMessageType type, String destination) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
@@ -6,11 +6,15 @@ import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTest
 
 import dev.kurama.api.core.domain.Role;
 import java.util.Optional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest(showSql = false)
@@ -24,6 +28,9 @@ class RoleRepositoryIT {
   @Autowired
   private RoleRepository roleRepository;
 
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
   @Test
   void should_find_role_by_name() {
     Role role1 = Role.builder().setRandomUUID().name(randomAlphanumeric(8)).build();
@@ -41,4 +48,47 @@ class RoleRepositoryIT {
       .hasFieldOrPropertyWithValue("id", role2.getId())
       .hasFieldOrPropertyWithValue("name", role2.getName());
   }
+
+  @Test
+  void should_create_keyset_index_on_startup() {
+    Integer actual = jdbcTemplate.queryForObject(
+      "SELECT count(*) FROM pg_indexes WHERE schemaname = 'application' AND indexname = ?", Integer.class, "role_name_id_idx");
+
+    assertThat(actual).isEqualTo(1);
+  }
+
+  @Test
+  void should_find_roles_after_keyset() {
+    String prefix = randomAlphanumeric(8);
+    Role role1 = entityManager.persist(Role.builder().setRandomUUID().name(prefix + "_A").build());
+    Role role2 = entityManager.persist(Role.builder().setRandomUUID().name(prefix + "_B").build());
+    Role role3 = entityManager.persist(Role.builder().setRandomUUID().name(prefix + "_C").build());
+    entityManager.flush();
+    PageRequest pageable = PageRequest.of(0, 1, Sort.by("name", "id"));
+
+    Slice<Role> actual = roleRepository.findAllAfter(role1.getName(), role1.getId(), pageable);
+
+    assertThat(actual.getContent().get(0).getId()).isEqualTo(role2.getId());
+    assertThat(actual.getNumberOfElements()).isEqualTo(1);
+    assertThat(actual.hasNext()).isTrue();
+    assertThat(roleRepository.findAllAfter(role3.getName(), role3.getId(), pageable).hasContent()).isFalse();
+  }
+
+  @Test
+  void should_find_roles_slice_matching_pattern() {
+    String prefix = randomAlphanumeric(8);
+    Role role1 = entityManager.persist(Role.builder().setRandomUUID().name(prefix + "_A").build());
+    Role role2 = entityManager.persist(Role.builder().setRandomUUID().name(prefix + "_B").build());
+    entityManager.flush();
+
+    String pattern = "%" + prefix.toLowerCase() + "%";
+
+    Slice<Role> first = roleRepository.findSliceMatching(pattern, PageRequest.of(0, 1, Sort.by("name")));
+    Slice<Role> second = roleRepository.findSliceMatching(pattern, PageRequest.of(1, 1, Sort.by("name")));
+
+    assertThat(first.getContent().get(0).getId()).isEqualTo(role1.getId());
+    assertThat(first.hasNext()).isTrue();
+    assertThat(second.getContent().get(0).getId()).isEqualTo(role2.getId());
+    assertThat(second.hasNext()).isFalse();
+  }
 }
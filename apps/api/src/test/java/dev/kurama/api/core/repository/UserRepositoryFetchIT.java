@@ -0,0 +1,137 @@
+package dev.kurama.api.core.repository;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+import dev.kurama.api.core.domain.Authority;
+import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.UserPreferences;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles(value = "integration-test")
+class UserRepositoryFetchIT {
+
+  private static final int USERS = 30;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private Statistics statistics;
+
+  private String prefix;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManager.getEntityManager()
+      .getEntityManagerFactory()
+      .unwrap(SessionFactory.class)
+      .getStatistics();
+
+    Authority authority1 = entityManager.persist(Authority.builder().setRandomUUID().name(randomAlphanumeric(8)).build());
+    Authority authority2 = entityManager.persist(Authority.builder().setRandomUUID().name(randomAlphanumeric(8)).build());
+    Role role1 = entityManager.persist(
+      Role.builder().setRandomUUID().name(randomAlphanumeric(8)).authorities(newHashSet(authority1)).build());
+    Role role2 = entityManager.persist(Role.builder()
+      .setRandomUUID()
+      .name(randomAlphanumeric(8))
+      .authorities(newHashSet(authority1, authority2))
+      .build());
+
+    prefix = randomAlphanumeric(8).toLowerCase();
+    for (int i = 0; i < USERS; i++) {
+      user = entityManager.persist(User.builder()
+        .setRandomUUID()
+        .username(prefix + i)
+        .role(i % 2 == 0 ? role1 : role2)
+        .authorities(i % 2 == 0 ? newHashSet(authority1) : newHashSet(authority1, authority2))
+        .userPreferences(UserPreferences.builder().setRandomUUID().build())
+        .build());
+    }
+    entityManager.flush();
+  }
+
+  @Test
+  void should_load_user_pages_with_constant_statements() {
+    long small = countStatements(
+      () -> userRepository.findAllMatching("%" + prefix + "%", PageRequest.of(0, 5, Sort.by("username"))).getContent());
+    long large = countStatements(
+      () -> userRepository.findAllMatching("%" + prefix + "%", PageRequest.of(0, 25, Sort.by("username")))
+        .getContent());
+
+    assertThat(small).isEqualTo(large).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  void should_load_user_slices_with_constant_statements() {
+    long small = countStatements(
+      () -> userRepository.findSliceMatching("%" + prefix + "%", PageRequest.of(0, 5, Sort.by("username")))
+        .getContent());
+    long large = countStatements(
+      () -> userRepository.findSliceMatching("%" + prefix + "%", PageRequest.of(0, 25, Sort.by("username")))
+        .getContent());
+
+    assertThat(small).isEqualTo(large).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void should_not_fetch_join_both_authority_collections_for_details() {
+    entityManager.clear();
+
+    User actual = userRepository.findWithDetailsById(user.getId()).orElseThrow();
+
+    assertThat(Hibernate.isInitialized(actual.getAuthorities())).isTrue();
+    assertThat(Hibernate.isInitialized(actual.getRole().getAuthorities())).isFalse();
+  }
+
+  @Test
+  void should_load_user_details_with_single_statement() {
+    long actual = countStatements(() -> userRepository.findWithDetailsById(user.getId())
+      .map(Collections::singletonList)
+      .orElseGet(Collections::emptyList));
+
+    assertThat(actual).isLessThanOrEqualTo(2);
+  }
+
+  private long countStatements(Supplier<Collection<User>> query) {
+    entityManager.clear();
+    statistics.clear();
+
+    Collection<User> users = query.get();
+    users.forEach(this::touchAssociations);
+
+    assertThat(users).isNotEmpty();
+    return statistics.getPrepareStatementCount();
+  }
+
+  private void touchAssociations(User user) {
+    assertThat(user.getAuthorities()).isNotEmpty();
+    assertThat(user.getRole().getAuthorities()).isNotEmpty();
+    assertThat(Optional.ofNullable(user.getUserPreferences()).map(UserPreferences::getUser))
+      .hasValueSatisfying(owner -> assertThat(owner.getId()).isEqualTo(user.getId()));
+  }
+}
@@ -1,18 +1,23 @@
 package dev.kurama.api.core.repository;
 
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
 
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest(showSql = false)
@@ -26,6 +31,9 @@ class UserRepositoryIT {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
   private Role role;
 
   @BeforeEach
@@ -33,6 +41,14 @@ class UserRepositoryIT {
     role = entityManager.persist(Role.builder().setRandomUUID().name(randomAlphanumeric(8)).build());
   }
 
+  @Test
+  void should_create_keyset_index_on_startup() {
+    Integer actual = jdbcTemplate.queryForObject(
+      "SELECT count(*) FROM pg_indexes WHERE schemaname = 'application' AND indexname = ?", Integer.class, "user_username_id_idx");
+
+    assertThat(actual).isEqualTo(1);
+  }
+
   @Test
   void should_find_user_by_username() {
     User user1 = User.builder().setRandomUUID().username(randomAlphanumeric(8)).role(role).build();
@@ -75,4 +91,49 @@ class UserRepositoryIT {
       .hasFieldOrPropertyWithValue("username", user2.getUsername())
       .hasFieldOrPropertyWithValue("email", user2.getEmail());
   }
+
+  @Test
+  void should_find_all_users_matching_pattern() {
+    User user1 = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .email("First.Match@Example.com")
+      .role(role)
+      .build();
+    entityManager.persist(user1);
+    User user2 = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .lastname("match_less")
+      .role(role)
+      .build();
+    entityManager.persist(user2);
+    User user3 = User.builder().setRandomUUID().username(randomAlphanumeric(8)).role(role).build();
+    entityManager.persist(user3);
+    entityManager.flush();
+
+    Page<User> actual = userRepository.findAllMatching("%match%", PageRequest.of(0, 10));
+    Page<User> escaped = userRepository.findAllMatching("%match\\_%", PageRequest.of(0, 10));
+
+    assertThat(actual.getContent()).extracting(User::getId).containsExactlyInAnyOrder(user1.getId(), user2.getId());
+    assertThat(escaped.getContent()).extracting(User::getId).containsExactly(user2.getId());
+  }
+
+  @Test
+  void should_find_users_after_keyset() {
+    String username = randomAlphanumeric(8);
+    User user1 = User.builder().id("a" + randomAlphanumeric(8)).username(username).role(role).build();
+    entityManager.persist(user1);
+    User user2 = User.builder().id("b" + randomAlphanumeric(8)).username(username).role(role).build();
+    entityManager.persist(user2);
+    User user3 = User.builder().setRandomUUID().username(username + "_next").role(role).build();
+    entityManager.persist(user3);
+    entityManager.flush();
+    PageRequest pageable = PageRequest.of(0, 10, Sort.by("username", "id"));
+
+    Slice<User> actual = userRepository.findAllAfter(user1.getUsername(), user1.getId(), pageable);
+
+    assertThat(actual.getContent()).extracting(User::getId).startsWith(user2.getId(), user3.getId());
+    assertThat(actual.hasNext()).isFalse();
+  }
 }
@@ -0,0 +1,102 @@
+package dev.kurama.api.core.repository;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+import dev.kurama.api.core.domain.User;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles(value = "integration-test")
+@TestInstance(Lifecycle.PER_CLASS)
+class UserSearchIT {
+
+  private static final int USERS = 50_000;
+  private static final int MATCHES = 10;
+  private static final String SEARCH_PLAN = "EXPLAIN SELECT id FROM application.\"user\" WHERE lower(username) LIKE ? "
+    + "OR lower(email) LIKE ? OR lower(firstname) LIKE ? OR lower(lastname) LIKE ?";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private String roleId;
+
+  private String pattern;
+
+  @BeforeAll
+  void seed() {
+    roleId = randomUUID();
+    jdbcTemplate.update("INSERT INTO application.role (id, name, core_role, can_login) VALUES (?, ?, false, false)",
+      roleId, randomAlphanumeric(8));
+
+    jdbcTemplate.update("INSERT INTO application.\"user\" (id, username, email, firstname, lastname, role_id, active, "
+        + "locked, expired, credentials_expired) "
+        + "SELECT md5(? || i), 'search' || i, 'search' || i || '@example.com', md5(i::text || 'f'), "
+        + "md5(i::text || 'l'), ?, true, false, false, false FROM generate_series(1, ?) AS i",
+      roleId, roleId, USERS);
+
+    String needle = randomAlphanumeric(12).toLowerCase();
+    jdbcTemplate.update("UPDATE application.\"user\" SET lastname = ? || id WHERE role_id = ? AND username IN "
+      + "(SELECT 'search' || i FROM generate_series(1, ?, ?) AS i)", needle, roleId, USERS, USERS / MATCHES);
+    pattern = "%" + needle + "%";
+    jdbcTemplate.execute("ANALYZE application.\"user\"");
+  }
+
+  @AfterAll
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM application.\"user\" WHERE role_id = ?", roleId);
+    jdbcTemplate.update("DELETE FROM application.role WHERE id = ?", roleId);
+  }
+
+  @Test
+  void should_create_trigram_indexes_on_startup() {
+    List<String> indexes = jdbcTemplate.queryForList(
+      "SELECT indexname FROM pg_indexes WHERE schemaname = 'application' AND tablename = 'user'", String.class);
+
+    assertThat(indexes).contains("user_username_trgm_idx", "user_email_trgm_idx", "user_firstname_trgm_idx",
+      "user_lastname_trgm_idx");
+  }
+
+  @Test
+  void should_use_trigram_indexes_for_search() {
+    String indexedPlan = getPlan();
+
+    jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+    jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+    String sequentialPlan = getPlan();
+
+    assertThat(sequentialPlan).contains("Seq Scan");
+    assertThat(indexedPlan).doesNotContain("Seq Scan")
+      .contains("user_username_trgm_idx", "user_email_trgm_idx", "user_firstname_trgm_idx", "user_lastname_trgm_idx");
+  }
+
+  @Test
+  void should_find_matching_users() {
+    Page<User> actual = userRepository.findAllMatching(pattern, PageRequest.of(0, MATCHES));
+
+    assertThat(actual.getTotalElements()).isEqualTo(MATCHES);
+  }
+
+  private String getPlan() {
+    List<String> plan = jdbcTemplate.queryForList(SEARCH_PLAN, String.class, pattern, pattern, pattern, pattern);
+    return String.join("\n", plan);
+  }
+}
@@ -14,6 +14,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import dev.kurama.api.core.configuration.SecurityConfiguration;
 import dev.kurama.api.core.filter.JWTAccessDeniedHandler;
 import dev.kurama.api.core.filter.JWTAuthenticationEntryPoint;
+import dev.kurama.api.core.service.TokenRevocationService;
+import dev.kurama.api.core.utility.JWTTokenCache;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -155,6 +157,16 @@ class ApplicationForwardControllerIT {
       return Mockito.mock(JWTTokenProvider.class);
     }
 
+    @Bean
+    public JWTTokenCache JWTTokenCache() {
+      return Mockito.mock(JWTTokenCache.class);
+    }
+
+    @Bean
+    public TokenRevocationService TokenRevocationService() {
+      return Mockito.mock(TokenRevocationService.class);
+    }
+
     @Bean
     public JWTAuthenticationEntryPoint JWTAuthenticationEntryPoint() {
       return Mockito.mock(JWTAuthenticationEntryPoint.class);
@@ -0,0 +1,49 @@
+package dev.kurama.api.core.rest;
+
+import static dev.kurama.api.core.constant.RestPathConstant.JWKS_URL;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.kurama.api.core.utility.JWTKeyRing;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class JWKSControllerTest {
+
+  @InjectMocks
+  private JWKSController controller;
+
+  @Mock
+  private JWTKeyRing keyRing;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @Test
+  void should_return_public_key_set() throws Exception {
+    when(keyRing.getJwks()).thenReturn(Map.of("keys", List.of(Map.of("kty", "EC", "kid", "key-1"))));
+
+    mockMvc.perform(get(JWKS_URL))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+      .andExpect(jsonPath("$.keys[0].kid").value("key-1"))
+      .andExpect(jsonPath("$.keys[0].kty").value("EC"));
+  }
+}
@@ -5,6 +5,7 @@ import static dev.kurama.api.core.authority.RoleAuthority.ROLE_CREATE;
 import static dev.kurama.api.core.authority.RoleAuthority.ROLE_DELETE;
 import static dev.kurama.api.core.authority.RoleAuthority.ROLE_READ;
 import static dev.kurama.api.core.authority.RoleAuthority.ROLE_UPDATE;
+import static dev.kurama.api.core.constant.PagingConstant.CURSOR_PARAM;
 import static dev.kurama.api.core.constant.RestPathConstant.ROLE_PATH;
 import static dev.kurama.api.core.message.RoleChangedMessageSender.ROLES_CHANGED_CHANNEL;
 import static dev.kurama.api.core.message.RoleChangedMessageSender.ROLE_CHANGED_CHANNEL;
@@ -22,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -127,6 +129,17 @@ class RoleControllerIT {
         .andExpect(jsonPath("$._templates.create.method", equalTo(HttpMethod.POST.toString())))
         .andExpect(jsonPath("$._templates.create.target", equalTo(MOCK_MVC_HOST + ROLE_PATH)));
     }
+
+    @Test
+    void should_reject_search_in_cursor_mode() throws Exception {
+      mockMvc.perform(get(ROLE_PATH).param(CURSOR_PARAM, "cursor")
+          .param("search", "term")
+          .accept(HAL_FORMS_JSON_VALUE)
+          .headers(getAuthorizationHeader(jwtTokenProvider, ROLE_READ)))
+        .andExpect(status().isBadRequest());
+
+      verifyNoInteractions(roleService);
+    }
   }
 
   @Nested
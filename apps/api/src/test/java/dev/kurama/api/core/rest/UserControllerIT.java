@@ -7,6 +7,7 @@ import static dev.kurama.api.core.authority.UserAuthority.USER_READ;
 import static dev.kurama.api.core.authority.UserAuthority.USER_UPDATE;
 import static dev.kurama.api.core.authority.UserAuthority.USER_UPDATE_AUTHORITIES;
 import static dev.kurama.api.core.authority.UserAuthority.USER_UPDATE_ROLE;
+import static dev.kurama.api.core.constant.PagingConstant.CURSOR_PARAM;
 import static dev.kurama.api.core.constant.RestPathConstant.USER_PATH;
 import static dev.kurama.api.core.constant.RestPathConstant.USER_PREFERENCES_PATH;
 import static dev.kurama.api.core.message.UserChangedMessageSender.USERS_CHANGED_CHANNEL;
@@ -28,6 +29,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -237,6 +239,17 @@ class UserControllerIT {
         .andExpect(jsonPath("$._templates.create.method", equalTo(HttpMethod.POST.toString())))
         .andExpect(jsonPath("$._templates.create.target", equalTo(MOCK_MVC_HOST + USER_PATH)));
     }
+
+    @Test
+    void should_reject_search_in_cursor_mode() throws Exception {
+      mockMvc.perform(get(USER_PATH).param(CURSOR_PARAM, "cursor")
+          .param("search", "term")
+          .accept(HAL_FORMS_JSON_VALUE)
+          .headers(getAuthorizationHeader(jwtTokenProvider, USER_READ)))
+        .andExpect(status().isBadRequest());
+
+      verifyNoInteractions(userService);
+    }
   }
 
   private final UserInput userInput = UserInput.builder()
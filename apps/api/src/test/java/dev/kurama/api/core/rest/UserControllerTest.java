@@ -44,6 +44,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.MediaType;
@@ -90,6 +91,32 @@ class UserControllerTest {
       .andExpect(jsonPath("$.content..id", hasItem(user.getId())));
   }
 
+  @Test
+  void should_get_all_users_sliced() throws Exception {
+    PagedModel<UserModel> expected = PagedModel.of(newArrayList(user), (PagedModel.PageMetadata) null);
+    when(facade.getAllSliced(any(Pageable.class), any())).thenReturn(expected);
+
+    mockMvc.perform(get(USER_PATH).param("count", "false"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content", hasSize(1)))
+      .andExpect(jsonPath("$.page").doesNotExist());
+
+    verify(facade).getAllSliced(any(Pageable.class), any());
+  }
+
+  @Test
+  void should_get_all_users_by_cursor() throws Exception {
+    CollectionModel<UserModel> expected = CollectionModel.of(newArrayList(user));
+    when(facade.getAllByCursor(eq("token"), any(Pageable.class))).thenReturn(expected);
+
+    mockMvc.perform(get(USER_PATH).param("cursor", "token"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content", hasSize(1)))
+      .andExpect(jsonPath("$.content..id", hasItem(user.getId())));
+
+    verify(facade).getAllByCursor(eq("token"), any(Pageable.class));
+  }
+
   @Nested
   class GetUserTests {
 
@@ -3,11 +3,13 @@ package dev.kurama.api.core.service;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import dev.kurama.api.core.configuration.SigningKeyConfiguration;
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.support.AuthenticatedUser;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
+import dev.kurama.api.core.utility.JWTKeyRing;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import dev.kurama.support.ServiceLayerIntegrationTestConfig;
 import dev.kurama.support.TestEmailConfiguration;
@@ -20,9 +22,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.AuthenticationManager;
 
 @ServiceLayerIntegrationTestConfig
-@Import({AuthenticationFacility.class, UserService.class, JWTTokenProvider.class, AuthorityService.class,
-  ActivationTokenService.class, EmailService.class, TestEmailConfiguration.class, RoleService.class,
-  GlobalSettingsService.class,})
+@Import({AuthenticationFacility.class, SecurityStampService.class, UserService.class, JWTTokenProvider.class,
+  JWTKeyRing.class, SigningKeyConfiguration.class, AuthorityService.class, ActivationTokenService.class,
+  EmailService.class, TestEmailConfiguration.class, RoleService.class, GlobalSettingsService.class,})
 class AuthenticationFacilityIT {
 
   @Autowired
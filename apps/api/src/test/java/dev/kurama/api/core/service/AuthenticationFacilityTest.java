@@ -4,19 +4,20 @@ import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyString;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.authority.TokenAuthority;
 import dev.kurama.api.core.domain.User;
-import dev.kurama.api.core.domain.UserPrincipal;
 import dev.kurama.api.core.domain.support.AuthenticatedUser;
+import dev.kurama.api.core.domain.support.SecurityStamp;
 import dev.kurama.api.core.exception.domain.RoleCanNotLoginException;
 import dev.kurama.api.core.exception.domain.not.found.UserNotFoundException;
 import dev.kurama.api.core.utility.JWTTokenProvider;
+import java.util.List;
 import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Nested;
@@ -38,6 +39,9 @@ class AuthenticationFacilityTest {
   @Mock
   private UserService userService;
 
+  @Mock
+  private SecurityStampService securityStampService;
+
   @Mock
   private JWTTokenProvider jwtTokenProvider;
 
@@ -55,22 +59,18 @@ class AuthenticationFacilityTest {
       String token = randomUUID();
       String refreshToken = randomUUID();
       String password = randomAlphanumeric(8);
-      User user = User.builder()
-        .setRandomUUID()
-        .role(Role.builder().setRandomUUID().canLogin(true).build())
-        .username(randomAlphanumeric(8))
-        .locked(false)
-        .build();
+      User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
+      SecurityStamp securityStamp = securityStamp(user, true, false);
       when(userService.findUserByUsername(user.getUsername())).thenReturn(Optional.of(user));
-      when(jwtTokenProvider.generateToken(any(UserPrincipal.class))).thenReturn(token);
-      when(jwtTokenProvider.generateRefreshToken(any(UserPrincipal.class))).thenReturn(refreshToken);
+      when(securityStampService.toSecurityStamp(user)).thenReturn(securityStamp);
+      when(jwtTokenProvider.generateToken(securityStamp)).thenReturn(token);
+      when(jwtTokenProvider.generateRefreshToken(securityStamp)).thenReturn(refreshToken);
 
       AuthenticatedUser authenticatedUser = facility.login(user.getUsername(), password);
 
       verify(authenticationManager).authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), password));
-      verify(jwtTokenProvider, times(1)).generateToken(any(UserPrincipal.class));
-      verify(jwtTokenProvider, times(1)).generateRefreshToken(any(UserPrincipal.class));
-      verify(jwtTokenProvider).getDecodedJWT(anyString());
+      verify(jwtTokenProvider).getAuthentication(securityStamp, httpServletRequest);
+      verify(jwtTokenProvider, never()).getDecodedJWT(anyString());
       assertThat(authenticatedUser).isNotNull()
         .hasFieldOrPropertyWithValue("user", user)
         .hasFieldOrPropertyWithValue("token", token)
@@ -80,13 +80,9 @@ class AuthenticationFacilityTest {
     @Test()
     void login_should_throw_if_user_is_locked() {
       String password = randomAlphanumeric(8);
-      User user = User.builder()
-        .setRandomUUID()
-        .role(Role.builder().setRandomUUID().canLogin(true).build())
-        .username(randomAlphanumeric(8))
-        .locked(true)
-        .build();
+      User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
       when(userService.findUserByUsername(user.getUsername())).thenReturn(Optional.of(user));
+      when(securityStampService.toSecurityStamp(user)).thenReturn(securityStamp(user, true, true));
 
       assertThrows(LockedException.class, () -> facility.login(user.getUsername(), password));
     }
@@ -94,13 +90,9 @@ class AuthenticationFacilityTest {
     @Test
     void login_should_throw_if_role_can_not_login() {
       String password = randomAlphanumeric(8);
-      User user = User.builder()
-        .setRandomUUID()
-        .role(Role.builder().setRandomUUID().canLogin(false).build())
-        .username(randomAlphanumeric(8))
-        .locked(false)
-        .build();
+      User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
       when(userService.findUserByUsername(user.getUsername())).thenReturn(Optional.of(user));
+      when(securityStampService.toSecurityStamp(user)).thenReturn(securityStamp(user, false, false));
 
       assertThrows(RoleCanNotLoginException.class, () -> facility.login(user.getUsername(), password));
     }
@@ -114,22 +106,18 @@ class AuthenticationFacilityTest {
       throws RoleCanNotLoginException, UserNotFoundException {
       String token = randomUUID();
       String refreshToken = randomUUID();
-      String password = randomAlphanumeric(8);
-      User user = User.builder()
-        .setRandomUUID()
-        .role(Role.builder().setRandomUUID().canLogin(true).build())
-        .username(randomAlphanumeric(8))
-        .locked(false)
-        .build();
-      when(userService.findUserById(user.getId())).thenReturn(Optional.of(user));
-      when(jwtTokenProvider.generateToken(any(UserPrincipal.class))).thenReturn(token);
-      when(jwtTokenProvider.generateRefreshToken(any(UserPrincipal.class))).thenReturn(refreshToken);
+      User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
+      SecurityStamp securityStamp = securityStamp(user, true, false);
+      when(securityStampService.getSecurityStamp(user.getId())).thenReturn(Optional.of(securityStamp));
+      when(userService.findCachedUserById(user.getId())).thenReturn(Optional.of(user));
+      when(jwtTokenProvider.generateToken(securityStamp)).thenReturn(token);
+      when(jwtTokenProvider.generateRefreshToken(securityStamp)).thenReturn(refreshToken);
 
       AuthenticatedUser authenticatedUser = facility.refreshToken(user.getId());
 
-      verify(jwtTokenProvider, times(1)).generateToken(any(UserPrincipal.class));
-      verify(jwtTokenProvider, times(1)).generateRefreshToken(any(UserPrincipal.class));
-      verify(jwtTokenProvider).getDecodedJWT(anyString());
+      verify(jwtTokenProvider).getAuthentication(securityStamp, httpServletRequest);
+      verify(jwtTokenProvider, never()).getDecodedJWT(anyString());
+      verify(userService, never()).findUserById(anyString());
       assertThat(authenticatedUser).isNotNull()
         .hasFieldOrPropertyWithValue("user", user)
         .hasFieldOrPropertyWithValue("token", token)
@@ -138,26 +126,19 @@ class AuthenticationFacilityTest {
 
     @Test()
     void refresh_token_should_throw_if_user_is_locked() {
-      User user = User.builder()
-        .setRandomUUID()
-        .role(Role.builder().setRandomUUID().canLogin(true).build())
-        .username(randomAlphanumeric(8))
-        .locked(true)
-        .build();
-      when(userService.findUserById(user.getId())).thenReturn(Optional.of(user));
+      User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
+      when(securityStampService.getSecurityStamp(user.getId())).thenReturn(
+        Optional.of(securityStamp(user, true, true)));
 
       assertThrows(LockedException.class, () -> facility.refreshToken(user.getId()));
+      verifyNoInteractions(userService);
     }
 
     @Test
     void refresh_token_should_throw_if_role_can_not_login() {
-      User user = User.builder()
-        .setRandomUUID()
-        .role(Role.builder().setRandomUUID().canLogin(false).build())
-        .username(randomAlphanumeric(8))
-        .locked(false)
-        .build();
-      when(userService.findUserById(user.getId())).thenReturn(Optional.of(user));
+      User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
+      when(securityStampService.getSecurityStamp(user.getId())).thenReturn(
+        Optional.of(securityStamp(user, false, false)));
 
       assertThrows(RoleCanNotLoginException.class, () -> facility.refreshToken(user.getId()));
     }
@@ -165,7 +146,7 @@ class AuthenticationFacilityTest {
     @Test
     void refresh_token_should_throw_if_user_not_found() {
       String userid = randomUUID();
-      when(userService.findUserById(userid)).thenReturn(Optional.empty());
+      when(securityStampService.getSecurityStamp(userid)).thenReturn(Optional.empty());
 
       assertThrows(UserNotFoundException.class, () -> facility.refreshToken(userid));
     }
@@ -180,4 +161,15 @@ class AuthenticationFacilityTest {
 
     verify(authenticationManager).authenticate(new UsernamePasswordAuthenticationToken(username, password));
   }
+
+  private SecurityStamp securityStamp(User user, boolean canLogin, boolean locked) {
+    return SecurityStamp.builder()
+      .userId(user.getId())
+      .username(user.getUsername())
+      .roleName(randomAlphanumeric(8))
+      .canLogin(canLogin)
+      .locked(locked)
+      .authorities(List.of(TokenAuthority.TOKEN_REFRESH))
+      .build();
+  }
 }
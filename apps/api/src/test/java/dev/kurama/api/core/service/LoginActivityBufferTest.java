@@ -0,0 +1,57 @@
+package dev.kurama.api.core.service;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.domain.User;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class LoginActivityBufferTest {
+
+  private final LoginActivityBuffer buffer = new LoginActivityBuffer();
+
+  @Test
+  void should_return_persisted_display_date_when_nothing_is_pending() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).lastLoginDateDisplay(new Date()).build();
+
+    assertThat(buffer.getLastLoginDateDisplay(user)).isEqualTo(user.getLastLoginDateDisplay());
+  }
+
+  @Test
+  void should_overlay_pending_display_date_without_touching_the_user() {
+    Date previousLogin = new Date(System.currentTimeMillis() - 60_000);
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).lastLoginDate(previousLogin).build();
+
+    buffer.record(user, new Date());
+
+    assertThat(buffer.getLastLoginDateDisplay(user)).isEqualTo(previousLogin);
+    assertThat(user.getLastLoginDate()).isEqualTo(previousLogin);
+    assertThat(user.getLastLoginDateDisplay()).isNull();
+    assertThat(buffer.getPendingCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_display_first_pending_login_when_recorded_twice() {
+    Date previousLogin = new Date(System.currentTimeMillis() - 60_000);
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).lastLoginDate(previousLogin).build();
+    Date firstLogin = new Date(System.currentTimeMillis() - 30_000);
+
+    buffer.record(user, firstLogin);
+    LoginActivityBuffer.LoginActivity actual = buffer.record(user, new Date());
+
+    assertThat(actual.getLastLoginDateDisplay()).isEqualTo(firstLogin);
+    assertThat(buffer.getPendingCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_keep_newer_activity_when_removing_stale_snapshot() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).build();
+    LoginActivityBuffer.LoginActivity stale = buffer.record(user, new Date(System.currentTimeMillis() - 1_000));
+    buffer.record(user, new Date());
+
+    buffer.remove(user.getId(), stale);
+
+    assertThat(buffer.getPendingCount()).isEqualTo(1);
+  }
+}
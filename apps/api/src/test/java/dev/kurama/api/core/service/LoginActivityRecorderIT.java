@@ -0,0 +1,76 @@
+package dev.kurama.api.core.service;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.domain.User;
+import dev.kurama.support.ServiceLayerIntegrationTestConfig;
+import java.sql.Timestamp;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ServiceLayerIntegrationTestConfig
+@Import({LoginActivityRecorder.class, LoginActivityBuffer.class})
+class LoginActivityRecorderIT {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private LoginActivityRecorder recorder;
+
+  @Autowired
+  private LoginActivityBuffer buffer;
+
+  @Test
+  void should_buffer_login_activity_until_flushed() {
+    Date previousLogin = new Date(System.currentTimeMillis() - 60_000);
+    User user = entityManager.persistFlushFind(
+      User.builder().setRandomUUID().username(randomAlphanumeric(8)).lastLoginDate(previousLogin).build());
+
+    recorder.record(user);
+
+    assertThat(buffer.getLastLoginDateDisplay(user)).isEqualTo(previousLogin);
+    assertThat(getLastLoginDate(user)).isEqualTo(new Timestamp(previousLogin.getTime()));
+    assertThat(recorder.getPendingCount()).isEqualTo(1);
+
+    recorder.flush();
+
+    assertThat(getLastLoginDate(user)).isAfter(new Timestamp(previousLogin.getTime()));
+    assertThat(getLastLoginDateDisplay(user)).isEqualTo(new Timestamp(previousLogin.getTime()));
+    assertThat(recorder.getPendingCount()).isZero();
+  }
+
+  @Test
+  void should_not_dirty_managed_users_while_pending() {
+    Date previousLogin = new Date(System.currentTimeMillis() - 60_000);
+    User user = entityManager.persistFlushFind(
+      User.builder().setRandomUUID().username(randomAlphanumeric(8)).lastLoginDate(previousLogin).build());
+
+    recorder.record(user);
+    entityManager.flush();
+    entityManager.clear();
+    User actual = entityManager.find(User.class, user.getId());
+
+    assertThat(actual.getLastLoginDate()).isEqualTo(new Timestamp(previousLogin.getTime()));
+    assertThat(getLastLoginDate(user)).isEqualTo(new Timestamp(previousLogin.getTime()));
+    assertThat(buffer.getLastLoginDateDisplay(actual)).isEqualTo(previousLogin);
+  }
+
+  private Timestamp getLastLoginDate(User user) {
+    return jdbcTemplate.queryForObject("select last_login_date from application.\"user\" where id = ?",
+      Timestamp.class, user.getId());
+  }
+
+  private Timestamp getLastLoginDateDisplay(User user) {
+    return jdbcTemplate.queryForObject("select last_login_date_display from application.\"user\" where id = ?",
+      Timestamp.class, user.getId());
+  }
+}
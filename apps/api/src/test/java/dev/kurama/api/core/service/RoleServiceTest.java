@@ -2,6 +2,7 @@ package dev.kurama.api.core.service;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -17,6 +18,7 @@ import static org.springframework.data.domain.Sort.Direction.ASC;
 
 import dev.kurama.api.core.domain.Authority;
 import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.event.emitter.RoleChangedEventEmitter;
 import dev.kurama.api.core.exception.domain.ImmutableRoleException;
 import dev.kurama.api.core.exception.domain.exists.RoleExistsException;
@@ -33,6 +35,8 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -93,6 +97,33 @@ class RoleServiceTest {
       assertThat(actual.getContent().get(0).getId()).isEqualTo(roleB1.getId());
       assertThat(actual.getContent().get(1).getId()).isEqualTo(roleB2.getId());
     }
+
+    @Test
+    void should_get_roles_slice_filtered_by_name() {
+      PageRequest pageable = PageRequest.of(1, 2, Sort.by(ASC, "id"));
+      Role role = Role.builder().setRandomUUID().name("ROLE_B1").build();
+      when(roleRepository.findSliceMatching("%role\\_b%", pageable)).thenReturn(
+        new SliceImpl<Role>(newArrayList(role)));
+
+      Slice<Role> actual = roleService.getAllRolesSlice(pageable, "ROLE_B");
+
+      verify(roleRepository).findSliceMatching("%role\\_b%", pageable);
+      assertThat(actual.getContent().get(0).getId()).isEqualTo(role.getId());
+    }
+
+    @Test
+    void should_get_roles_after_keyset_cursor() {
+      KeysetCursor cursor = KeysetCursor.builder().id(randomUUID()).key("ROLE_A").build();
+      PageRequest pageable = PageRequest.of(0, 2, Sort.by("name", "id"));
+      Role role = Role.builder().setRandomUUID().name("ROLE_B").build();
+      when(roleRepository.findAllAfter("ROLE_A", cursor.getId(), pageable)).thenReturn(
+        new SliceImpl<Role>(newArrayList(role)));
+
+      Slice<Role> actual = roleService.getAllRoles(cursor, 2);
+
+      verify(roleRepository).findAllAfter("ROLE_A", cursor.getId(), pageable);
+      assertThat(actual.getContent().get(0).getId()).isEqualTo(role.getId());
+    }
   }
 
   @Test
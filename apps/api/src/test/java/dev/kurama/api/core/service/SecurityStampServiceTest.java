@@ -0,0 +1,91 @@
+package dev.kurama.api.core.service;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Sets;
+import dev.kurama.api.core.domain.Authority;
+import dev.kurama.api.core.domain.Role;
+import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.support.SecurityStamp;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SecurityStampServiceTest {
+
+  private UserService userService;
+
+  private SecurityStampService service;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    userService = mock(UserService.class);
+    service = new SecurityStampService(userService);
+    Role role = Role.builder().setRandomUUID().name(randomAlphanumeric(8)).canLogin(true).build();
+    user = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .role(role)
+      .authorities(Sets.newHashSet(Authority.builder().setRandomUUID().name("user:read").build()))
+      .build();
+    when(userService.findCachedUserById(user.getId())).thenReturn(Optional.of(user));
+  }
+
+  @Test
+  void should_map_user_to_security_stamp() {
+    SecurityStamp stamp = service.toSecurityStamp(user);
+
+    assertThat(stamp.getUserId()).isEqualTo(user.getId());
+    assertThat(stamp.getUsername()).isEqualTo(user.getUsername());
+    assertThat(stamp.getRoleId()).isEqualTo(user.getRole().getId());
+    assertThat(stamp.getRoleName()).isEqualTo(user.getRole().getName());
+    assertThat(stamp.isCanLogin()).isTrue();
+    assertThat(stamp.isLocked()).isFalse();
+    assertThat(stamp.getAuthorities()).containsExactly("user:read");
+  }
+
+  @Test
+  void should_load_security_stamp_once() {
+    Optional<SecurityStamp> first = service.getSecurityStamp(user.getId());
+    Optional<SecurityStamp> second = service.getSecurityStamp(user.getId());
+
+    assertThat(first).isPresent();
+    assertThat(second).containsSame(first.get());
+    verify(userService).findCachedUserById(user.getId());
+  }
+
+  @Test
+  void should_reload_security_stamp_after_user_eviction() {
+    service.getSecurityStamp(user.getId());
+    service.evictUser(user.getId());
+    service.getSecurityStamp(user.getId());
+
+    verify(userService, times(2)).findCachedUserById(user.getId());
+  }
+
+  @Test
+  void should_reload_security_stamp_after_role_eviction() {
+    service.getSecurityStamp(user.getId());
+    service.evictRole(randomAlphanumeric(8));
+    service.getSecurityStamp(user.getId());
+    service.evictRole(user.getRole().getId());
+    service.getSecurityStamp(user.getId());
+
+    verify(userService, times(2)).findCachedUserById(user.getId());
+  }
+
+  @Test
+  void should_return_empty_when_user_not_found() {
+    String userId = randomAlphanumeric(8);
+    when(userService.findCachedUserById(userId)).thenReturn(Optional.empty());
+
+    assertThat(service.getSecurityStamp(userId)).isEmpty();
+  }
+}
@@ -0,0 +1,113 @@
+package dev.kurama.api.core.service;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.filter.VerifiedToken;
+import dev.kurama.api.core.service.revocation.InMemoryRevocationStore;
+import java.time.Clock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationServiceTest {
+
+  private static final long NOW = 1_700_000_000_500L;
+
+  private static final long NOW_SECOND = 1_700_000_000_000L;
+
+  private Clock clock;
+
+  private InMemoryRevocationStore store;
+
+  private TokenRevocationService service;
+
+  @BeforeEach
+  void setUp() {
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(NOW);
+    store = new InMemoryRevocationStore();
+    service = new TokenRevocationService(store, 1_000, 0.01, clock);
+  }
+
+  @Test
+  void should_not_report_unknown_users_as_revoked() {
+    assertThat(service.isRevoked(randomUUID(), NOW_SECOND - 1_000)).isFalse();
+    assertThat(service.isRevoked(null, NOW_SECOND - 1_000)).isFalse();
+  }
+
+  @Test
+  void should_revoke_user_tokens_issued_before_revocation() {
+    String userId = randomUUID();
+
+    service.revokeUser(userId);
+
+    assertThat(service.isRevoked(userId, NOW_SECOND - 1_000)).isTrue();
+    assertThat(service.isRevoked(userId, NOW_SECOND + 1_000)).isFalse();
+  }
+
+  @Test
+  void should_reject_tokens_issued_in_the_revocation_second() {
+    String userId = randomUUID();
+
+    service.revokeUser(userId);
+
+    assertThat(service.isRevoked(userId, NOW_SECOND)).isTrue();
+    assertThat(service.isRevoked(userId, NOW_SECOND + 999)).isTrue();
+  }
+
+  @Test
+  void should_pick_up_revocations_from_other_nodes_on_sync() {
+    String userId = randomUUID();
+    store.revoke(userId, NOW_SECOND);
+
+    assertThat(service.isRevoked(userId, NOW_SECOND - 1_000)).isFalse();
+
+    service.sync();
+
+    assertThat(service.isRevoked(userId, NOW_SECOND - 1_000)).isTrue();
+  }
+
+  @Test
+  void should_load_existing_revocations_on_startup() {
+    String userId = randomUUID();
+    store.revoke(userId, NOW_SECOND);
+
+    TokenRevocationService restarted = new TokenRevocationService(store, 1_000, 0.01, clock);
+
+    assertThat(restarted.isRevoked(userId, NOW_SECOND - 1_000)).isTrue();
+  }
+
+  @Test
+  void should_check_verified_tokens() {
+    String userId = randomUUID();
+    service.revokeUser(userId);
+
+    VerifiedToken token = VerifiedToken.builder()
+      .tokenId(randomUUID())
+      .contextUser(ContextUser.builder().id(userId).build())
+      .issuedAt(NOW_SECOND - 1_000)
+      .build();
+
+    assertThat(service.isRevoked(token)).isTrue();
+  }
+
+  @Test
+  void should_prune_revocations_at_expiry() {
+    String userId = randomUUID();
+    service.revokeUser(userId);
+
+    when(clock.millis()).thenReturn(NOW + 1_000);
+    service.prune();
+
+    assertThat(service.isRevoked(userId, NOW_SECOND - 1_000)).isTrue();
+
+    when(clock.millis()).thenReturn(NOW_SECOND + SecurityConstant.REFRESH_TOKEN_LIFE_SPAN);
+    service.prune();
+
+    assertThat(service.isRevoked(userId, NOW_SECOND - 1_000)).isFalse();
+  }
+}
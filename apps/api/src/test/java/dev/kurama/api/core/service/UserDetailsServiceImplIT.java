@@ -4,6 +4,7 @@ import static dev.kurama.api.core.service.LoginAttemptService.MAXIMUM_NUMBER_OF_
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import dev.kurama.api.core.configuration.LoginAttemptConfiguration;
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPrincipal;
@@ -14,7 +15,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 @ServiceLayerIntegrationTestConfig
-@Import({UserDetailsServiceImpl.class, LoginAttemptService.class})
+@Import({UserDetailsServiceImpl.class, LoginAttemptService.class, LoginAttemptConfiguration.class})
 class UserDetailsServiceImplIT {
 
   @Autowired
@@ -2,10 +2,14 @@ package dev.kurama.api.core.service;
 
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.UserPrincipal;
+import dev.kurama.api.core.event.emitter.UserChangedEventEmitter;
 import dev.kurama.api.core.repository.UserRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +33,9 @@ class UserDetailsServiceImplTest {
   @Mock
   private LoginAttemptService loginAttemptService;
 
+  @Mock
+  private UserChangedEventEmitter userChangedEventEmitter;
+
 
   @Nested
   class LoadUserByUsernameTests {
@@ -42,7 +49,7 @@ class UserDetailsServiceImplTest {
       UserDetails actual = service.loadUserByUsername(expected.getUsername());
 
       verify(loginAttemptService).hasExceededMaxAttempts(expected.getUsername());
-      verify(userRepository).save(expected);
+      verify(userRepository, never()).save(any());
       assertThat(actual).isNotNull();
       User actualUser = (User) ReflectionTestUtils.getField(actual, "user");
       assertThat(actualUser).isNotNull()
@@ -59,5 +66,30 @@ class UserDetailsServiceImplTest {
 
       verify(loginAttemptService).evictUserFromLoginAttemptCache(expected.getUsername());
     }
+
+    @Test
+    void should_update_rehashed_password() {
+      User expected = User.builder().setRandomUUID().username(randomAlphanumeric(8)).password("old").build();
+      when(userRepository.findUserByUsername(expected.getUsername())).thenReturn(Optional.of(expected));
+      when(userRepository.save(expected)).thenReturn(expected);
+
+      UserDetails actual = service.updatePassword(new UserPrincipal(expected), "new");
+
+      verify(userRepository).save(expected);
+      assertThat(actual.getPassword()).isEqualTo("new");
+    }
+
+    @Test
+    void should_lock_user_if_max_attempts_exceeded() {
+      User expected = User.builder().setRandomUUID().username(randomAlphanumeric(8)).locked(false).build();
+      when(userRepository.findUserByUsername(expected.getUsername())).thenReturn(Optional.of(expected));
+      when(loginAttemptService.hasExceededMaxAttempts(expected.getUsername())).thenReturn(true);
+
+      service.loadUserByUsername(expected.getUsername());
+
+      verify(userRepository).save(expected);
+      verify(userChangedEventEmitter).emitUserUpdatedEvent(expected.getId());
+      assertThat(expected.isLocked()).isTrue();
+    }
   }
 }
@@ -10,7 +10,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -27,6 +26,7 @@ import dev.kurama.api.core.domain.EmailTemplate;
 import dev.kurama.api.core.domain.GlobalSettings;
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
+import dev.kurama.api.core.domain.support.KeysetCursor;
 import dev.kurama.api.core.event.emitter.UserChangedEventEmitter;
 import dev.kurama.api.core.exception.domain.ActivationTokenExpiredException;
 import dev.kurama.api.core.exception.domain.ActivationTokenRecentException;
@@ -52,10 +52,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -94,11 +95,11 @@ class UserServiceTest {
   @Test
   void should_find_user_by_id() {
     User expected = User.builder().setRandomUUID().build();
-    when(userRepository.findById(expected.getId())).thenReturn(Optional.of(expected));
+    when(userRepository.findWithDetailsById(expected.getId())).thenReturn(Optional.of(expected));
 
     Optional<User> actual = userService.findUserById(expected.getId());
 
-    verify(userRepository).findById(expected.getId());
+    verify(userRepository).findWithDetailsById(expected.getId());
     assertThat(actual).isNotNull().isPresent().get().isEqualTo(expected);
   }
 
@@ -142,14 +143,68 @@ class UserServiceTest {
 
     @Test
     void should_get_users_filtered() {
-      String search = randomAlphanumeric(8);
+      String search = randomAlphanumeric(8) + "%_";
+      String pattern = "%" + search.toLowerCase().replace("%", "\\%").replace("_", "\\_") + "%";
       PageRequest pageable = PageRequest.of(1, 2, Sort.by(ASC, "id"));
       Page<User> expected = new PageImpl<User>(newArrayList(User.builder().setRandomUUID().username(search).build()));
-      when(userRepository.findAll(any(Example.class), eq(pageable))).thenReturn(expected);
+      when(userRepository.findAllMatching(pattern, pageable)).thenReturn(expected);
 
       Page<User> actual = userService.getAllUsers(pageable, search);
 
-      verify(userRepository).findAll(any(Example.class), eq(pageable));
+      verify(userRepository).findAllMatching(pattern, pageable);
+      verifyNoMoreInteractions(userRepository);
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_get_users_slice_without_count() {
+      PageRequest pageable = PageRequest.of(1, 2, Sort.by(ASC, "id"));
+      Slice<User> expected = new SliceImpl<>(newArrayList(User.builder().setRandomUUID().build()));
+      when(userRepository.findAllBy(pageable)).thenReturn(expected);
+
+      Slice<User> actual = userService.getAllUsersSlice(pageable, null);
+
+      verify(userRepository).findAllBy(pageable);
+      verifyNoMoreInteractions(userRepository);
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_get_users_slice_filtered() {
+      PageRequest pageable = PageRequest.of(1, 2, Sort.by(ASC, "id"));
+      Slice<User> expected = new SliceImpl<>(newArrayList(User.builder().setRandomUUID().build()));
+      when(userRepository.findSliceMatching("%term%", pageable)).thenReturn(expected);
+
+      Slice<User> actual = userService.getAllUsersSlice(pageable, "Term");
+
+      verify(userRepository).findSliceMatching("%term%", pageable);
+      verifyNoMoreInteractions(userRepository);
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_get_first_users_by_keyset() {
+      PageRequest pageable = PageRequest.of(0, 2, Sort.by("username", "id"));
+      Slice<User> expected = new SliceImpl<>(newArrayList(User.builder().setRandomUUID().build()));
+      when(userRepository.findAllBy(pageable)).thenReturn(expected);
+
+      Slice<User> actual = userService.getAllUsers(null, 2);
+
+      verify(userRepository).findAllBy(pageable);
+      verifyNoMoreInteractions(userRepository);
+      assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_get_users_after_keyset_cursor() {
+      KeysetCursor cursor = KeysetCursor.builder().id(randomUUID()).key(randomAlphanumeric(8)).build();
+      PageRequest pageable = PageRequest.of(0, 2, Sort.by("username", "id"));
+      Slice<User> expected = new SliceImpl<>(newArrayList(User.builder().setRandomUUID().build()));
+      when(userRepository.findAllAfter(cursor.getKey(), cursor.getId(), pageable)).thenReturn(expected);
+
+      Slice<User> actual = userService.getAllUsers(cursor, 2);
+
+      verify(userRepository).findAllAfter(cursor.getKey(), cursor.getId(), pageable);
       verifyNoMoreInteractions(userRepository);
       assertEquals(expected, actual);
     }
@@ -195,8 +250,9 @@ class UserServiceTest {
       userService.signup(input);
 
       verify(globalSettingsService, times(1)).getGlobalSettings();
-      verify(userService).createUser(any(UserInput.class));
+      verify(userService).createUser(argThat((UserInput userInput) -> userInput.getPassword() == null));
       verify(userRepository).saveAndFlush(expected);
+      verifyNoInteractions(passwordEncode);
       verify(emailService).sendEmail(argThat((EmailTemplate template) -> template.getTo().equals(expected.getEmail())));
     }
   }
@@ -251,6 +307,24 @@ class UserServiceTest {
       assertEquals(expected, actual);
     }
 
+    @Test
+    void should_create_user_without_usable_password() throws UserExistsException {
+      Role role = Role.builder().setRandomUUID().name(randomAlphanumeric(8)).build();
+      UserInput input = UserInput.builder()
+        .username(randomAlphanumeric(8))
+        .email(randomAlphanumeric(8))
+        .locked(true)
+        .roleId(role.getId())
+        .build();
+      when(roleService.findRoleById(input.getRoleId())).thenReturn(Optional.of(role));
+      when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+      User actual = userService.createUser(input);
+
+      verifyNoInteractions(passwordEncode);
+      assertThat(actual.hasUsablePassword()).isFalse();
+    }
+
     @Test
     void should_create_user_with_default_role() throws UserExistsException {
       Role defaultRole = Role.builder()
@@ -322,13 +396,13 @@ class UserServiceTest {
         .credentialsExpired(false)
         .build();
       String encodedPassword = randomUUID();
-      when(userRepository.findById(expected.getId())).thenReturn(Optional.of(expected));
+      when(userRepository.findWithDetailsById(expected.getId())).thenReturn(Optional.of(expected));
       when(passwordEncode.encode(input.getPassword())).thenReturn(encodedPassword);
       when(userRepository.save(expected)).thenReturn(expected);
 
       User actual = userService.updateUser(expected.getId(), input);
 
-      verify(userRepository).findById(expected.getId());
+      verify(userRepository).findWithDetailsById(expected.getId());
       verify(passwordEncode).encode(input.getPassword());
       verifyNoInteractions(roleService, authorityService);
       verify(userRepository).save(expected);
@@ -356,14 +430,14 @@ class UserServiceTest {
         .email(randomAlphanumeric(8))
         .role(currentRole)
         .build();
-      when(userRepository.findById(expected.getId())).thenReturn(Optional.of(expected));
+      when(userRepository.findWithDetailsById(expected.getId())).thenReturn(Optional.of(expected));
       when(roleService.findRoleById(targetRole.getId())).thenReturn(Optional.of(targetRole));
       when(userRepository.save(expected)).thenReturn(expected);
 
       User actual = userService.updateUser(expected.getId(), input);
 
       verifyNoInteractions(passwordEncode, authorityService);
-      verify(userRepository).findById(expected.getId());
+      verify(userRepository).findWithDetailsById(expected.getId());
       verify(roleService).findRoleById(targetRole.getId());
       verify(userRepository).save(expected);
       verify(userChangedEventEmitter).emitUserUpdatedEvent(expected.getId());
@@ -384,7 +458,7 @@ class UserServiceTest {
         .authorities(newHashSet(authority1))
         .build();
 
-      when(userRepository.findById(expected.getId())).thenReturn(Optional.of(expected));
+      when(userRepository.findWithDetailsById(expected.getId())).thenReturn(Optional.of(expected));
       when(userRepository.save(expected)).thenReturn(expected);
       HashSet<Authority> authorities = newHashSet(authority2, authority3);
       when(authorityService.findAllById(input.getAuthorityIds())).thenReturn(authorities);
@@ -392,7 +466,7 @@ class UserServiceTest {
       User actual = userService.updateUser(expected.getId(), input);
 
       verifyNoInteractions(passwordEncode, roleService);
-      verify(userRepository).findById(expected.getId());
+      verify(userRepository).findWithDetailsById(expected.getId());
       verify(userRepository).save(expected);
       verify(userChangedEventEmitter).emitUserUpdatedEvent(expected.getId());
       assertEquals(authorities, actual.getAuthorities());
@@ -435,7 +509,7 @@ class UserServiceTest {
         .expired(true)
         .credentialsExpired(false)
         .build();
-      when(userRepository.findById(expected.getId())).thenReturn(Optional.of(expected));
+      when(userRepository.findWithDetailsById(expected.getId())).thenReturn(Optional.of(expected));
 
       User actual = userService.updateUser(expected.getId(), input);
 
@@ -449,12 +523,12 @@ class UserServiceTest {
   @Test
   void request_activation_token_by_id() throws ActivationTokenRecentException, UserNotFoundException {
     User expected = User.builder().setRandomUUID().build();
-    when(userRepository.findById(expected.getId())).thenReturn(Optional.of(expected));
+    when(userRepository.findWithDetailsById(expected.getId())).thenReturn(Optional.of(expected));
     doNothing().when(userService).requestActivationToken(expected);
 
     userService.requestActivationTokenById(expected.getId());
 
-    verify(userRepository).findById(expected.getId());
+    verify(userRepository).findWithDetailsById(expected.getId());
     verify(userService).requestActivationToken(expected);
   }
 
@@ -495,12 +569,15 @@ class UserServiceTest {
 
   @Test
   void request_activation_token() throws ActivationTokenRecentException {
-    User expected = User.builder().setRandomUUID().build();
+    User expected = User.builder().setRandomUUID().password(randomAlphanumeric(8)).build();
     when(activationTokenService.createActivationToken(expected)).thenReturn(
       ActivationToken.builder().setRandomUUID().created(new Date()).attempts(0).build());
 
     userService.requestActivationToken(expected);
 
+    assertThat(expected.hasUsablePassword()).isFalse();
+    assertThat(expected.isLocked()).isTrue();
+    verifyNoInteractions(passwordEncode);
     verify(userRepository).saveAndFlush(expected);
     verify(emailService).sendEmail(any(EmailTemplate.class));
   }
@@ -0,0 +1,149 @@
+package dev.kurama.api.core.service.attempt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryLoginAttemptStoreTest {
+
+  private static final long WINDOW = Duration.ofMinutes(15).toMillis();
+
+  private Clock clock;
+
+  private InMemoryLoginAttemptStore store;
+
+  @BeforeEach
+  void setUp() {
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(WINDOW * 1000);
+    store = new InMemoryLoginAttemptStore(new SlidingWindow(Duration.ofMillis(WINDOW)), 64, 4, clock);
+  }
+
+  @Test
+  void should_count_attempts_per_key() {
+    store.increment("alice");
+    store.increment("alice");
+    store.increment("bob");
+
+    assertThat(store.count("alice")).isEqualTo(2);
+    assertThat(store.count("bob")).isEqualTo(1);
+    assertThat(store.count("carol")).isZero();
+  }
+
+  @Test
+  void should_reset_key() {
+    store.increment("alice");
+
+    store.reset("alice");
+
+    assertThat(store.count("alice")).isZero();
+    assertThat(store.size()).isZero();
+  }
+
+  @Test
+  void should_weight_previous_window_while_sliding() {
+    for (int i = 0; i < 4; i++) {
+      store.increment("alice");
+    }
+
+    when(clock.millis()).thenReturn(WINDOW * 1001 + WINDOW / 2);
+    assertThat(store.count("alice")).isEqualTo(2);
+    assertThat(store.increment("alice")).isEqualTo(3);
+
+    when(clock.millis()).thenReturn(WINDOW * 1003);
+    assertThat(store.count("alice")).isZero();
+  }
+
+  @Test
+  void should_keep_counting_when_flooded() {
+    for (int i = 0; i < 5; i++) {
+      store.increment("victim");
+    }
+    for (int i = 0; i < 10_000; i++) {
+      store.increment("attacker" + i);
+    }
+
+    assertThat(store.increment("victim")).isGreaterThan(5);
+    assertThat(store.size()).isLessThanOrEqualTo(64);
+  }
+
+  @Test
+  void should_lock_out_target_while_a_full_stripe_is_flooded() {
+    store = new InMemoryLoginAttemptStore(new SlidingWindow(Duration.ofMillis(WINDOW)), 4, 1, clock);
+    for (int i = 0; i < 4; i++) {
+      for (int j = 0; j < 10; j++) {
+        store.increment("flood" + i);
+      }
+    }
+
+    for (int i = 0; i < 5; i++) {
+      store.increment("victim");
+      store.increment("rotating" + i);
+    }
+
+    assertThat(store.increment("victim")).isGreaterThanOrEqualTo(5);
+    assertThat(store.count("victim")).isGreaterThanOrEqualTo(5);
+    assertThat(store.size()).isEqualTo(4);
+  }
+
+  @Test
+  void should_inherit_lowest_counter_on_eviction() {
+    store = new InMemoryLoginAttemptStore(new SlidingWindow(Duration.ofMillis(WINDOW)), 2, 1, clock);
+    store.increment("alice");
+    store.increment("alice");
+    store.increment("alice");
+    store.increment("bob");
+    store.increment("bob");
+
+    assertThat(store.increment("carol")).isEqualTo(3);
+    assertThat(store.count("bob")).isZero();
+    assertThat(store.count("alice")).isEqualTo(3);
+  }
+
+  @Test
+  void should_drop_expired_counters_before_evicting() {
+    store = new InMemoryLoginAttemptStore(new SlidingWindow(Duration.ofMillis(WINDOW)), 4, 1, clock);
+    for (int i = 0; i < 4; i++) {
+      store.increment("user" + i);
+    }
+    when(clock.millis()).thenReturn(WINDOW * 1003);
+
+    store.increment("late");
+
+    assertThat(store.count("late")).isEqualTo(1);
+    assertThat(store.size()).isEqualTo(1);
+  }
+
+  @Test
+  void should_count_concurrent_increments() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch latch = new CountDownLatch(800);
+    for (int i = 0; i < 800; i++) {
+      executor.execute(() -> {
+        store.increment("alice");
+        latch.countDown();
+      });
+    }
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    executor.shutdown();
+
+    assertThat(store.count("alice")).isEqualTo(800);
+  }
+
+  @Test
+  void should_reject_invalid_stripes() {
+    SlidingWindow window = new SlidingWindow(Duration.ofMinutes(1));
+    assertThatThrownBy(() -> new InMemoryLoginAttemptStore(window, 10, 3, clock))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
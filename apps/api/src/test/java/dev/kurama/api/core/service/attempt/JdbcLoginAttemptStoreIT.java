@@ -0,0 +1,73 @@
+package dev.kurama.api.core.service.attempt;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.kurama.support.ServiceLayerIntegrationTestConfig;
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ServiceLayerIntegrationTestConfig
+class JdbcLoginAttemptStoreIT {
+
+  private static final long WINDOW = Duration.ofMinutes(15).toMillis();
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Clock clock;
+
+  private JdbcLoginAttemptStore store;
+
+  @BeforeEach
+  void setUp() {
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(WINDOW * 1000);
+    store = new JdbcLoginAttemptStore(jdbcTemplate, new SlidingWindow(Duration.ofMillis(WINDOW)), clock,
+      "application");
+  }
+
+  @Test
+  void should_increment_and_count_attempts() {
+    String username = randomAlphanumeric(8);
+
+    assertThat(store.increment(username)).isEqualTo(1);
+    assertThat(store.increment(username)).isEqualTo(2);
+    assertThat(store.count(username)).isEqualTo(2);
+    assertThat(store.count(randomAlphanumeric(8))).isZero();
+  }
+
+  @Test
+  void should_roll_counts_into_previous_window() {
+    String username = randomAlphanumeric(8);
+    for (int i = 0; i < 4; i++) {
+      store.increment(username);
+    }
+
+    when(clock.millis()).thenReturn(WINDOW * 1001 + WINDOW / 2);
+
+    assertThat(store.count(username)).isEqualTo(2);
+    assertThat(store.increment(username)).isEqualTo(3);
+  }
+
+  @Test
+  void should_reset_and_prune_attempts() {
+    String reset = randomAlphanumeric(8);
+    String stale = randomAlphanumeric(8);
+    store.increment(reset);
+    store.increment(stale);
+
+    store.reset(reset);
+    when(clock.millis()).thenReturn(WINDOW * 1003);
+    store.prune();
+
+    assertThat(jdbcTemplate.queryForObject("select count(*) from application.login_attempt where username in (?, ?)",
+      Integer.class, reset, stale)).isZero();
+  }
+}
@@ -0,0 +1,58 @@
+package dev.kurama.api.core.service.revocation;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.support.ServiceLayerIntegrationTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ServiceLayerIntegrationTestConfig
+class JdbcRevocationStoreIT {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private JdbcRevocationStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new JdbcRevocationStore(jdbcTemplate, "application");
+  }
+
+  @Test
+  void should_keep_latest_revocation() {
+    String userId = randomUUID();
+
+    store.revoke(userId, 2_000L);
+    store.revoke(userId, 1_000L);
+
+    assertThat(store.getRevokedAt(userId)).contains(2_000L);
+    assertThat(store.getRevokedAt(randomUUID())).isEmpty();
+  }
+
+  @Test
+  void should_find_revocations_since() {
+    String older = randomUUID();
+    String newer = randomUUID();
+    store.revoke(older, 1_000L);
+    store.revoke(newer, 5_000L);
+
+    assertThat(store.findRevokedSince(5_000L)).contains(newer).doesNotContain(older);
+  }
+
+  @Test
+  void should_prune_expired_revocations() {
+    String expired = randomUUID();
+    String live = randomUUID();
+    store.revoke(expired, 1_000L);
+    store.revoke(live, Long.MAX_VALUE);
+
+    assertThat(store.prune(1_000L)).isPositive();
+
+    assertThat(store.getRevokedAt(expired)).isEmpty();
+    assertThat(store.getRevokedAt(live)).isPresent();
+  }
+}
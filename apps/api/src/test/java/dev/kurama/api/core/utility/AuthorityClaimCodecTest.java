@@ -0,0 +1,91 @@
+package dev.kurama.api.core.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.authority.TokenAuthority;
+import dev.kurama.api.core.authority.UserAuthority;
+import java.util.Base64;
+import java.util.BitSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+class AuthorityClaimCodecTest {
+
+  @Test
+  void should_round_trip_indexed_authorities() {
+    String[] authorities = DefaultAuthority.AUTHORITIES.toArray(String[]::new);
+
+    String encoded = AuthorityClaimCodec.encode(authorities);
+
+    assertThat(encoded).startsWith(AuthorityClaimCodec.VERSION + ".");
+    assertThat(encoded.length()).isLessThan(String.join(",", authorities).length() / 10);
+    assertThat(AuthorityClaimCodec.decode(encoded)).extracting(GrantedAuthority::getAuthority)
+      .containsExactlyElementsOf(DefaultAuthority.AUTHORITIES);
+  }
+
+  @Test
+  void should_share_pooled_authority_instances() {
+    String encoded = AuthorityClaimCodec.encode(new String[]{TokenAuthority.TOKEN_REFRESH});
+
+    assertThat(AuthorityClaimCodec.decode(encoded)).singleElement()
+      .isSameAs(GrantedAuthorityPool.getGrantedAuthority(TokenAuthority.TOKEN_REFRESH));
+  }
+
+  @Test
+  void should_keep_unindexed_authorities_apart() {
+    String[] authorities = {UserAuthority.USER_READ, "custom:authority"};
+
+    assertThat(AuthorityClaimCodec.unindexed(authorities)).containsExactly("custom:authority");
+    assertThat(AuthorityClaimCodec.decode(AuthorityClaimCodec.encode(authorities)))
+      .extracting(GrantedAuthority::getAuthority)
+      .containsExactly(UserAuthority.USER_READ);
+  }
+
+  @Test
+  void should_ignore_bits_beyond_known_authorities() {
+    BitSet bits = new BitSet();
+    bits.set(AuthorityClaimCodec.V1_AUTHORITIES.indexOf(UserAuthority.USER_READ));
+    bits.set(AuthorityClaimCodec.V1_AUTHORITIES.size() + 3);
+    String encoded = AuthorityClaimCodec.VERSION + "." + Base64.getUrlEncoder()
+      .withoutPadding()
+      .encodeToString(bits.toByteArray());
+
+    assertThat(AuthorityClaimCodec.decode(encoded)).extracting(GrantedAuthority::getAuthority)
+      .containsExactly(UserAuthority.USER_READ);
+  }
+
+  @Test
+  void should_pin_v1_authority_positions() {
+    assertThat(AuthorityClaimCodec.V1_AUTHORITIES).containsExactly(
+      "token:refresh",
+      "profile:update", "profile:read", "profile:delete",
+      "user:read", "user:create", "user:update", "user:update:role", "user:update:authorities", "user:delete",
+      "user:preferences:read", "user:preferences:update",
+      "role:read", "role:create", "role:update", "role:update:core", "role:delete",
+      "authority:create", "authority:read", "authority:update", "authority:delete",
+      "admin:root", "admin:user-management:root", "admin:role-management:root",
+      "service-logs:read", "service-logs:delete",
+      "global-settings:read", "global-settings:update");
+  }
+
+  @Test
+  void should_decode_v1_claim_by_pinned_positions() {
+    assertThat(AuthorityClaimCodec.decode(AuthorityClaimCodec.VERSION + ".EQ"))
+      .extracting(GrantedAuthority::getAuthority)
+      .containsExactly("token:refresh", "user:read");
+  }
+
+  @Test
+  void should_encode_every_default_authority() {
+    assertThat(AuthorityClaimCodec.unindexed(DefaultAuthority.AUTHORITIES.toArray(String[]::new))).isEmpty();
+  }
+
+  @Test
+  void should_reject_unknown_versions() {
+    assertThatThrownBy(() -> AuthorityClaimCodec.decode("9.AQ")).isInstanceOf(JWTDecodeException.class);
+    assertThatThrownBy(() -> AuthorityClaimCodec.decode("AQ")).isInstanceOf(JWTDecodeException.class);
+  }
+}
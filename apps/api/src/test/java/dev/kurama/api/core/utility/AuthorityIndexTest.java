@@ -0,0 +1,37 @@
+package dev.kurama.api.core.utility;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.authority.DefaultAuthority;
+import dev.kurama.api.core.authority.UserAuthority;
+import java.util.BitSet;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class AuthorityIndexTest {
+
+  @Test
+  void should_index_every_default_authority_once() {
+    HashSet<Integer> indexes = new HashSet<>();
+    DefaultAuthority.AUTHORITIES.forEach(authority -> indexes.add(AuthorityIndex.indexOf(authority)));
+
+    assertThat(indexes).hasSize(DefaultAuthority.AUTHORITIES.size()).doesNotContain(AuthorityIndex.NOT_INDEXED);
+    assertThat(AuthorityIndex.size()).isEqualTo(DefaultAuthority.AUTHORITIES.size());
+  }
+
+  @Test
+  void should_not_index_unknown_authority() {
+    assertThat(AuthorityIndex.indexOf("unknown:authority")).isEqualTo(AuthorityIndex.NOT_INDEXED);
+  }
+
+  @Test
+  void should_build_bit_set_from_authorities() {
+    BitSet actual = AuthorityIndex.toBitSet(newArrayList(new SimpleGrantedAuthority(UserAuthority.USER_READ),
+      new SimpleGrantedAuthority("unknown:authority")));
+
+    assertThat(actual.cardinality()).isEqualTo(1);
+    assertThat(actual.get(AuthorityIndex.indexOf(UserAuthority.USER_READ))).isTrue();
+  }
+}
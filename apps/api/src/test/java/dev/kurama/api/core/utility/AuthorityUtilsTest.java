@@ -8,8 +8,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.kurama.api.core.authority.UserAuthority;
 import dev.kurama.api.core.filter.ContextUser;
 import java.util.Collection;
 import org.junit.jupiter.api.BeforeEach;
@@ -93,6 +96,18 @@ class AuthorityUtilsTest {
     assertFalse(AuthorityUtils.hasAuthority("auth:c"));
   }
 
+  @Test
+  void hasAuthority_uses_context_user_authority_bits() {
+    contextUser.setAuthorityBits(
+      AuthorityIndex.toBitSet(newArrayList(new SimpleGrantedAuthority(UserAuthority.USER_READ))));
+
+    assertTrue(AuthorityUtils.hasAuthority(UserAuthority.USER_READ));
+    assertFalse(AuthorityUtils.hasAuthority(UserAuthority.USER_DELETE));
+    assertTrue(AuthorityUtils.hasAnyAuthority(UserAuthority.USER_DELETE, UserAuthority.USER_READ));
+    assertFalse(AuthorityUtils.hasAllAuthorities(UserAuthority.USER_DELETE, UserAuthority.USER_READ));
+    verify(authentication, never()).getAuthorities();
+  }
+
   @Test
   void hasAllAuthorities() {
     SimpleGrantedAuthority simpleGrantedAuthority1 = new SimpleGrantedAuthority("auth:a");
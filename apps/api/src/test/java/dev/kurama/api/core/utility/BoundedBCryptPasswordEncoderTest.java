@@ -0,0 +1,81 @@
+package dev.kurama.api.core.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.kurama.api.core.exception.domain.PasswordHashingSaturatedException;
+import dev.kurama.api.core.exception.domain.PasswordHashingUnavailableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class BoundedBCryptPasswordEncoderTest {
+
+  private BoundedBCryptPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    encoder.shutdown();
+  }
+
+  @Test
+  void should_encode_and_match_on_hashing_pool() {
+    encoder = new BoundedBCryptPasswordEncoder(4, 2, 4, Duration.ofSeconds(5));
+
+    String encoded = encoder.encode("password");
+
+    assertThat(encoder.matches("password", encoded)).isTrue();
+    assertThat(encoder.matches("other", encoded)).isFalse();
+  }
+
+  @Test
+  void should_upgrade_encoding_when_strength_increases() {
+    encoder = new BoundedBCryptPasswordEncoder(5, 1, 1, Duration.ofSeconds(5));
+
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+    assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+  }
+
+  @Test
+  void should_reject_when_queue_is_full() {
+    encoder = new BoundedBCryptPasswordEncoder(16, 1, 1, Duration.ofSeconds(30));
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+    try {
+      List<CompletableFuture<String>> pending = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        pending.add(CompletableFuture.supplyAsync(() -> encoder.encode("password"), callers));
+      }
+      while (encoder.getQueueDepth() < 1) {
+        Thread.onSpinWait();
+      }
+
+      assertThatThrownBy(() -> encoder.encode("password")).isInstanceOf(PasswordHashingSaturatedException.class);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_time_out_slow_hashes() {
+    encoder = new BoundedBCryptPasswordEncoder(16, 1, 1, Duration.ofMillis(10));
+
+    assertThatThrownBy(() -> encoder.encode("password")).isInstanceOf(PasswordHashingUnavailableException.class)
+      .isNotInstanceOf(PasswordHashingSaturatedException.class);
+  }
+
+  @Test
+  void should_calibrate_strength_within_bounds() {
+    encoder = new BoundedBCryptPasswordEncoder(4, 1, 1, Duration.ofSeconds(5));
+
+    assertThat(BoundedBCryptPasswordEncoder.calibrateStrength(Duration.ZERO, 4, 6)).isEqualTo(4);
+    assertThat(BoundedBCryptPasswordEncoder.calibrateStrength(Duration.ofDays(1), 4, 6)).isEqualTo(6);
+    assertThatThrownBy(() -> BoundedBCryptPasswordEncoder.calibrateStrength(Duration.ZERO, 12, 10))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,29 @@
+package dev.kurama.api.core.utility;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.authority.UserAuthority;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+class GrantedAuthorityPoolTest {
+
+  @Test
+  void should_return_shared_instance_for_default_authority() {
+    GrantedAuthority actual = GrantedAuthorityPool.getGrantedAuthority(UserAuthority.USER_READ);
+
+    assertThat(actual.getAuthority()).isEqualTo(UserAuthority.USER_READ);
+    assertThat(GrantedAuthorityPool.getGrantedAuthority(UserAuthority.USER_READ)).isSameAs(actual);
+  }
+
+  @Test
+  void should_pool_unknown_authority() {
+    String authority = randomAlphanumeric(8);
+
+    GrantedAuthority actual = GrantedAuthorityPool.getGrantedAuthority(authority);
+
+    assertThat(actual.getAuthority()).isEqualTo(authority);
+    assertThat(GrantedAuthorityPool.getGrantedAuthority(authority)).isSameAs(actual);
+  }
+}
@@ -0,0 +1,195 @@
+package dev.kurama.api.core.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import dev.kurama.api.core.constant.SecurityConstant;
+import dev.kurama.api.core.utility.signing.InMemorySigningKeyStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class JWTKeyRingTest {
+
+  private static final Duration RETENTION = Duration.ofHours(2);
+
+  private static final long ROTATION = Duration.ofDays(1).toMillis();
+
+  private static final long REFRESH = 60_000;
+
+  private static final long NOW = 1_000_000_000L;
+
+  private Clock clock;
+
+  private InMemorySigningKeyStore store;
+
+  @BeforeEach
+  void setUp() {
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(NOW);
+    store = new InMemorySigningKeyStore();
+  }
+
+  @ParameterizedTest
+  @EnumSource(JWTSigningAlgorithm.class)
+  void should_verify_signed_token(JWTSigningAlgorithm algorithm) {
+    JWTKeyRing keyRing = newKeyRing(algorithm, "secret");
+
+    String token = keyRing.sign(JWT.create().withIssuer(SecurityConstant.AUTH_ISSUER).withSubject("user"));
+
+    assertThat(keyRing.verify(token).getSubject()).isEqualTo("user");
+    assertThat(keyRing.verify(token).getKeyId()).isEqualTo(keyRing.getCurrentKeyId());
+    assertThat(keyRing.verify(token).getAlgorithm()).isEqualTo(algorithm.name());
+  }
+
+  @Test
+  void should_publish_no_keys_for_symmetric_signing() {
+    JWTKeyRing keyRing = newKeyRing(JWTSigningAlgorithm.HS512, "secret");
+
+    assertThat((List<?>) keyRing.getJwks().get("keys")).isEmpty();
+  }
+
+  @Test
+  void should_verify_hmac_tokens_without_key_id() {
+    JWTKeyRing keyRing = newKeyRing(JWTSigningAlgorithm.HS512, "secret");
+
+    String token = JWT.create().withIssuer(SecurityConstant.AUTH_ISSUER).sign(Algorithm.HMAC512("secret"));
+
+    assertThat(keyRing.verify(token).getIssuer()).isEqualTo(SecurityConstant.AUTH_ISSUER);
+  }
+
+  @Test
+  void should_reject_asymmetric_tokens_without_key_id() {
+    JWTKeyRing keyRing = newKeyRing(JWTSigningAlgorithm.ES256, null);
+
+    String token = JWT.create().withIssuer(SecurityConstant.AUTH_ISSUER).sign(Algorithm.HMAC512("secret"));
+
+    assertThatThrownBy(() -> keyRing.verify(token)).isInstanceOf(JWTVerificationException.class);
+  }
+
+  @Test
+  void should_publish_rsa_public_key() {
+    JWTKeyRing keyRing = newKeyRing(JWTSigningAlgorithm.RS256, null);
+
+    assertThat(publishedKeys(keyRing)).singleElement()
+      .satisfies(jwk -> assertThat(jwk).containsEntry("kty", "RSA")
+        .containsEntry("alg", "RS256")
+        .containsEntry("kid", keyRing.getCurrentKeyId())
+        .containsEntry("e", "AQAB")
+        .containsKey("n")
+        .doesNotContainKey("d"));
+  }
+
+  @Test
+  void should_publish_ec_public_key() {
+    JWTKeyRing keyRing = newKeyRing(JWTSigningAlgorithm.ES256, null);
+
+    assertThat(publishedKeys(keyRing)).singleElement()
+      .satisfies(jwk -> assertThat(jwk).containsEntry("kty", "EC")
+        .containsEntry("crv", "P-256")
+        .containsEntry("kid", keyRing.getCurrentKeyId())
+        .containsKeys("x", "y")
+        .doesNotContainKey("d"));
+  }
+
+  @Test
+  void should_share_keys_between_nodes_and_restarts() {
+    JWTKeyRing node = newKeyRing(JWTSigningAlgorithm.RS256, null);
+    JWTKeyRing other = newKeyRing(JWTSigningAlgorithm.RS256, null);
+
+    String token = node.sign(JWT.create().withIssuer(SecurityConstant.AUTH_ISSUER));
+
+    assertThat(other.getCurrentKeyId()).isEqualTo(node.getCurrentKeyId());
+    assertThat(other.getJwks()).isEqualTo(node.getJwks());
+    assertThat(other.verify(token).getKeyId()).isEqualTo(node.getCurrentKeyId());
+    assertThat(store.findAll(JWTSigningAlgorithm.RS256)).hasSize(1);
+  }
+
+  @Test
+  void should_publish_next_key_before_signing_with_it() {
+    JWTKeyRing node = newKeyRing(JWTSigningAlgorithm.ES256, null);
+    JWTKeyRing other = newKeyRing(JWTSigningAlgorithm.ES256, null);
+    String firstKeyId = node.getCurrentKeyId();
+
+    when(clock.millis()).thenReturn(NOW + ROTATION - 2 * REFRESH);
+    node.refresh();
+    other.refresh();
+
+    assertThat(node.getCurrentKeyId()).isEqualTo(firstKeyId);
+    assertThat(publishedKeys(node)).hasSize(2);
+    assertThat(other.getJwks()).isEqualTo(node.getJwks());
+
+    when(clock.millis()).thenReturn(NOW + ROTATION);
+    node.refresh();
+    String second = node.sign(JWT.create().withIssuer(SecurityConstant.AUTH_ISSUER));
+
+    assertThat(node.getCurrentKeyId()).isNotEqualTo(firstKeyId);
+    assertThat(other.verify(second).getKeyId()).isEqualTo(node.getCurrentKeyId());
+  }
+
+  @Test
+  void should_keep_retired_keys_verifiable_until_retention_elapses() {
+    JWTKeyRing keyRing = newKeyRing(JWTSigningAlgorithm.ES256, null);
+    String first = keyRing.sign(JWT.create().withIssuer(SecurityConstant.AUTH_ISSUER));
+    String firstKeyId = keyRing.getCurrentKeyId();
+
+    when(clock.millis()).thenReturn(NOW + ROTATION - 2 * REFRESH);
+    keyRing.refresh();
+    when(clock.millis()).thenReturn(NOW + ROTATION);
+    keyRing.refresh();
+    String second = keyRing.sign(JWT.create().withIssuer(SecurityConstant.AUTH_ISSUER));
+
+    assertThat(keyRing.getCurrentKeyId()).isNotEqualTo(firstKeyId);
+    assertThat(keyRing.verify(first).getKeyId()).isEqualTo(firstKeyId);
+    assertThat(keyRing.verify(second).getKeyId()).isEqualTo(keyRing.getCurrentKeyId());
+    assertThat(publishedKeys(keyRing)).hasSize(2);
+
+    when(clock.millis()).thenReturn(NOW + ROTATION + RETENTION.toMillis());
+    keyRing.refresh();
+
+    assertThatThrownBy(() -> keyRing.verify(first)).isInstanceOf(JWTVerificationException.class);
+    assertThat(keyRing.verify(second).getIssuer()).isEqualTo(SecurityConstant.AUTH_ISSUER);
+    assertThat(publishedKeys(keyRing)).hasSize(1);
+    assertThat(store.findAll(JWTSigningAlgorithm.ES256)).hasSize(1);
+  }
+
+  @Test
+  void should_not_rotate_symmetric_keys() {
+    JWTKeyRing keyRing = newKeyRing(JWTSigningAlgorithm.HS512, "secret");
+    String keyId = keyRing.getCurrentKeyId();
+
+    keyRing.refresh();
+
+    assertThat(keyRing.getCurrentKeyId()).isEqualTo(keyId);
+    assertThat(store.findAll(JWTSigningAlgorithm.HS512)).isEmpty();
+  }
+
+  @Test
+  void should_reject_invalid_configuration() {
+    assertThatThrownBy(() -> newKeyRing(JWTSigningAlgorithm.HS512, ""))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new JWTKeyRing(JWTSigningAlgorithm.RS256, null, Duration.ofMinutes(1), ROTATION, REFRESH,
+      store, clock)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new JWTKeyRing(JWTSigningAlgorithm.RS256, null, RETENTION, 2 * REFRESH, REFRESH, store,
+      clock)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private JWTKeyRing newKeyRing(JWTSigningAlgorithm algorithm, String secret) {
+    return new JWTKeyRing(algorithm, secret, RETENTION, ROTATION, REFRESH, store, clock);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> publishedKeys(JWTKeyRing keyRing) {
+    return (List<Map<String, Object>>) keyRing.getJwks().get("keys");
+  }
+}
@@ -0,0 +1,101 @@
+package dev.kurama.api.core.utility;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import dev.kurama.api.core.filter.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JWTTokenCacheTest {
+
+  @Mock
+  private JWTTokenProvider jwtTokenProvider;
+
+  private JWTTokenCache jwtTokenCache;
+
+  @BeforeEach
+  void setUp() {
+    jwtTokenCache = new JWTTokenCache(jwtTokenProvider);
+  }
+
+  @Test
+  void should_verify_token_once_while_not_expired() {
+    String token = randomUUID();
+    DecodedJWT decodedJWT = mock(DecodedJWT.class);
+    VerifiedToken verifiedToken = VerifiedToken.builder().decodedJWT(decodedJWT).expiresAt(2_000L).build();
+    doReturn(decodedJWT).when(jwtTokenProvider).getDecodedJWT(token);
+    doReturn(true).when(jwtTokenProvider).isTokenValid(decodedJWT);
+    doReturn(verifiedToken).when(jwtTokenProvider).getVerifiedToken(decodedJWT);
+    doReturn(1_000L).when(jwtTokenProvider).getCurrentTimeMillis();
+
+    Optional<VerifiedToken> first = jwtTokenCache.getVerifiedToken(token);
+    Optional<VerifiedToken> second = jwtTokenCache.getVerifiedToken(token);
+
+    assertThat(first).contains(verifiedToken);
+    assertThat(second).contains(verifiedToken);
+    verify(jwtTokenProvider).getDecodedJWT(token);
+  }
+
+  @Test
+  void should_verify_token_again_once_expired() {
+    String token = randomUUID();
+    DecodedJWT decodedJWT = mock(DecodedJWT.class);
+    VerifiedToken verifiedToken = VerifiedToken.builder().decodedJWT(decodedJWT).expiresAt(2_000L).build();
+    doReturn(decodedJWT).when(jwtTokenProvider).getDecodedJWT(token);
+    doReturn(true).when(jwtTokenProvider).isTokenValid(decodedJWT);
+    doReturn(verifiedToken).when(jwtTokenProvider).getVerifiedToken(decodedJWT);
+
+    jwtTokenCache.getVerifiedToken(token);
+    doReturn(2_000L).when(jwtTokenProvider).getCurrentTimeMillis();
+    jwtTokenCache.getVerifiedToken(token);
+
+    verify(jwtTokenProvider, times(2)).getDecodedJWT(token);
+  }
+
+  @Test
+  void should_not_cache_invalid_token() {
+    String token = randomUUID();
+    DecodedJWT decodedJWT = mock(DecodedJWT.class);
+    doReturn(decodedJWT).when(jwtTokenProvider).getDecodedJWT(token);
+    doReturn(false).when(jwtTokenProvider).isTokenValid(decodedJWT);
+
+    assertThat(jwtTokenCache.getVerifiedToken(token)).isEmpty();
+    assertThat(jwtTokenCache.getVerifiedToken(token)).isEmpty();
+
+    verify(jwtTokenProvider, times(2)).getDecodedJWT(token);
+    verify(jwtTokenProvider, never()).getVerifiedToken(decodedJWT);
+  }
+
+  @Test
+  void should_expose_hit_and_miss_metrics() {
+    String token = randomUUID();
+    DecodedJWT decodedJWT = mock(DecodedJWT.class);
+    doReturn(decodedJWT).when(jwtTokenProvider).getDecodedJWT(token);
+    doReturn(true).when(jwtTokenProvider).isTokenValid(decodedJWT);
+    doReturn(VerifiedToken.builder().expiresAt(Long.MAX_VALUE).build()).when(jwtTokenProvider)
+      .getVerifiedToken(decodedJWT);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    jwtTokenCache.bindTo(registry);
+
+    jwtTokenCache.getVerifiedToken(token);
+    jwtTokenCache.getVerifiedToken(token);
+
+    assertThat(registry.get("cache.gets").tag("cache", JWTTokenCache.CACHE_NAME).tag("result", "hit")
+      .functionCounter().count()).isEqualTo(1);
+    assertThat(registry.get("cache.gets").tag("cache", JWTTokenCache.CACHE_NAME).tag("result", "miss")
+      .functionCounter().count()).isEqualTo(1);
+  }
+}
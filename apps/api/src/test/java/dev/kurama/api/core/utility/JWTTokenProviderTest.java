@@ -2,46 +2,44 @@ package dev.kurama.api.core.utility;
 
 import static com.google.common.collect.Sets.newHashSet;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
 import com.auth0.jwt.interfaces.DecodedJWT;
+import dev.kurama.api.core.authority.UserAuthority;
 import dev.kurama.api.core.constant.SecurityConstant;
 import dev.kurama.api.core.domain.Authority;
 import dev.kurama.api.core.domain.Role;
 import dev.kurama.api.core.domain.User;
 import dev.kurama.api.core.domain.UserPrincipal;
 import dev.kurama.api.core.filter.ContextUser;
+import dev.kurama.api.core.filter.VerifiedToken;
+import dev.kurama.api.core.utility.signing.InMemorySigningKeyStore;
+import java.time.Duration;
 import java.util.Date;
 import java.util.Map;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Spy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(SpringExtension.class)
 class JWTTokenProviderTest {
 
   @Spy
-  @InjectMocks
-  private JWTTokenProvider jwtTokenProvider;
-
-  @BeforeEach
-  void setUp() {
-    ReflectionTestUtils.setField(jwtTokenProvider, "secret", "secret");
-  }
+  private JWTTokenProvider jwtTokenProvider = new JWTTokenProvider(
+    new JWTKeyRing(JWTSigningAlgorithm.HS512, "secret", Duration.ofHours(2), 86_400_000, 60_000,
+      new InMemorySigningKeyStore()), false);
 
   @Test
   void generateToken() {
@@ -62,6 +60,8 @@ class JWTTokenProviderTest {
     DecodedJWT decoded = jwtTokenProvider.getDecodedJWT(token);
 
     assertEquals(SecurityConstant.AUTH_ISSUER, decoded.getIssuer());
+    assertNotNull(decoded.getKeyId());
+    assertNotNull(decoded.getId());
     assertEquals("[" + SecurityConstant.AUTH_AUDIENCE + "]", decoded.getAudience().toString());
     assertThat(decoded.getIssuedAt()).isCloseTo(before, 1000);
     assertEquals(user.getUsername(), decoded.getSubject());
@@ -137,6 +137,55 @@ class JWTTokenProviderTest {
     assertEquals(((ContextUser) authentication.getPrincipal()).getId(), user.getId());
   }
 
+  @Test
+  void getVerifiedToken() {
+    Authority authority = Authority.builder().setRandomUUID().name(randomAlphanumeric(8)).build();
+    User user = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .authorities(newHashSet(authority))
+      .build();
+    DecodedJWT decoded = jwtTokenProvider.getDecodedJWT(jwtTokenProvider.generateToken(new UserPrincipal(user)));
+
+    VerifiedToken actual = jwtTokenProvider.getVerifiedToken(decoded);
+
+    assertThat(actual.getDecodedJWT()).isEqualTo(decoded);
+    assertThat(actual.getTokenId()).isEqualTo(decoded.getId());
+    assertThat(actual.getIssuedAt()).isEqualTo(decoded.getIssuedAt().getTime());
+    assertThat(actual.getContextUser()).hasFieldOrPropertyWithValue("username", user.getUsername())
+      .hasFieldOrPropertyWithValue("id", user.getId());
+    assertThat(actual.getAuthorities().get(0).getAuthority()).isEqualTo(authority.getName());
+    assertThat(actual.getExpiresAt()).isEqualTo(decoded.getExpiresAt().getTime());
+  }
+
+  @Test
+  void getAuthentication_from_verified_token() {
+    User user = User.builder().setRandomUUID().username(randomAlphanumeric(8)).email("email@localhost").build();
+    DecodedJWT decoded = jwtTokenProvider.getDecodedJWT(jwtTokenProvider.generateToken(new UserPrincipal(user)));
+    VerifiedToken verifiedToken = jwtTokenProvider.getVerifiedToken(decoded);
+
+    Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken, mock(HttpServletRequest.class));
+
+    assertThat(authentication.getPrincipal()).isEqualTo(verifiedToken.getContextUser());
+    assertThat(authentication.isAuthenticated()).isTrue();
+  }
+
+  @Test
+  void getVerifiedToken_shares_authority_instances() {
+    Authority authority = Authority.builder().setRandomUUID().name(randomAlphanumeric(8)).build();
+    User user = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .authorities(newHashSet(authority))
+      .build();
+    String token = jwtTokenProvider.generateToken(new UserPrincipal(user));
+
+    VerifiedToken first = jwtTokenProvider.getVerifiedToken(jwtTokenProvider.getDecodedJWT(token));
+    VerifiedToken second = jwtTokenProvider.getVerifiedToken(jwtTokenProvider.getDecodedJWT(token));
+
+    assertThat(first.getAuthorities().get(0)).isSameAs(second.getAuthorities().get(0));
+  }
+
   @Test
   void getUsernamePasswordAuthenticationToken() {
     Authority authority1 = Authority.builder().setRandomUUID().name(randomAlphanumeric(8)).build();
@@ -170,4 +219,46 @@ class JWTTokenProviderTest {
       .collect(Collectors.toUnmodifiableList())
       .containsAll(newHashSet(authority1.getName(), authority2.getName()))).isTrue();
   }
+
+  @Test
+  void compact_authorities_round_trip() {
+    JWTKeyRing keyRing = new JWTKeyRing(JWTSigningAlgorithm.HS512, "secret", Duration.ofHours(2), 86_400_000, 60_000,
+      new InMemorySigningKeyStore());
+    JWTTokenProvider compactProvider = new JWTTokenProvider(keyRing, true);
+    String custom = randomAlphanumeric(8);
+    User user = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .authorities(newHashSet(Authority.builder().setRandomUUID().name(UserAuthority.USER_READ).build(),
+        Authority.builder().setRandomUUID().name(UserAuthority.USER_UPDATE_AUTHORITIES).build(),
+        Authority.builder().setRandomUUID().name(custom).build()))
+      .build();
+
+    DecodedJWT decoded = compactProvider.getDecodedJWT(compactProvider.generateToken(new UserPrincipal(user)));
+    VerifiedToken verified = compactProvider.getVerifiedToken(decoded);
+
+    assertNotNull(decoded.getClaim(SecurityConstant.COMPACT_AUTHORITIES).asString());
+    assertThat(decoded.getClaim(SecurityConstant.AUTHORITIES).asList(String.class)).containsExactly(custom);
+    assertThat(verified.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+      .containsExactlyInAnyOrder(UserAuthority.USER_READ, UserAuthority.USER_UPDATE_AUTHORITIES, custom);
+    assertTrue(verified.getContextUser().getAuthorityBits().get(AuthorityIndex.indexOf(UserAuthority.USER_READ)));
+  }
+
+  @Test
+  void compact_provider_verifies_legacy_tokens() {
+    JWTKeyRing keyRing = new JWTKeyRing(JWTSigningAlgorithm.HS512, "secret", Duration.ofHours(2), 86_400_000, 60_000,
+      new InMemorySigningKeyStore());
+    JWTTokenProvider legacyProvider = new JWTTokenProvider(keyRing, false);
+    JWTTokenProvider compactProvider = new JWTTokenProvider(keyRing, true);
+    User user = User.builder()
+      .setRandomUUID()
+      .username(randomAlphanumeric(8))
+      .authorities(newHashSet(Authority.builder().setRandomUUID().name(UserAuthority.USER_READ).build()))
+      .build();
+
+    DecodedJWT decoded = compactProvider.getDecodedJWT(legacyProvider.generateToken(new UserPrincipal(user)));
+
+    assertThat(compactProvider.getVerifiedToken(decoded).getAuthorities()).extracting(GrantedAuthority::getAuthority)
+      .containsExactly(UserAuthority.USER_READ);
+  }
 }
@@ -0,0 +1,125 @@
+package dev.kurama.api.core.utility;
+
+import static dev.kurama.api.core.constant.RestPathConstant.ROLE_PATH;
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.MediaTypes.HAL_FORMS_JSON;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.afford;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import dev.kurama.api.core.exception.domain.ImmutableRoleException;
+import dev.kurama.api.core.exception.domain.not.found.RoleNotFoundException;
+import dev.kurama.api.core.rest.RoleController;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.AffordanceModel;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class LinkTemplatesTest {
+
+  private final AtomicInteger builds = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void should_build_links_when_there_is_no_request() {
+    String id = randomUUID();
+
+    Link first = getSelfLink(id);
+    Link second = getSelfLink(id);
+
+    assertThat(builds).hasValue(2);
+    assertThat(first.getHref()).isEqualTo(second.getHref());
+    assertThat(first.getHref()).endsWith(format("%s/%s", ROLE_PATH, id));
+  }
+
+  @Nested
+  class WithinRequestTests {
+
+    @Test
+    void should_build_link_template_once_per_request() {
+      bindRequest();
+      String id = randomUUID();
+      String otherId = randomUUID();
+
+      Link actual = getSelfLink(id);
+      Link other = getSelfLink(otherId);
+
+      assertThat(builds).hasValue(1);
+      assertThat(actual.getHref()).endsWith(format("%s/%s", ROLE_PATH, id));
+      assertThat(other.getHref()).endsWith(format("%s/%s", ROLE_PATH, otherId));
+      assertThat(actual.getRel().value()).isEqualTo("self");
+    }
+
+    @Test
+    void should_produce_same_link_as_direct_build() throws RoleNotFoundException {
+      bindRequest();
+      String id = randomUUID();
+      Link expected = linkTo(methodOn(RoleController.class).get(id)).withSelfRel();
+
+      getSelfLink(randomUUID());
+      Link actual = getSelfLink(id);
+
+      assertThat(actual.getHref()).isEqualTo(expected.getHref());
+      assertThat(actual.getRel()).isEqualTo(expected.getRel());
+      assertThat(actual.getAffordances()).hasSameSizeAs(expected.getAffordances());
+    }
+
+    @Test
+    void should_expand_affordance_template() throws RoleNotFoundException, ImmutableRoleException {
+      bindRequest();
+      String id = randomUUID();
+      AffordanceModel expected = afford(methodOn(RoleController.class).update(id, null))
+        .getAffordanceModel(HAL_FORMS_JSON);
+
+      getUpdateAffordance(randomUUID());
+      AffordanceModel actual = getUpdateAffordance(id).getAffordanceModel(HAL_FORMS_JSON);
+
+      assertThat(builds).hasValue(1);
+      assertThat(actual.getLink()).isEqualTo(expected.getLink());
+      assertThat(actual.getName()).isEqualTo(expected.getName());
+      assertThat(actual.getHttpMethod()).isEqualTo(HttpMethod.PATCH);
+      assertThat(actual.getInput()).isEqualTo(expected.getInput());
+    }
+
+    @Test
+    void should_not_share_templates_between_requests() {
+      bindRequest();
+      getSelfLink(randomUUID());
+      bindRequest();
+      getSelfLink(randomUUID());
+
+      assertThat(builds).hasValue(2);
+    }
+
+    private void bindRequest() {
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+  }
+
+  private Link getSelfLink(String id) {
+    return LinkTemplates.getLink("RoleController#get", roleId -> {
+      builds.incrementAndGet();
+      return linkTo(methodOn(RoleController.class).get(roleId)).withSelfRel();
+    }, id);
+  }
+
+  private Affordance getUpdateAffordance(String id) {
+    return LinkTemplates.getAffordance("RoleController#update", roleId -> {
+      builds.incrementAndGet();
+      return afford(methodOn(RoleController.class).update(roleId, null));
+    }, id);
+  }
+}
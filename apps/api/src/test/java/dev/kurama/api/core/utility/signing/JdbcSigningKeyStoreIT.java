@@ -0,0 +1,67 @@
+package dev.kurama.api.core.utility.signing;
+
+import static dev.kurama.api.core.utility.UuidUtils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.kurama.api.core.utility.JWTSigningAlgorithm;
+import dev.kurama.support.ServiceLayerIntegrationTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ServiceLayerIntegrationTestConfig
+class JdbcSigningKeyStoreIT {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private JdbcSigningKeyStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new JdbcSigningKeyStore(jdbcTemplate, new TransactionTemplate(transactionManager), "application");
+    jdbcTemplate.update("delete from application.jwt_signing_key");
+  }
+
+  @Test
+  void should_publish_only_when_due() {
+    StoredSigningKey first = key(JWTSigningAlgorithm.ES256, 1_000L);
+
+    assertThat(store.publishIfDue(first, Long.MIN_VALUE)).isTrue();
+    assertThat(store.publishIfDue(key(JWTSigningAlgorithm.ES256, 1_000L), Long.MIN_VALUE)).isFalse();
+    assertThat(store.publishIfDue(key(JWTSigningAlgorithm.RS256, 1_000L), Long.MIN_VALUE)).isTrue();
+    assertThat(store.publishIfDue(key(JWTSigningAlgorithm.ES256, 5_000L), 1_000L)).isTrue();
+
+    assertThat(store.findAll(JWTSigningAlgorithm.ES256)).extracting(StoredSigningKey::getActivatesAt)
+      .containsExactly(5_000L, 1_000L);
+    assertThat(store.findAll(JWTSigningAlgorithm.ES256).get(1)).isEqualTo(first);
+  }
+
+  @Test
+  void should_prune_superseded_keys() {
+    store.publishIfDue(key(JWTSigningAlgorithm.ES256, 1_000L), Long.MIN_VALUE);
+    store.publishIfDue(key(JWTSigningAlgorithm.ES256, 2_000L), 1_000L);
+    store.publishIfDue(key(JWTSigningAlgorithm.ES256, 3_000L), 2_000L);
+
+    assertThat(store.prune(JWTSigningAlgorithm.ES256, 2_000L)).isEqualTo(1);
+
+    assertThat(store.findAll(JWTSigningAlgorithm.ES256)).extracting(StoredSigningKey::getActivatesAt)
+      .containsExactly(3_000L, 2_000L);
+  }
+
+  private StoredSigningKey key(JWTSigningAlgorithm algorithm, long activatesAt) {
+    return StoredSigningKey.builder()
+      .kid(randomUUID())
+      .algorithm(algorithm)
+      .publicKey(new byte[]{1})
+      .privateKey(new byte[]{2})
+      .activatesAt(activatesAt)
+      .build();
+  }
+}
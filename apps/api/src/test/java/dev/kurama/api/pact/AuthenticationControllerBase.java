@@ -15,6 +15,7 @@ import dev.kurama.api.core.hateoas.processor.UserModelProcessor;
 import dev.kurama.api.core.hateoas.processor.UserPreferencesModelProcessor;
 import dev.kurama.api.core.rest.AuthenticationController;
 import dev.kurama.api.core.service.AuthenticationFacility;
+import dev.kurama.api.core.service.SecurityStampService;
 import dev.kurama.api.core.service.UserService;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import dev.kurama.support.ImportMappers;
@@ -26,7 +27,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 
 @WebMvcTest(controllers = AuthenticationController.class)
 @Import({AuthenticationFacade.class, UserModelProcessor.class, UserPreferencesModelProcessor.class,
-  AuthenticationFacility.class, JWTTokenProvider.class})
+  AuthenticationFacility.class, SecurityStampService.class, JWTTokenProvider.class})
 @ImportMappers
 public abstract class AuthenticationControllerBase extends PactBase {
 
@@ -67,12 +68,12 @@ public abstract class AuthenticationControllerBase extends PactBase {
     doReturn(Optional.of(User.builder()
       .setRandomUUID()
       .role(Role.builder().setRandomUUID().name("LOCKED_ROLE").canLogin(false).build())
-      .build())).when(userService).findUserById("lockedRoleUserId");
+      .build())).when(userService).findCachedUserById("lockedRoleUserId");
     doReturn(Optional.of(User.builder()
       .setRandomUUID()
       .locked(true)
       .role(Role.builder().setRandomUUID().canLogin(true).build())
-      .build())).when(userService).findUserById("lockedUserId");
-    doReturn(Optional.of(pactUser)).when(userService).findUserById(pactUser.getId());
+      .build())).when(userService).findCachedUserById("lockedUserId");
+    doReturn(Optional.of(pactUser)).when(userService).findCachedUserById(pactUser.getId());
   }
 }
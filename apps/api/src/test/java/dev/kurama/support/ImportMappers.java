@@ -5,6 +5,7 @@ import dev.kurama.api.core.mapper.GlobalSettingsMapperImpl;
 import dev.kurama.api.core.mapper.RoleMapperImpl;
 import dev.kurama.api.core.mapper.UserMapperImpl;
 import dev.kurama.api.core.mapper.UserPreferencesMapperImpl;
+import dev.kurama.api.core.service.LoginActivityBuffer;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Inherited;
@@ -18,7 +19,7 @@ import org.springframework.context.annotation.Import;
 @Documented
 @Inherited
 @Import({AuthorityMapperImpl.class, GlobalSettingsMapperImpl.class, RoleMapperImpl.class,
-  UserPreferencesMapperImpl.class, UserMapperImpl.class})
+  UserPreferencesMapperImpl.class, UserMapperImpl.class, LoginActivityBuffer.class})
 public @interface ImportMappers {
 
 }
@@ -1,10 +1,16 @@
 package dev.kurama.support;
 
+import dev.kurama.api.core.configuration.PasswordEncoderConfiguration;
 import dev.kurama.api.core.configuration.SecurityConfiguration;
+import dev.kurama.api.core.configuration.SigningKeyConfiguration;
+import dev.kurama.api.core.configuration.TokenRevocationConfiguration;
 import dev.kurama.api.core.filter.JWTAccessDeniedHandler;
 import dev.kurama.api.core.filter.JWTAuthenticationEntryPoint;
 import dev.kurama.api.core.hateoas.HateoasConfiguration;
+import dev.kurama.api.core.service.TokenRevocationService;
 import dev.kurama.api.core.service.UserDetailsServiceImpl;
+import dev.kurama.api.core.utility.JWTKeyRing;
+import dev.kurama.api.core.utility.JWTTokenCache;
 import dev.kurama.api.core.utility.JWTTokenProvider;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
@@ -26,9 +32,10 @@ import org.springframework.context.annotation.Import;
 @Documented
 @Inherited
 @ImportAuthorities
-@Import({SecurityConfiguration.class, UserDetailsServiceImpl.class, JWTTokenProvider.class,
-  JWTAuthenticationEntryPoint.class, JWTAccessDeniedHandler.class, TestSecurityConfiguration.class,
-  HateoasConfiguration.class})
+@Import({SecurityConfiguration.class, PasswordEncoderConfiguration.class, UserDetailsServiceImpl.class,
+  JWTTokenProvider.class, JWTKeyRing.class, SigningKeyConfiguration.class, JWTTokenCache.class,
+  TokenRevocationService.class, TokenRevocationConfiguration.class, JWTAuthenticationEntryPoint.class,
+  JWTAccessDeniedHandler.class, TestSecurityConfiguration.class, HateoasConfiguration.class})
 public @interface ImportTestSecurityConfiguration {
 
 }
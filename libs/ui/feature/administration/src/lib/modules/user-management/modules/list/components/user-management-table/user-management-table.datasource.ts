@@ -6,6 +6,7 @@ import { MessageService } from '@app/ui/shared/app';
 import { SearchService } from '@app/ui/shared/core';
 import {
   User,
+  UserChangedBatchMessage,
   UserChangedMessage,
   UserChangedMessageAction,
   UserManagementRelations,
@@ -102,12 +103,16 @@ export class UserManagementTableDatasource extends DataSource<User> {
     ) {
       this._userListMessagesSubscription?.unsubscribe();
       this._userListMessagesSubscription = this.messageService
-        .multicast<UserChangedMessage>(userPage.getLink(WEBSOCKET_REL)!.href)
+        .multicast<UserChangedMessage | UserChangedBatchMessage>(userPage.getLink(WEBSOCKET_REL)!.href)
         .pipe(
           filter((userChangedEvent) => userChangedEvent.action !== UserChangedMessageAction.CREATED),
           filter(
             (userChangedEvent) =>
-              this._userPage$.value._embedded.userModels?.some((user) => userChangedEvent.userId === user.id) || false,
+              this._userPage$.value._embedded.userModels?.some((user) =>
+                'userIds' in userChangedEvent
+                  ? userChangedEvent.userIds.some((userId) => userId === user.id)
+                  : userChangedEvent.userId === user.id,
+              ) || false,
           ),
         )
         .subscribe(() => this._userListChanges.next());
@@ -21,6 +21,7 @@ export class MessageService extends RxStomp {
     heartbeatIncoming: 0,
     heartbeatOutgoing: 20000,
     reconnectDelay: 1000, // Wait in milliseconds before attempting auto reconnect
+    beforeConnect: () => this._setAuthenticationHeaders(),
   };
   private readonly multicasts: Map<string, Observable<ApplicationMessage>> = new Map<
     string,
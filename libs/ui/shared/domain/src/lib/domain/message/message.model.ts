@@ -1,4 +1,7 @@
-// eslint-disable-next-line @typescript-eslint/no-empty-interface
-export interface ApplicationMessage {}
+export interface ApplicationMessage {
+  version?: number;
+  data?: Record<string, unknown>;
+  delta?: Record<string, unknown>;
+}
 
 export const WEBSOCKET_REL = 'ws';
@@ -5,6 +5,11 @@ export interface UserChangedMessage extends ApplicationMessage {
   action: UserChangedMessageAction;
 }
 
+export interface UserChangedBatchMessage extends ApplicationMessage {
+  userIds: string[];
+  action: UserChangedMessageAction;
+}
+
 export enum UserChangedMessageAction {
   CREATED = 'CREATED',
   UPDATED = 'UPDATED',